@@ -0,0 +1,54 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.logic.CandidatePartitioner;
+import com.wordle.game.util.PackedWord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+// One adversarial move against the full candidate set: partition into the 243 buckets, pick the
+// largest and compact it in place. gc.alloc.rate.norm should stay at zero.
+@State(Scope.Thread)
+public class AdversarialBenchmark {
+    @Param({"10000", "100000"})
+    public int candidates;
+
+    private CandidatePartitioner partitioner;
+    private int[] guesses;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> words = SyntheticWords.generate(candidates);
+        partitioner = new CandidatePartitioner(words);
+        guesses = new int[64];
+        for (int i = 0; i < guesses.length; i++) {
+            guesses[i] = PackedWord.encode(words.get(i * 131 % words.size()));
+        }
+    }
+
+    // The partitioner narrows in place, so the full set is restored before every move
+    @Setup(Level.Invocation)
+    public void restore() {
+        partitioner.reset();
+    }
+
+    @Benchmark
+    public int move() {
+        cursor = (cursor + 1) & (guesses.length - 1);
+        return partitioner.adversarialMove(guesses[cursor]);
+    }
+
+    // Scoring and bucket counting alone, without the compaction
+    @Benchmark
+    public int partition() {
+        cursor = (cursor + 1) & (guesses.length - 1);
+        partitioner.partition(guesses[cursor]);
+        return partitioner.largestBucket();
+    }
+}
@@ -0,0 +1,58 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.logic.AnswerColumns;
+import com.wordle.game.logic.BatchScorer;
+import com.wordle.game.logic.WordChecker;
+import com.wordle.game.util.PackedWord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Scoring one guess against every answer of a dictionary: the per-pair checker in a loop versus
+// the batch scorers over answer columns. Scores are per whole batch.
+@State(Scope.Thread)
+public class BatchScoringBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int dictionarySize;
+
+    private final WordChecker checker = new WordChecker();
+    private final BatchScorer scalar = BatchScorer.scalar();
+    private final BatchScorer vector = BatchScorer.create();
+    private int[] answers;
+    private AnswerColumns columns;
+    private byte[] patterns;
+    private int guess;
+
+    @Setup
+    public void setUp() {
+        if (vector.name().equals("scalar")) {
+            throw new IllegalStateException("Vector API unavailable; run with --add-modules jdk.incubator.vector");
+        }
+        answers = PackedWord.encodeAll(SyntheticWords.generate(dictionarySize));
+        columns = AnswerColumns.of(answers);
+        patterns = new byte[answers.length];
+        guess = PackedWord.encode("RAISE");
+    }
+
+    @Benchmark
+    public byte[] wordCheckerLoop() {
+        for (int i = 0; i < answers.length; i++) {
+            patterns[i] = (byte) checker.score(guess, answers[i]);
+        }
+        return patterns;
+    }
+
+    @Benchmark
+    public byte[] scalarBatch() {
+        scalar.score(guess, columns, patterns);
+        return patterns;
+    }
+
+    @Benchmark
+    public byte[] vectorBatch() {
+        vector.score(guess, columns, patterns);
+        return patterns;
+    }
+}
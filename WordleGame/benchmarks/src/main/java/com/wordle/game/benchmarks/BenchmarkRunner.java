@@ -0,0 +1,44 @@
+package com.wordle.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+// Runs the suite with fixed settings and the GC profiler, writing a JSON report that can be
+// diffed against baseline/jmh-baseline.json:
+//   java -jar target/benchmarks.jar [include regex] [result file] [threads]
+// A thread count overrides every benchmark's own, e.g. to measure contention.
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com.wordle.game.benchmarks.*";
+        String resultFile = args.length > 1 ? args[1] : "target/jmh-result.json";
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                // Lets BatchScorer.create() pick the vector scorer in the forked JVMs
+                .jvmArgsAppend("--add-modules=jdk.incubator.vector")
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .mode(Mode.AverageTime)
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile);
+        if (args.length > 2) {
+            options.threads(Integer.parseInt(args[2]));
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.logic.DecisionTree;
+import com.wordle.game.logic.DecisionTreeCompiler;
+import com.wordle.game.logic.EntropySolver;
+import com.wordle.game.logic.FeedbackPattern;
+import com.wordle.game.logic.GuessOutcome;
+import com.wordle.game.logic.WordChecker;
+import com.wordle.game.util.PackedWord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+// Second-turn suggestion for games over a 2315-word dictionary: solving live with the
+// EntropySolver against walking a precomputed decision tree.
+@State(Scope.Thread)
+public class DecisionTreeBenchmark {
+    private static final int WORD_COUNT = 2315;
+
+    private EntropySolver solver;
+    private DecisionTree tree;
+    private final List<List<String>> guesses = new ArrayList<>();
+    private final List<List<GuessOutcome[]>> outcomes = new ArrayList<>();
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<String> words = SyntheticWords.generate(WORD_COUNT);
+        solver = new EntropySolver(words, words, ForkJoinPool.commonPool());
+        tree = new DecisionTreeCompiler(words, words, 6, 1, ForkJoinPool.commonPool()).compile();
+
+        // The tree's opening against a spread of answers
+        WordChecker checker = new WordChecker();
+        String opening = tree.guessAt(tree.root());
+        for (int i = 0; i < WORD_COUNT; i += 97) {
+            int pattern = checker.score(PackedWord.encode(opening), PackedWord.encode(words.get(i)));
+            if (pattern != FeedbackPattern.ALL_CORRECT) {
+                guesses.add(List.of(opening));
+                outcomes.add(List.<GuessOutcome[]>of(FeedbackPattern.toOutcomes(pattern)));
+            }
+        }
+    }
+
+    @Benchmark
+    public String solveLive() {
+        int i = next();
+        return solver.suggest(guesses.get(i), outcomes.get(i));
+    }
+
+    @Benchmark
+    public String walkTree() {
+        int i = next();
+        return tree.suggest(guesses.get(i), outcomes.get(i));
+    }
+
+    private int next() {
+        cursor = cursor + 1 == guesses.size() ? 0 : cursor + 1;
+        return cursor;
+    }
+}
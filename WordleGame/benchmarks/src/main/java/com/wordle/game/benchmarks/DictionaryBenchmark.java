@@ -0,0 +1,94 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.logic.GameConfig;
+import com.wordle.game.util.BinaryDictionary;
+import com.wordle.game.util.DictionaryCompiler;
+import com.wordle.game.util.WordLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Dictionary loading from a text resource and from the compiled binary format, and membership checks.
+// The synthetic-words-N.txt resources hold the words SyntheticWords.generate(N) returns, one per line.
+@State(Scope.Benchmark)
+public class DictionaryBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int dictionarySize;
+
+    private List<String> words;
+    private String textResource;
+    private Path compiled;
+    private WordLoader loader;
+    private String[] hits;
+    private String[] misses;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        words = SyntheticWords.generate(dictionarySize);
+        compiled = Files.createTempFile("benchmark-dictionary-", ".bin");
+        DictionaryCompiler.compile(words, compiled);
+        loader = new WordLoader("synthetic", words);
+        textResource = "/synthetic-words-" + dictionarySize + ".txt";
+        if (!new WordLoader(GameConfig.DEFAULT, textResource).getAllWords().equals(words)) {
+            throw new IllegalStateException(textResource + " does not match the generated words");
+        }
+
+        // Lower-case hits exercise the case-insensitive path; misses use letters the generator shares
+        hits = new String[Math.min(words.size(), 1024)];
+        misses = new String[hits.length];
+        List<String> all = SyntheticWords.generate(dictionarySize + hits.length);
+        List<String> extra = new ArrayList<>(all.subList(dictionarySize, all.size()));
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = words.get(i * (words.size() / hits.length)).toLowerCase();
+            misses[i] = extra.get(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(compiled);
+    }
+
+    // Reads, decodes and normalizes the resource, as the game does with its bundled word list
+    @Benchmark
+    public WordLoader loadFromText() {
+        return new WordLoader(GameConfig.DEFAULT, textResource);
+    }
+
+    // Construction alone, from words already in memory
+    @Benchmark
+    public WordLoader buildFromWords() {
+        return new WordLoader("synthetic", words);
+    }
+
+    @Benchmark
+    public WordLoader loadFromBinary() {
+        return new WordLoader(BinaryDictionary.open(compiled));
+    }
+
+    @Benchmark
+    public boolean isWordInListHit() {
+        return loader.isWordInList(hits[next()]);
+    }
+
+    @Benchmark
+    public boolean isWordInListMiss() {
+        return loader.isWordInList(misses[next()]);
+    }
+
+    private int next() {
+        cursor = cursor + 1 == hits.length ? 0 : cursor + 1;
+        return cursor;
+    }
+}
@@ -0,0 +1,102 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.logic.GameConfig;
+import com.wordle.game.session.GameSessionManager;
+import com.wordle.game.session.SessionJournal;
+import com.wordle.game.util.DictionaryRegistry;
+import com.wordle.game.util.WordLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+// Session journal: append cost per event from four threads (events/s = 1e9 / score), and the
+// time to rebuild every session from a journal of one million events.
+public class JournalBenchmark {
+    private static final int RECOVERY_SESSIONS = 200_000;
+    private static final List<String> GUESSES = List.of("RAISE", "CLOUT", "NYMPH", "GLADE");
+
+    @State(Scope.Benchmark)
+    public static class Appending {
+        @Param({"BUFFERED", "SYNC"})
+        public SessionJournal.Durability durability;
+
+        private Path directory;
+        private SessionJournal journal;
+
+        // A fresh journal per iteration keeps the files from growing for the whole run
+        @Setup(Level.Iteration)
+        public void open() throws IOException {
+            directory = Files.createTempDirectory("journal-bench");
+            journal = SessionJournal.open(directory, durability);
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() throws IOException {
+            journal.close();
+            delete(directory);
+        }
+    }
+
+    // One million events: every session is created and then guessed four times
+    @State(Scope.Benchmark)
+    public static class Recovery {
+        private Path directory;
+        private WordLoader dictionary;
+
+        @Setup(Level.Trial)
+        public void write() throws IOException {
+            directory = Files.createTempDirectory("journal-recovery");
+            dictionary = DictionaryRegistry.getDefault();
+            List<String> targets = dictionary.getAllWords().stream().filter(word -> !GUESSES.contains(word)).toList();
+            try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED)) {
+                for (int id = 1; id <= RECOVERY_SESSIONS; id++) {
+                    journal.gameCreated(id, GameConfig.DEFAULT, targets.get(id % targets.size()));
+                    for (String guess : GUESSES) {
+                        journal.guessMade(id, guess, 0);
+                    }
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void delete() throws IOException {
+            JournalBenchmark.delete(directory);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void append(Appending state) {
+        state.journal.guessMade(ThreadLocalRandom.current().nextLong(1, 1 << 20), "WATER", 17);
+    }
+
+    @Benchmark
+    public int recoverMillionEvents(Recovery state) {
+        try (SessionJournal journal = SessionJournal.open(state.directory, SessionJournal.Durability.BUFFERED);
+             GameSessionManager manager = new GameSessionManager(state.dictionary, Duration.ofHours(1), journal)) {
+            return manager.getActiveSessionCount();
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
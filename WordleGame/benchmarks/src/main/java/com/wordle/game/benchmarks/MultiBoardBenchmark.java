@@ -0,0 +1,88 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.logic.GameConfig;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.logic.GuessOutcome;
+import com.wordle.game.logic.MultiBoardGame;
+import com.wordle.game.logic.WordChecker;
+import com.wordle.game.util.WordLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+// One guess on every board of a multi-board game (a single batch scorer call over the unsolved
+// targets) against validating it board by board with WordChecker, as a loop of single games would,
+// and against a guess in an ordinary single-board game.
+@State(Scope.Thread)
+public class MultiBoardBenchmark {
+    private static final int GUESSES = 64;
+    private static final int ATTEMPTS = 4096;
+
+    @Param({"4", "8", "32"})
+    public int boards;
+
+    private WordLoader dictionary;
+    private List<String> targets;
+    private String[] guesses;
+    private WordChecker checker;
+    private MultiBoardGame game;
+    private GameProcessor singleGame;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<String> words = SyntheticWords.generate(boards + GUESSES);
+        dictionary = new WordLoader("synthetic", words);
+        targets = words.subList(0, boards);
+        guesses = words.subList(boards, boards + GUESSES).toArray(new String[0]);
+        checker = new WordChecker();
+    }
+
+    @Benchmark
+    public GuessOutcome[][] batched() {
+        return nextGame().makeGuess(nextGuess());
+    }
+
+    // The same guess without building outcome arrays, as a renderer reading patternAt would play it
+    @Benchmark
+    public int batchedPatterns() {
+        return nextGame().playGuess(nextGuess());
+    }
+
+    @Benchmark
+    public GuessOutcome[][] perBoard() {
+        String guess = nextGuess();
+        GuessOutcome[][] outcomes = new GuessOutcome[boards][];
+        for (int board = 0; board < boards; board++) {
+            outcomes[board] = checker.validateGuess(guess, targets.get(board));
+        }
+        return outcomes;
+    }
+
+    // Reference point: one guess in a single-board game
+    @Benchmark
+    public GuessOutcome[] singleBoard() {
+        if (singleGame == null || singleGame.isGameOver()) {
+            singleGame = new GameProcessor(dictionary, GameConfig.DEFAULT.withMaxAttempts(ATTEMPTS), targets.get(0));
+        }
+        return singleGame.makeGuess(nextGuess());
+    }
+
+    // Guesses never solve a board, so every board stays in play until the long attempt limit is hit
+    private MultiBoardGame nextGame() {
+        if (game == null || game.isGameOver()) {
+            game = new MultiBoardGame(dictionary, GameConfig.DEFAULT.withMaxAttempts(ATTEMPTS), targets);
+        }
+        return game;
+    }
+
+    private String nextGuess() {
+        cursor = (cursor + 1) & (GUESSES - 1);
+        return guesses[cursor];
+    }
+}
@@ -0,0 +1,47 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.stats.PlayerStatsStore;
+import com.wordle.game.stats.StatsSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Player statistics for one million players: cost of recording a finished game from four threads,
+// and of one aggregate scan over every record.
+public class PlayerStatsBenchmark {
+    private static final int PLAYERS = 1_000_000;
+
+    @State(Scope.Benchmark)
+    public static class Store {
+        private PlayerStatsStore store;
+
+        @Setup(Level.Trial)
+        public void fill() {
+            store = PlayerStatsStore.inMemory(PLAYERS);
+            SplittableRandom random = new SplittableRandom(42);
+            for (int player = 0; player < PLAYERS; player++) {
+                for (int game = random.nextInt(1, 20); game > 0; game--) {
+                    store.recordGame(player, random.nextInt(10) < 9, random.nextInt(1, 7), 0);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordGame(Store state) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        state.store.recordGame(random.nextInt(PLAYERS), true, random.nextInt(1, 7), 0);
+    }
+
+    @Benchmark
+    public StatsSummary summarizeMillionPlayers(Store state) {
+        return state.store.summarize();
+    }
+}
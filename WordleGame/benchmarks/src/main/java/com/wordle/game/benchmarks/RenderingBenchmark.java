@@ -0,0 +1,47 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.logic.FeedbackPattern;
+import com.wordle.game.logic.GuessOutcome;
+import com.wordle.game.util.BoardBuffer;
+import com.wordle.game.util.ColorDisplayer;
+import com.wordle.game.util.PackedWord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Rendering of a single colored guess row as drawn for every board line.
+@State(Scope.Thread)
+public class RenderingBenchmark {
+    private static final int PATTERN = 2 + 3 + 9 * 2 + 81;
+
+    private GuessOutcome[] outcomes;
+    private BoardBuffer buffer;
+    private int packedGuess;
+
+    @Setup
+    public void setUp() {
+        outcomes = FeedbackPattern.toOutcomes(PATTERN);
+        buffer = new BoardBuffer();
+        packedGuess = PackedWord.encode("WATER");
+    }
+
+    @Benchmark
+    public String formatGuess() {
+        return ColorDisplayer.formatGuess("WATER", outcomes);
+    }
+
+    @Benchmark
+    public int renderIntoBuffer() {
+        buffer.reset();
+        buffer.appendGuess("WATER", outcomes);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int renderPackedIntoBuffer() {
+        buffer.reset();
+        buffer.appendGuess(packedGuess, PATTERN);
+        return buffer.size();
+    }
+}
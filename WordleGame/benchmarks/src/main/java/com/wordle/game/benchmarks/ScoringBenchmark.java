@@ -0,0 +1,61 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.logic.GuessOutcome;
+import com.wordle.game.logic.WordChecker;
+import com.wordle.game.util.PackedWord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+// Cost of scoring one guess against one answer, string adapter versus the int and long packed paths.
+@State(Scope.Thread)
+public class ScoringBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int dictionarySize;
+
+    private final WordChecker checker = new WordChecker();
+    private String[] words;
+    private int[] packedWords;
+    private long[] longPackedWords;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<String> generated = SyntheticWords.generate(dictionarySize);
+        words = generated.toArray(new String[0]);
+        packedWords = new int[words.length];
+        longPackedWords = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            packedWords[i] = PackedWord.encode(words[i]);
+            longPackedWords[i] = PackedWord.encodeLong(words[i], words[i].length());
+        }
+    }
+
+    @Benchmark
+    public GuessOutcome[] validateGuess() {
+        int i = next();
+        return checker.validateGuess(words[i], words[(i * 31 + 7) % words.length]);
+    }
+
+    @Benchmark
+    public int scorePacked() {
+        int i = next();
+        return checker.score(packedWords[i], packedWords[(i * 31 + 7) % packedWords.length]);
+    }
+
+    // The engine used for word lengths other than five, run on the same words
+    @Benchmark
+    public int scorePackedLong() {
+        int i = next();
+        return checker.score(longPackedWords[i], longPackedWords[(i * 31 + 7) % longPackedWords.length]);
+    }
+
+    private int next() {
+        cursor = cursor + 1 == words.length ? 0 : cursor + 1;
+        return cursor;
+    }
+}
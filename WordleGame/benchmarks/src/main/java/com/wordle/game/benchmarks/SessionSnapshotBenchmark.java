@@ -0,0 +1,56 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.session.CompactSession;
+import com.wordle.game.session.SessionSnapshotCodec;
+import com.wordle.game.util.WordLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+// Moving a game with three guesses between its live and compact forms. gc.alloc.rate.norm of
+// compact is the size of a compact session (plus the scratch of reading the game); that of
+// restore is roughly what a live game costs.
+@State(Scope.Thread)
+public class SessionSnapshotBenchmark {
+    private WordLoader dictionary;
+    private GameProcessor game;
+    private CompactSession compact;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<String> words = SyntheticWords.generate(10_000);
+        dictionary = new WordLoader("synthetic", words);
+        game = new GameProcessor(dictionary, words.get(0));
+        for (int i = 1; i <= 3; i++) {
+            game.makeGuess(words.get(i));
+        }
+        compact = CompactSession.of(game);
+        encoded = SessionSnapshotCodec.encode(compact);
+    }
+
+    @Benchmark
+    public CompactSession compact() {
+        return CompactSession.of(game);
+    }
+
+    @Benchmark
+    public GameProcessor restore() {
+        return compact.toGame(dictionary);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return SessionSnapshotCodec.encode(compact);
+    }
+
+    @Benchmark
+    public CompactSession decode() {
+        return SessionSnapshotCodec.decode(encoded);
+    }
+}
@@ -0,0 +1,43 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.logic.EntropySolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+// The opening suggestion over a 13,000-word list: every word is scored as a guess against every
+// answer, split across a fork/join pool of the given size. An operation takes seconds, so each
+// measurement iteration covers only a few.
+@State(Scope.Benchmark)
+public class SolverBenchmark {
+    private static final int WORD_COUNT = 13_000;
+
+    @Param({"1", "8"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private EntropySolver solver;
+
+    @Setup
+    public void setUp() {
+        List<String> words = SyntheticWords.generate(WORD_COUNT);
+        pool = new ForkJoinPool(parallelism);
+        solver = new EntropySolver(words, words, pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public String openingSuggestion() {
+        return solver.suggest(List.of(), List.of());
+    }
+}
@@ -0,0 +1,29 @@
+package com.wordle.game.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// Deterministic dictionaries of distinct random 5-letter words, so every run measures the same input.
+final class SyntheticWords {
+    static final long SEED = 20240601L;
+
+    private SyntheticWords() {
+        throw new UnsupportedOperationException("SyntheticWords class cannot be instantiated");
+    }
+
+    static List<String> generate(int count) {
+        Random random = new Random(SEED);
+        Set<String> words = new LinkedHashSet<>();
+        char[] letters = new char[5];
+        while (words.size() < count) {
+            for (int i = 0; i < letters.length; i++) {
+                letters[i] = (char) ('A' + random.nextInt(26));
+            }
+            words.add(new String(letters));
+        }
+        return new ArrayList<>(words);
+    }
+}
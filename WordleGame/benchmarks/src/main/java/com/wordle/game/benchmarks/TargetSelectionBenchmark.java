@@ -0,0 +1,41 @@
+package com.wordle.game.benchmarks;
+
+import com.wordle.game.util.TargetSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+// Cost of picking a target while every thread starts games at once: the old shared
+// java.util.Random against the selectors. Sweep the thread count through the runner's third
+// argument, e.g. 1, 4, 16 and 64.
+public class TargetSelectionBenchmark {
+    private static final int WORD_COUNT = 14_855;
+
+    @State(Scope.Benchmark)
+    public static class Selectors {
+        @Param({"shared-random", "random", "shuffle-bag"})
+        public String selector;
+
+        private Random shared;
+        private TargetSelector target;
+
+        @Setup
+        public void create() {
+            shared = new Random();
+            target = switch (selector) {
+                case "random" -> TargetSelector.random();
+                case "shuffle-bag" -> TargetSelector.shuffleBag(42);
+                default -> null;
+            };
+        }
+    }
+
+    @Benchmark
+    public int nextIndex(Selectors state) {
+        return state.target == null ? state.shared.nextInt(WORD_COUNT) : state.target.nextIndex(WORD_COUNT);
+    }
+}
@@ -3,21 +3,111 @@ package com.wordle.game;
 import com.wordle.game.exceptions.GameException;
 import com.wordle.game.exceptions.InvalidWordException;
 import com.wordle.game.exceptions.WordLoadException;
+import com.wordle.game.logic.Game;
 import com.wordle.game.logic.GameProcessor;
 import com.wordle.game.logic.GuessOutcome;
+import com.wordle.game.logic.MultiBoardGame;
+import com.wordle.game.stats.PlayerStats;
+import com.wordle.game.stats.PlayerStatsStore;
 import com.wordle.game.util.ColorDisplayer;
+import com.wordle.game.util.DictionaryRegistry;
+import com.wordle.game.util.TerminalRenderer;
+import com.wordle.game.util.WordLoader;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
 
 public class WordleGame {
     private static final Scanner scanner = new Scanner(System.in);
+    // The console has a single player, whose statistics last as long as the program
+    private static final int LOCAL_PLAYER = 0;
+    // Quordle's layout; Octordle's eight boards take two rows
+    private static final int BOARDS_PER_ROW = 4;
+    private final TerminalRenderer screen;
+    private final PlayerStatsStore stats = PlayerStatsStore.inMemory(1);
+    private final boolean adversarial;
+    // 0 for the classic single board
+    private final int boards;
+    // Exactly one of these is set once a game started
     private GameProcessor gameProcessor;
+    private MultiBoardGame multiBoardGame;
+
+    public WordleGame() {
+        this(TerminalRenderer.forStdout(false));
+    }
+
+    // Everything is composed into the renderer and sent once per prompt, so each screen is one write.
+    public WordleGame(TerminalRenderer screen) {
+        this(screen, false);
+    }
+
+    // In adversarial mode the game picks no word up front and dodges every guess for as long as it can.
+    public WordleGame(TerminalRenderer screen, boolean adversarial) {
+        this(screen, adversarial, 0);
+    }
+
+    // With two or more boards every guess is played on all of them at once, Quordle-style.
+    public WordleGame(TerminalRenderer screen, boolean adversarial, int boards) {
+        if (boards != 0 && (boards < MultiBoardGame.MIN_BOARDS || boards > MultiBoardGame.MAX_BOARDS)) {
+            throw new IllegalArgumentException(String.format("Board count must be between %d and %d",
+                    MultiBoardGame.MIN_BOARDS, MultiBoardGame.MAX_BOARDS));
+        }
+        if (adversarial && boards != 0) {
+            throw new IllegalArgumentException("Adversarial games are played on a single board");
+        }
+        this.screen = screen;
+        this.adversarial = adversarial;
+        this.boards = boards;
+    }
 
     public static void main(String[] args) {
-        WordleGame game = new WordleGame();
+        List<String> options = Arrays.asList(args);
+        // --full-screen repaints the screen in place and only sends the rows that changed
+        boolean fullScreen = options.contains("--full-screen");
+        boolean adversarial = options.contains("--adversarial");
+        TerminalRenderer screen = TerminalRenderer.forStdout(fullScreen);
+        WordleGame game;
+        try {
+            // --boards N plays N boards at once
+            int boardsOption = options.indexOf("--boards");
+            int boards = boardsOption < 0 ? 0 : parseBoards(options, boardsOption + 1);
+            game = new WordleGame(screen, adversarial, boards);
+            if (boards > 0) {
+                checkBoards(boards, DictionaryRegistry.getDefault());
+            }
+        } catch (IllegalArgumentException e) {
+            reportError(screen, e.getMessage());
+            System.exit(1);
+            return;
+        } catch (WordLoadException e) {
+            reportError(screen, "Failed to initialize game: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
         game.run();
     }
 
+    // Checked before the game starts, as each board takes a distinct word from the dictionary.
+    static void checkBoards(int boards, WordLoader dictionary) {
+        int max = MultiBoardGame.maxBoards(dictionary);
+        if (boards > max) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot play %d boards: the dictionary has words for at most %d", boards, max));
+        }
+    }
+
+    private static int parseBoards(List<String> options, int index) {
+        if (index >= options.size()) {
+            throw new IllegalArgumentException("--boards needs a board count");
+        }
+        try {
+            return Integer.parseInt(options.get(index));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid board count: " + options.get(index));
+        }
+    }
+
     public void run() {
         displayWelcome();
 
@@ -27,7 +117,7 @@ public class WordleGame {
             } while (askPlayAgain());
 
         } catch (WordLoadException e) {
-            System.err.println(ColorDisplayer.error("Failed to initialize game: " + e.getMessage()));
+            reportError(screen, "Failed to initialize game: " + e.getMessage());
             System.exit(1);
         } finally {
             scanner.close();
@@ -37,150 +127,257 @@ public class WordleGame {
     }
 
     private void displayWelcome() {
-        System.out.println();
-        System.out.println(ColorDisplayer.title("🎯 WELCOME TO WORDLE! 🎯"));
-        System.out.println();
-        System.out.println(ColorDisplayer.info("GAME RULES:"));
-        System.out.println("• You have 5 attempts to guess a 5-letter word");
-        System.out.println("• Enter your guess and press Enter");
-        System.out.println("• After each guess, letters will be colored:");
-        System.out.println("  " + ColorDisplayer.formatLetter('G', GuessOutcome.CORRECT) + " = Correct letter in correct position");
-        System.out.println("  " + ColorDisplayer.formatLetter('Y', GuessOutcome.WRONG_POSITION) + " = Correct letter in wrong position");
-        System.out.println("  " + ColorDisplayer.formatLetter('R', GuessOutcome.INCORRECT) + " = Letter not in the word");
-        System.out.println();
-        System.out.println(ColorDisplayer.warning("NOTE: If you guess more of a letter than exists in the word,"));
-        System.out.println(ColorDisplayer.warning("the extra letters will be marked as incorrect (gray)."));
-        System.out.println();
+        screen.line();
+        screen.line(ColorDisplayer.title("🎯 WELCOME TO WORDLE! 🎯"));
+        screen.line();
+        screen.line(ColorDisplayer.info("GAME RULES:"));
+        if (boards > 0) {
+            screen.line(String.format("• You have %d attempts to guess %d 5-letter words, one per board",
+                    MultiBoardGame.defaultConfig(boards).maxAttempts(), boards));
+            screen.line("• Every guess is played on all the boards that are not solved yet");
+        } else {
+            screen.line("• You have 5 attempts to guess a 5-letter word");
+        }
+        screen.line("• Enter your guess and press Enter");
+        screen.line("• After each guess, letters will be colored:");
+        screen.line("  " + ColorDisplayer.formatLetter('G', GuessOutcome.CORRECT) + " = Correct letter in correct position");
+        screen.line("  " + ColorDisplayer.formatLetter('Y', GuessOutcome.WRONG_POSITION) + " = Correct letter in wrong position");
+        screen.line("  " + ColorDisplayer.formatLetter('R', GuessOutcome.INCORRECT) + " = Letter not in the word");
+        screen.line();
+        screen.line(ColorDisplayer.warning("NOTE: If you guess more of a letter than exists in the word,"));
+        screen.line(ColorDisplayer.warning("the extra letters will be marked as incorrect (gray)."));
+        screen.line();
     }
 
     //Plays a single game of Wordle.
 
     private void playGame() throws WordLoadException {
+        gameProcessor = null;
+        multiBoardGame = null;
+        if (boards > 0) {
+            playMultiBoardGame();
+            return;
+        }
         try {
-            gameProcessor = new GameProcessor();
-            System.out.println(ColorDisplayer.success("🎮 NEW GAME STARTED! 🎮"));
-            System.out.println(ColorDisplayer.info(String.format("Target word loaded from %d available words.",
+            gameProcessor = adversarial
+                    ? GameProcessor.adversarial(DictionaryRegistry.getDefault())
+                    : new GameProcessor();
+            gameProcessor.setCompletionListener(stats.listenerFor(LOCAL_PLAYER));
+            screen.line(ColorDisplayer.success("🎮 NEW GAME STARTED! 🎮"));
+            screen.line(ColorDisplayer.info(String.format(adversarial
+                            ? "No word chosen yet: every one of the %d words will dodge your guesses."
+                            : "Target word loaded from %d available words.",
                     gameProcessor.getWordCount())));
-            System.out.println();
+            screen.line();
 
             while (!gameProcessor.isGameOver()) {
-                displayGameState();
                 processPlayerGuess();
             }
 
-            displayGameguessOutcome();
+        } catch (GameException e) {
+            reportError(screen, "Game error: " + e.getMessage());
+        }
+    }
+
+    //Plays a single game on several boards at once.
+
+    private void playMultiBoardGame() throws WordLoadException {
+        try {
+            multiBoardGame = new MultiBoardGame(DictionaryRegistry.getDefault(), boards);
+            multiBoardGame.setCompletionListener(stats.listenerFor(LOCAL_PLAYER));
+            screen.line(ColorDisplayer.success("🎮 NEW GAME STARTED! 🎮"));
+            screen.line(ColorDisplayer.info(String.format("%d target words loaded from %d available words.",
+                    boards, DictionaryRegistry.getDefault().getWordCount())));
+            screen.line();
+
+            while (!multiBoardGame.isGameOver()) {
+                processPlayerGuess();
+            }
 
         } catch (GameException e) {
-            System.err.println(ColorDisplayer.error("Game error: " + e.getMessage()));
+            reportError(screen, "Game error: " + e.getMessage());
         }
     }
 
+    // The game being played, whichever kind it is.
+    private Game currentGame() {
+        return multiBoardGame != null ? multiBoardGame : gameProcessor;
+    }
+
     //Displays the current game state including previous guesses.
 
     private void displayGameState() {
-        System.out.println(ColorDisplayer.info(String.format("Attempt %d of %d:",
-                gameProcessor.getCurrentAttempt() + 1,
-                gameProcessor.getMaxAttempts())));
+        Game game = currentGame();
+        if (multiBoardGame != null) {
+            screen.line(ColorDisplayer.info(String.format("Attempt %d of %d, %d of %d boards solved:",
+                    game.getCurrentAttempt() + 1, game.getMaxAttempts(),
+                    multiBoardGame.getSolvedCount(), multiBoardGame.getBoardCount())));
+        } else {
+            screen.line(ColorDisplayer.info(String.format("Attempt %d of %d:",
+                    game.getCurrentAttempt() + 1,
+                    game.getMaxAttempts())));
+        }
 
         // Display previous guesses if any
+        displayGuesses();
+
+        if (game.getCurrentAttempt() > 0) {
+            screen.line();
+        }
+    }
+
+    private void displayGuesses() {
+        if (multiBoardGame != null) {
+            // The boards side by side, one row of boards after another; nothing to show before the first guess
+            if (multiBoardGame.getCurrentAttempt() > 0) {
+                ColorDisplayer.formatBoards(multiBoardGame, BOARDS_PER_ROW).lines().forEach(screen::line);
+            }
+            return;
+        }
         var guesses = gameProcessor.getGuesses();
         var guessOutcomes = gameProcessor.guessOutcomes();
 
         for (int i = 0; i < guesses.size(); i++) {
-            String guess = guesses.get(i);
-            GuessOutcome[] guessOutcome = guessOutcomes.get(i);
-            System.out.println(String.format("%d. %s", i + 1, ColorDisplayer.formatGuess(guess, guessOutcome)));
-        }
-
-        if (!guesses.isEmpty()) {
-            System.out.println();
+            screen.guessRow(i + 1, guesses.get(i), guessOutcomes.get(i));
         }
     }
 
     //Processes a single player guess with input validation and error handling.
+    //Messages about the previous input are shown above the board that is redrawn with the prompt.
 
     private void processPlayerGuess() {
         while (true) {
-            System.out.print("Enter your guess: ");
+            displayGameState();
+            screen.text("Enter your guess: ");
+            screen.flush();
             String input = scanner.nextLine().trim();
 
             if (input.isEmpty()) {
-                System.out.println(ColorDisplayer.warning("Please enter a 5-letter word."));
+                screen.line(ColorDisplayer.warning(String.format("Please enter a %d-letter word.", wordLength())));
                 continue;
             }
             if (input.equalsIgnoreCase("quit") || input.equalsIgnoreCase("exit")) {
-                System.out.println(ColorDisplayer.info("Game terminated by user."));
+                screen.line(ColorDisplayer.info("Game terminated by user."));
+                screen.flush();
                 System.exit(0);
             }
 
             try {
                 // Check if guess is in word list (optional warning)
-                if (!gameProcessor.isGuessInWordList(input)) {
-                    System.out.println(ColorDisplayer.warning("Word not in dictionary, but allowed as per game rules."));
+                boolean inWordList = multiBoardGame != null
+                        ? multiBoardGame.isGuessInWordList(input)
+                        : gameProcessor.isGuessInWordList(input);
+                if (!inWordList) {
+                    screen.line(ColorDisplayer.warning("Word not in dictionary, but allowed as per game rules."));
                 }
 
-                GuessOutcome[] guessOutcomes = gameProcessor.makeGuess(input);
-
-                // Display the guessOutcome immediately
-                System.out.println(ColorDisplayer.formatGuess(input.toUpperCase(), guessOutcomes));
-                System.out.println();
+                // The colored result is shown right away, above the board drawn with the next prompt
+                // or the summary
+                if (multiBoardGame != null) {
+                    displayFeedback(input.toUpperCase(), multiBoardGame.makeGuess(input));
+                } else {
+                    screen.line(ColorDisplayer.formatGuess(input.toUpperCase(), gameProcessor.makeGuess(input)));
+                }
+                screen.line();
 
                 break; // Valid guess processed, exit loop
 
             } catch (InvalidWordException e) {
-                System.out.println(ColorDisplayer.error(e.getMessage()));
-                System.out.println(ColorDisplayer.info("Please enter exactly 5 letters (A-Z only)."));
+                screen.line(ColorDisplayer.error(e.getMessage()));
+                screen.line(ColorDisplayer.info(String.format("Please enter exactly %d letters (A-Z only).", wordLength())));
             } catch (GameException e) {
-                System.out.println(ColorDisplayer.error(e.getMessage()));
+                reportError(screen, e.getMessage());
                 break; // Game state error, exit guess loop
             }
         }
     }
 
+    // One line per row of boards, laid out like the boards themselves.
+    private void displayFeedback(String guess, GuessOutcome[][] outcomes) {
+        for (int first = 0; first < outcomes.length; first += BOARDS_PER_ROW) {
+            int last = Math.min(outcomes.length, first + BOARDS_PER_ROW);
+            screen.line(ColorDisplayer.formatGuesses(guess, Arrays.copyOfRange(outcomes, first, last)));
+        }
+    }
+
+    private int wordLength() {
+        return multiBoardGame != null ? multiBoardGame.getConfig().wordLength() : gameProcessor.getWordLength();
+    }
+
     //Displays the final game guessOutcome (win or lose).
     private void displayGameguessOutcome() {
-        System.out.println("=".repeat(50));
+        screen.line("=".repeat(50));
 
-        if (gameProcessor.isGameWon()) {
-            System.out.println(ColorDisplayer.success("🎉 CONGRATULATIONS! YOU WON! 🎉"));
-            System.out.println(ColorDisplayer.success(String.format("You guessed the word '%s' in %d attempts!",
+        if (multiBoardGame != null) {
+            displayBoardsOutcome();
+        } else if (gameProcessor.isGameWon()) {
+            screen.line(ColorDisplayer.success("🎉 CONGRATULATIONS! YOU WON! 🎉"));
+            screen.line(ColorDisplayer.success(String.format("You guessed the word '%s' in %d attempts!",
                     gameProcessor.getTargetWord(),
                     gameProcessor.getCurrentAttempt())));
         } else {
-            System.out.println(ColorDisplayer.error("💀 GAME OVER! 💀"));
-            System.out.println(ColorDisplayer.info(String.format("The word was: %s",
+            screen.line(ColorDisplayer.error("💀 GAME OVER! 💀"));
+            screen.line(ColorDisplayer.info(String.format("The word was: %s",
                     gameProcessor.getTargetWord())));
-            System.out.println(ColorDisplayer.info("Better luck next time!"));
+            screen.line(ColorDisplayer.info("Better luck next time!"));
         }
 
-        System.out.println();
+        screen.line();
         displayGameStatistics();
-        System.out.println("=".repeat(50));
+        screen.line("=".repeat(50));
+    }
+
+    private void displayBoardsOutcome() {
+        if (multiBoardGame.isGameWon()) {
+            screen.line(ColorDisplayer.success("🎉 CONGRATULATIONS! YOU WON! 🎉"));
+            screen.line(ColorDisplayer.success(String.format("You solved all %d boards in %d attempts!",
+                    multiBoardGame.getBoardCount(),
+                    multiBoardGame.getCurrentAttempt())));
+        } else {
+            String[] targets = new String[multiBoardGame.getBoardCount()];
+            for (int board = 0; board < targets.length; board++) {
+                targets[board] = multiBoardGame.getTargetWord(board);
+            }
+            screen.line(ColorDisplayer.error("💀 GAME OVER! 💀"));
+            screen.line(ColorDisplayer.info(String.format("You solved %d of %d boards. The words were: %s",
+                    multiBoardGame.getSolvedCount(), targets.length, String.join(", ", targets))));
+            screen.line(ColorDisplayer.info("Better luck next time!"));
+        }
     }
 
     //Displays game statistics and summary.
     private void displayGameStatistics() {
-        System.out.println(ColorDisplayer.title("📊 GAME SUMMARY 📊"));
-        System.out.println(String.format("Attempts used: %d/%d",
-                gameProcessor.getCurrentAttempt(),
-                gameProcessor.getMaxAttempts()));
-
-        var guesses = gameProcessor.getGuesses();
-        var guessOutcomes = gameProcessor.guessOutcomes();
-
-        System.out.println("\nYour guesses:");
-        for (int i = 0; i < guesses.size(); i++) {
-            String guess = guesses.get(i);
-            GuessOutcome[] guessOutcome = guessOutcomes.get(i);
-            System.out.println(String.format("%d. %s", i + 1, ColorDisplayer.formatGuess(guess, guessOutcome)));
+        Game game = currentGame();
+        screen.line(ColorDisplayer.title("📊 GAME SUMMARY 📊"));
+        screen.line(String.format("Attempts used: %d/%d",
+                game.getCurrentAttempt(),
+                game.getMaxAttempts()));
+
+        screen.line();
+        screen.line("Your guesses:");
+        displayGuesses();
+        screen.line();
+
+        PlayerStats player = stats.get(LOCAL_PLAYER);
+        screen.line(String.format("Played: %d  Won: %d%%  Current streak: %d  Max streak: %d",
+                player.gamesPlayed(), Math.round(player.winRate() * 100),
+                player.currentStreak(), player.maxStreak()));
+        int[] distribution = player.distribution();
+        for (int i = 0; i < game.getMaxAttempts() && i < distribution.length; i++) {
+            screen.line(String.format("  %d: %d", i + 1, distribution[i]));
         }
-        System.out.println();
+        screen.line();
     }
 
     //Check with the player if they want to play another game.
+    //The result is redrawn with every prompt, so it stays on screen in full-screen mode.
     private boolean askPlayAgain() {
         while (true) {
-            System.out.print("Would you like to play again? (y/n): ");
+            if (currentGame() != null && currentGame().isGameOver()) {
+                displayGameguessOutcome();
+            }
+            screen.text("Would you like to play again? (y/n): ");
+            screen.flush();
             String input = scanner.nextLine().trim().toLowerCase();
 
             switch (input) {
@@ -191,7 +388,7 @@ public class WordleGame {
                     return false;
                 }
                 default -> {
-                    System.out.println(ColorDisplayer.warning("Please enter 'y' for yes or 'n' for no."));
+                    screen.line(ColorDisplayer.warning("Please enter 'y' for yes or 'n' for no."));
                 }
             }
         }
@@ -200,18 +397,26 @@ public class WordleGame {
     //Displays the goodbye message.
 
     private void displayGoodbye() {
-        System.out.println();
-        System.out.println(ColorDisplayer.title("Thanks for playing Wordle! 👋"));
-        System.out.println(ColorDisplayer.info("Come back soon for more word puzzles!"));
-        System.out.println();
+        screen.line();
+        screen.line(ColorDisplayer.title("Thanks for playing Wordle! 👋"));
+        screen.line(ColorDisplayer.info("Come back soon for more word puzzles!"));
+        screen.line();
+        screen.flush();
     }
 
     private void handleUnexpectedError(Exception e) {
-        System.err.println(ColorDisplayer.error("An unexpected error occurred: " + e.getMessage()));
+        reportError(screen, "An unexpected error occurred: " + e.getMessage());
         if (e.getCause() != null) {
             System.err.println(ColorDisplayer.error("Caused by: " + e.getCause().getMessage()));
         }
         System.err.println(ColorDisplayer.info("Please try restarting the game."));
         e.printStackTrace(System.err);
     }
+
+    // Errors always go to stderr. What the screen holds so far is sent first, so the error follows
+    // the output it belongs to.
+    private static void reportError(TerminalRenderer screen, String message) {
+        screen.flush();
+        System.err.println(ColorDisplayer.error(message));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.wordle.game.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.wordle.game.DictionaryLoaded")
+@Label("Dictionary Loaded")
+@Category({"Wordle", "Dictionary"})
+@Description("A word list was read and indexed")
+@StackTrace(false)
+public final class DictionaryLoadedEvent extends Event {
+    @Label("Source")
+    private String source;
+
+    @Label("Word Count")
+    private int wordCount;
+
+    @Label("Bytes")
+    @DataAmount
+    @Description("Bytes read from the source, or 0 for words supplied in memory")
+    private long bytes;
+
+    @Label("Load Time")
+    @Timespan
+    private long loadTime;
+
+    // Loading is timed by the caller, which already measures it for the metrics registry.
+    public static void emit(String source, int wordCount, long bytes, long loadNanos) {
+        DictionaryLoadedEvent event = new DictionaryLoadedEvent();
+        if (event.isEnabled()) {
+            event.source = source;
+            event.wordCount = wordCount;
+            event.bytes = bytes;
+            event.loadTime = loadNanos;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.wordle.game.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.wordle.game.GameCreated")
+@Label("Game Created")
+@Category({"Wordle", "Game"})
+@Description("A game was set up with a target word")
+@StackTrace(false)
+public final class GameCreatedEvent extends Event {
+    @Label("Game Id")
+    private long gameId;
+
+    @Label("Dictionary Words")
+    private int dictionaryWords;
+
+    @Label("Word Length")
+    private int wordLength;
+
+    @Label("Max Attempts")
+    private int maxAttempts;
+
+    // The event is only filled in while a recording has it enabled; otherwise the JIT drops the
+    // allocation and this is a single flag check.
+    public static void emit(long gameId, int dictionaryWords, int wordLength, int maxAttempts) {
+        GameCreatedEvent event = new GameCreatedEvent();
+        if (event.isEnabled()) {
+            event.gameId = gameId;
+            event.dictionaryWords = dictionaryWords;
+            event.wordLength = wordLength;
+            event.maxAttempts = maxAttempts;
+            event.commit();
+        }
+    }
+}
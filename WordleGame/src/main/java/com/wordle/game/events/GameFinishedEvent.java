@@ -0,0 +1,38 @@
+package com.wordle.game.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.wordle.game.GameFinished")
+@Label("Game Finished")
+@Category({"Wordle", "Game"})
+@Description("A game was won or ran out of attempts")
+@StackTrace(false)
+public final class GameFinishedEvent extends Event {
+    @Label("Game Id")
+    private long gameId;
+
+    @Label("Won")
+    private boolean won;
+
+    @Label("Attempts")
+    private int attempts;
+
+    @Label("Target Word")
+    private String targetWord;
+
+    public static void emit(long gameId, boolean won, int attempts, String targetWord) {
+        GameFinishedEvent event = new GameFinishedEvent();
+        if (event.isEnabled()) {
+            event.gameId = gameId;
+            event.won = won;
+            event.attempts = attempts;
+            event.targetWord = targetWord;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.wordle.game.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Spans one GameProcessor.makeGuess call, including rejected guesses.
+@Name("com.wordle.game.GuessMade")
+@Label("Guess Made")
+@Category({"Wordle", "Game"})
+@Description("A guess was scored or rejected")
+@StackTrace(false)
+public final class GuessMadeEvent extends Event {
+    @Label("Game Id")
+    private long gameId;
+
+    @Label("Guess")
+    private String guess;
+
+    @Label("Attempt")
+    private int attempt;
+
+    @Label("Pattern")
+    @Description("Feedback pattern code (0-242), or -1 if the guess was rejected")
+    private int pattern;
+
+    @Label("Rejection Reason")
+    private String rejectionReason;
+
+    // Call begin() first; the fields are only filled in if the event passes the recording's settings.
+    public void complete(long gameId, String guess, int attempt, int pattern, String rejectionReason) {
+        if (shouldCommit()) {
+            this.gameId = gameId;
+            this.guess = guess;
+            this.attempt = attempt;
+            this.pattern = pattern;
+            this.rejectionReason = rejectionReason;
+            commit();
+        }
+    }
+}
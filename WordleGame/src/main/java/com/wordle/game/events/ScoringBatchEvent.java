@@ -0,0 +1,33 @@
+package com.wordle.game.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Scoring is too hot to record per call, so one event spans a whole bulk call: a WordChecker
+// scoring a guess against an answer array, or a BatchScorer scoring it against answer columns.
+// The event's duration is the time spent scoring and nothing else.
+@Name("com.wordle.game.ScoringBatch")
+@Label("Scoring Batch")
+@Category({"Wordle", "Scoring"})
+@Description("One guess scored against a batch of answers")
+@StackTrace(false)
+public final class ScoringBatchEvent extends Event {
+    @Label("Scores")
+    private int scores;
+
+    @Label("Scorer")
+    private String scorer;
+
+    // Call begin() first; the fields are only filled in if the event passes the recording's settings.
+    public void complete(int scores, String scorer) {
+        if (shouldCommit()) {
+            this.scores = scores;
+            this.scorer = scorer;
+            commit();
+        }
+    }
+}
@@ -1,20 +1,47 @@
 package com.wordle.game.exceptions;
 
 public class InvalidWordException extends GameException {
+    // Why a word was rejected, for callers that react to or count rejections by kind
+    public enum Reason {
+        MISSING,
+        WRONG_LENGTH,
+        INVALID_CHARACTERS,
+        MALFORMED_REQUEST,
+        UNSPECIFIED;
+
+        // Classifies a word that failed the length/letters check.
+        public static Reason of(String word, int expectedLength) {
+            if (word == null) {
+                return MISSING;
+            }
+            return word.length() != expectedLength ? WRONG_LENGTH : INVALID_CHARACTERS;
+        }
+    }
+
     private final String invalidWord;
+    private final Reason reason;
 
     public InvalidWordException(String invalidWord, String message) {
+        this(invalidWord, Reason.UNSPECIFIED, message);
+    }
+
+    public InvalidWordException(String invalidWord, Reason reason, String message) {
         super(String.format("Invalid word '%s': %s", invalidWord, message));
         this.invalidWord = invalidWord;
+        this.reason = reason;
     }
 
     public InvalidWordException(String invalidWord, String message, Throwable cause) {
         super(String.format("Invalid word '%s': %s", invalidWord, message), cause);
         this.invalidWord = invalidWord;
+        this.reason = Reason.UNSPECIFIED;
     }
 
     public String getInvalidWord() {
         return invalidWord;
     }
-}
 
+    public Reason getReason() {
+        return reason;
+    }
+}
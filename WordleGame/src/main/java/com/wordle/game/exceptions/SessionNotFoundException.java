@@ -0,0 +1,14 @@
+package com.wordle.game.exceptions;
+
+public class SessionNotFoundException extends GameException {
+    private final long sessionId;
+
+    public SessionNotFoundException(long sessionId) {
+        super(String.format("Session %d does not exist or has expired", sessionId));
+        this.sessionId = sessionId;
+    }
+
+    public long getSessionId() {
+        return sessionId;
+    }
+}
@@ -0,0 +1,21 @@
+package com.wordle.game.exceptions;
+
+import java.nio.file.Path;
+
+public class StorageException extends GameException {
+    private final Path path;
+
+    public StorageException(Path path, String message) {
+        super(String.format("Storage error for '%s': %s", path, message));
+        this.path = path;
+    }
+
+    public StorageException(Path path, String message, Throwable cause) {
+        super(String.format("Storage error for '%s': %s", path, message), cause);
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+}
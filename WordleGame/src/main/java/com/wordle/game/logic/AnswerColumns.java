@@ -0,0 +1,97 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.util.PackedWord;
+
+import java.util.List;
+
+// Five-letter answers stored column by column: column p holds the letter (0-25) at position p of
+// every answer, so a batch scorer reads one position of many answers with a single load.
+// Only the logic classes that own a working instance (CandidatePartitioner, MultiBoardGame) change
+// it, through retain, remove and copyFrom; others never change.
+public final class AnswerColumns {
+    private static final int WORD_LENGTH = FeedbackPattern.WORD_LENGTH;
+
+    private final int[] packedWords;
+    private final byte[][] columns;
+    private int size;
+
+    private AnswerColumns(int[] packedWords) {
+        this.packedWords = packedWords;
+        this.columns = new byte[WORD_LENGTH][packedWords.length];
+        this.size = packedWords.length;
+        for (int i = 0; i < packedWords.length; i++) {
+            int packed = packedWords[i];
+            if (packed == 0 || packed == PackedWord.INVALID) {
+                throw new IllegalArgumentException("Not a packed word: " + packed);
+            }
+            for (int p = 0; p < WORD_LENGTH; p++) {
+                columns[p][i] = (byte) PackedWord.letterAt(packed, p);
+            }
+        }
+    }
+
+    public static AnswerColumns of(int[] packedWords) {
+        return new AnswerColumns(packedWords.clone());
+    }
+
+    public static AnswerColumns of(List<String> words) {
+        return new AnswerColumns(PackedWord.encodeAll(words));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int packedWordAt(int index) {
+        return packedWords[index];
+    }
+
+    // Shared with the scorers, which only read it
+    byte[][] columns() {
+        return columns;
+    }
+
+    // Overwrites this instance with the source's answers; the capacity must suffice.
+    void copyFrom(AnswerColumns source) {
+        System.arraycopy(source.packedWords, 0, packedWords, 0, source.size);
+        for (int p = 0; p < WORD_LENGTH; p++) {
+            System.arraycopy(source.columns[p], 0, columns[p], 0, source.size);
+        }
+        size = source.size;
+    }
+
+    // Keeps, in order and in place, the answers whose entry in patterns equals the given code.
+    // Returns the new size.
+    int retain(byte[] patterns, int patternCode) {
+        return compact(patterns, patternCode, 0);
+    }
+
+    // The opposite of retain: drops the answers whose entry equals the code, e.g. solved boards.
+    int remove(byte[] patterns, int patternCode) {
+        return compact(patterns, patternCode, 1);
+    }
+
+    // Keeps answer i when (patterns[i] == code) differs from flip.
+    private int compact(byte[] patterns, int patternCode, int flip) {
+        byte code = (byte) patternCode;
+        byte[] c0 = columns[0];
+        byte[] c1 = columns[1];
+        byte[] c2 = columns[2];
+        byte[] c3 = columns[3];
+        byte[] c4 = columns[4];
+        int kept = 0;
+        // Every answer is copied and the write position only advances past kept ones, so the loop
+        // has no branch to mispredict when buckets are mixed
+        for (int i = 0; i < size; i++) {
+            packedWords[kept] = packedWords[i];
+            c0[kept] = c0[i];
+            c1[kept] = c1[i];
+            c2[kept] = c2[i];
+            c3[kept] = c3[i];
+            c4[kept] = c4[i];
+            kept += (patterns[i] == code ? 1 : 0) ^ flip;
+        }
+        size = kept;
+        return kept;
+    }
+}
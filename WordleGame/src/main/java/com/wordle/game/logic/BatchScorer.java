@@ -0,0 +1,42 @@
+package com.wordle.game.logic;
+
+import java.util.Arrays;
+
+// Scores one guess against many five-letter answers at once, as the solver and analysis tools do.
+// Pattern codes are the same as WordChecker.score; they are written as bytes and read back with
+// (pattern & 0xFF). Implementations keep no state, so one instance can be shared between threads.
+public interface BatchScorer {
+    // Set to true to force the scalar scorer even when the Vector API is available
+    String SCALAR_PROPERTY = "wordle.scoring.scalar";
+
+    // Writes the pattern of the guess against answer i into patterns[i].
+    void score(int packedGuess, AnswerColumns answers, byte[] patterns);
+
+    String name();
+
+    // Counts the answers giving each pattern; histogram needs PATTERN_COUNT entries and is cleared first.
+    default void histogram(int packedGuess, AnswerColumns answers, byte[] patterns, int[] histogram) {
+        score(packedGuess, answers, patterns);
+        Arrays.fill(histogram, 0);
+        for (int i = 0; i < answers.size(); i++) {
+            histogram[patterns[i] & 0xFF]++;
+        }
+    }
+
+    // The vector scorer when the JVM was started with --add-modules jdk.incubator.vector,
+    // otherwise the scalar one. The vector class is only loaded once the module is known to exist.
+    static BatchScorer create() {
+        if (!Boolean.getBoolean(SCALAR_PROPERTY) && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return new VectorBatchScorer();
+            } catch (LinkageError e) {
+                // Module present but unusable on this platform; the scalar scorer gives the same results
+            }
+        }
+        return scalar();
+    }
+
+    static BatchScorer scalar() {
+        return new ScalarBatchScorer();
+    }
+}
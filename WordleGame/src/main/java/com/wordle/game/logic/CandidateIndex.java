@@ -0,0 +1,164 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Bitset index over a word list for narrowing candidates with guess feedback.
+// A candidate set is a long[] bitmap with bit i standing for word i; applying feedback
+// only ANDs or ANDNOTs precomputed bitsets into it instead of rescoring every word.
+public class CandidateIndex {
+    private static final int WORD_LENGTH = 5;
+    private static final int ALPHABET_SIZE = 26;
+
+    private final int[] words;
+    private final int blocks;
+    // [position * 26 + letter]: words with that letter at that position
+    private final long[][] positionBits;
+    // [letter * 5 + (count - 1)]: words containing the letter at least count times
+    private final long[][] minCountBits;
+
+    public CandidateIndex(WordLoader dictionary) {
+        this(PackedWord.encodeAll(dictionary.getAllWords()));
+    }
+
+    public CandidateIndex(int[] packedWords) {
+        this.words = packedWords.clone();
+        this.blocks = (words.length + 63) >>> 6;
+        this.positionBits = new long[WORD_LENGTH * ALPHABET_SIZE][blocks];
+        this.minCountBits = new long[ALPHABET_SIZE * WORD_LENGTH][blocks];
+
+        for (int w = 0; w < words.length; w++) {
+            int block = w >>> 6;
+            long bit = 1L << w;
+            for (int i = 0; i < WORD_LENGTH; i++) {
+                int letter = PackedWord.letterAt(words[w], i);
+                positionBits[i * ALPHABET_SIZE + letter][block] |= bit;
+
+                // The k-th occurrence of a letter puts the word into its "at least k" set
+                int occurrence = 1;
+                for (int j = 0; j < i; j++) {
+                    if (PackedWord.letterAt(words[w], j) == letter) {
+                        occurrence++;
+                    }
+                }
+                minCountBits[letter * WORD_LENGTH + occurrence - 1][block] |= bit;
+            }
+        }
+    }
+
+    // Returns a fresh bitmap with every indexed word set.
+    public long[] allWords() {
+        long[] candidates = new long[blocks];
+        for (int w = 0; w < words.length; w++) {
+            candidates[w >>> 6] |= 1L << w;
+        }
+        return candidates;
+    }
+
+    public void apply(long[] candidates, String guess, GuessOutcome[] outcomes) {
+        apply(candidates, PackedWord.encode(guess), FeedbackPattern.fromOutcomes(outcomes));
+    }
+
+    // Removes, in place, every candidate that would not have produced this feedback for the guess.
+    public void apply(long[] candidates, int packedGuess, int patternCode) {
+        if (candidates.length != blocks) {
+            throw new IllegalArgumentException("Candidate bitmap does not belong to this index");
+        }
+
+        int code = patternCode;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int letter = PackedWord.letterAt(packedGuess, i);
+            long[] atPosition = positionBits[i * ALPHABET_SIZE + letter];
+            if (code % 3 == 2) {
+                and(candidates, atPosition);
+            } else {
+                andNot(candidates, atPosition);
+            }
+            code /= 3;
+        }
+
+        // Count constraints, applied once per distinct guess letter
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int letter = PackedWord.letterAt(packedGuess, i);
+            if (appearsBefore(packedGuess, letter, i)) {
+                continue;
+            }
+            int confirmed = 0;
+            boolean rejected = false;
+            for (int j = i; j < WORD_LENGTH; j++) {
+                if (PackedWord.letterAt(packedGuess, j) == letter) {
+                    if (FeedbackPattern.outcomeAt(patternCode, j) == GuessOutcome.INCORRECT) {
+                        rejected = true;
+                    } else {
+                        confirmed++;
+                    }
+                }
+            }
+            if (confirmed > 0) {
+                and(candidates, minCountBits[letter * WORD_LENGTH + confirmed - 1]);
+            }
+            // A gray copy means the target holds exactly the confirmed number of this letter
+            if (rejected) {
+                andNot(candidates, minCountBits[letter * WORD_LENGTH + confirmed]);
+            }
+        }
+    }
+
+    public int count(long[] candidates) {
+        int count = 0;
+        for (long block : candidates) {
+            count += Long.bitCount(block);
+        }
+        return count;
+    }
+
+    public int[] packedWords(long[] candidates) {
+        int[] result = new int[count(candidates)];
+        int n = 0;
+        for (int b = 0; b < candidates.length; b++) {
+            long block = candidates[b];
+            while (block != 0) {
+                result[n++] = words[(b << 6) + Long.numberOfTrailingZeros(block)];
+                block &= block - 1;
+            }
+        }
+        return result;
+    }
+
+    public List<String> words(long[] candidates) {
+        int[] packed = packedWords(candidates);
+        List<String> result = new ArrayList<>(packed.length);
+        for (int word : packed) {
+            result.add(PackedWord.decode(word));
+        }
+        return result;
+    }
+
+    public int getWordCount() {
+        return words.length;
+    }
+
+    private static boolean appearsBefore(int packedWord, int letter, int position) {
+        for (int j = 0; j < position; j++) {
+            if (PackedWord.letterAt(packedWord, j) == letter) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void and(long[] target, long[] mask) {
+        for (int b = 0; b < target.length; b++) {
+            target[b] &= mask[b];
+        }
+    }
+
+    private static void andNot(long[] target, long[] mask) {
+        for (int b = 0; b < target.length; b++) {
+            target[b] &= ~mask[b];
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.util.PackedWord;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Splits the answers still possible into the 243 feedback buckets of a guess and narrows them to
+// one bucket. The candidates, their pattern buffer and the bucket counts are allocated once; a move
+// scores every candidate with the batch scorer, counts the buckets and compacts the kept bucket in
+// place, so nothing is allocated per guess. Not thread-safe: every game owns its partitioner.
+public final class CandidatePartitioner {
+    private final AnswerColumns initial;
+    private final AnswerColumns candidates;
+    private final byte[] patterns;
+    private final int[] bucketSizes = new int[FeedbackPattern.PATTERN_COUNT];
+    private final BatchScorer scorer;
+    // Patterns line up with the candidates only until they are compacted
+    private boolean partitioned;
+
+    public CandidatePartitioner(int[] packedWords) {
+        this(packedWords, BatchScorer.create());
+    }
+
+    public CandidatePartitioner(List<String> words) {
+        this(PackedWord.encodeAll(words), BatchScorer.create());
+    }
+
+    CandidatePartitioner(int[] packedWords, BatchScorer scorer) {
+        if (packedWords.length == 0) {
+            throw new IllegalArgumentException("At least one candidate is required");
+        }
+        this.initial = AnswerColumns.of(packedWords);
+        this.candidates = AnswerColumns.of(packedWords);
+        this.patterns = new byte[packedWords.length];
+        this.scorer = scorer;
+    }
+
+    // Scores the guess against every remaining candidate and counts the candidates per pattern.
+    public void partition(int packedGuess) {
+        scorer.histogram(packedGuess, candidates, patterns, bucketSizes);
+        partitioned = true;
+    }
+
+    // Candidates that gave this pattern in the last partition.
+    public int bucketSize(int patternCode) {
+        return bucketSizes[patternCode];
+    }
+
+    // Pattern of the largest bucket of the last partition. Ties go to the pattern that reveals less:
+    // fewer greens, then fewer yellows, then the lower code.
+    public int largestBucket() {
+        int best = -1;
+        for (int pattern = 0; pattern < FeedbackPattern.PATTERN_COUNT; pattern++) {
+            int size = bucketSizes[pattern];
+            if (size == 0) {
+                continue;
+            }
+            if (best < 0 || size > bucketSizes[best]
+                    || (size == bucketSizes[best] && reveals(pattern) < reveals(best))) {
+                best = pattern;
+            }
+        }
+        return best;
+    }
+
+    // Keeps only the candidates that gave the pattern in the last partition.
+    public void retain(int patternCode) {
+        if (!partitioned) {
+            throw new IllegalStateException("Candidates have changed since the last partition");
+        }
+        if (bucketSizes[patternCode] == 0) {
+            throw new IllegalArgumentException("No candidate gives pattern " + patternCode);
+        }
+        candidates.retain(patterns, patternCode);
+        partitioned = false;
+    }
+
+    // One adversarial move: the feedback that keeps the most candidates alive. Returns its pattern.
+    public int adversarialMove(int packedGuess) {
+        partition(packedGuess);
+        int pattern = largestBucket();
+        retain(pattern);
+        return pattern;
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+
+    public int packedWordAt(int index) {
+        if (index < 0 || index >= candidates.size()) {
+            throw new IndexOutOfBoundsException("Invalid candidate: " + index);
+        }
+        return candidates.packedWordAt(index);
+    }
+
+    public List<String> remaining() {
+        List<String> words = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            words.add(PackedWord.decode(candidates.packedWordAt(i)));
+        }
+        return words;
+    }
+
+    // Brings every initial candidate back, e.g. when the game restarts; copies without allocating.
+    public void reset() {
+        candidates.copyFrom(initial);
+        partitioned = false;
+    }
+
+    // Greens weigh more than any number of yellows
+    private static int reveals(int patternCode) {
+        int weight = 0;
+        for (int p = 0; p < FeedbackPattern.WORD_LENGTH; p++) {
+            int digit = patternCode % 3;
+            weight += digit == 2 ? FeedbackPattern.WORD_LENGTH + 1 : digit;
+            patternCode /= 3;
+        }
+        return weight;
+    }
+}
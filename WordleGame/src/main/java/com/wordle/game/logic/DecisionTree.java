@@ -0,0 +1,275 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.exceptions.StorageException;
+import com.wordle.game.util.PackedWord;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+// Precomputed guesses for every feedback history, built by DecisionTreeCompiler.
+//
+// Nodes are fixed 40-byte records in breadth-first order: the guess (its position in the guess
+// table), the node of its first child, and a 243-bit map of the feedback patterns that lead to a
+// child. Children of a node are consecutive in pattern order, so the child for a pattern is
+// firstChild plus the number of mapped patterns below it: a few popcounts, whatever the tree size.
+// The same bytes are the file format, so a loaded tree is mapped and used in place.
+public final class DecisionTree {
+    static final int MAGIC = 0x57445452; // "WDTR"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 48;
+    static final int NODE_SIZE = 40;
+    public static final int NO_NODE = -1;
+
+    private static final int GUESS = 0;
+    private static final int FIRST_CHILD = 4;
+    private static final int PATTERN_MAP = 8;
+
+    private final int[] guessWords;
+    private final ByteBuffer nodes;
+    private final int nodeCount;
+    private final int maxAttempts;
+    private final int answerCount;
+    private final int totalGuesses;
+    private final int failures;
+    private final long dictionaryHash;
+
+    private DecisionTree(int[] guessWords, ByteBuffer nodes, int nodeCount, int maxAttempts, int answerCount,
+                         int totalGuesses, int failures, long dictionaryHash) {
+        this.guessWords = guessWords;
+        this.nodes = nodes;
+        this.nodeCount = nodeCount;
+        this.maxAttempts = maxAttempts;
+        this.answerCount = answerCount;
+        this.totalGuesses = totalGuesses;
+        this.failures = failures;
+        this.dictionaryHash = dictionaryHash;
+    }
+
+    // Lays the search result out breadth-first; failed branches get no node.
+    static DecisionTree build(int[] guessWords, int[] answerWords, int maxAttempts, DecisionTreeCompiler.Subtree root) {
+        List<DecisionTreeCompiler.Subtree> order = new ArrayList<>();
+        ArrayDeque<DecisionTreeCompiler.Subtree> queue = new ArrayDeque<>();
+        if (!root.isFailed()) {
+            queue.add(root);
+        }
+        while (!queue.isEmpty()) {
+            DecisionTreeCompiler.Subtree subtree = queue.poll();
+            order.add(subtree);
+            for (DecisionTreeCompiler.Subtree child : subtree.children()) {
+                if (!child.isFailed()) {
+                    queue.add(child);
+                }
+            }
+        }
+
+        ByteBuffer nodes = ByteBuffer.allocate(order.size() * NODE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        int nextChild = 1;
+        for (int n = 0; n < order.size(); n++) {
+            DecisionTreeCompiler.Subtree subtree = order.get(n);
+            int offset = n * NODE_SIZE;
+            long[] map = new long[4];
+            int[] patterns = subtree.patterns();
+            for (int i = 0; i < patterns.length; i++) {
+                if (!subtree.children()[i].isFailed()) {
+                    map[patterns[i] >>> 6] |= 1L << patterns[i];
+                }
+            }
+            nodes.putInt(offset + GUESS, subtree.guess());
+            nodes.putInt(offset + FIRST_CHILD, nextChild);
+            for (int w = 0; w < map.length; w++) {
+                nodes.putLong(offset + PATTERN_MAP + w * Long.BYTES, map[w]);
+                nextChild += Long.bitCount(map[w]);
+            }
+        }
+        return new DecisionTree(guessWords.clone(), nodes, order.size(), maxAttempts, answerWords.length,
+                root.cost(), root.failures(), FeedbackMatrix.dictionaryHash(guessWords, answerWords));
+    }
+
+    public static DecisionTree load(Path file) throws StorageException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new StorageException(file, "Decision tree file is truncated");
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                throw new StorageException(file, "Not a decision tree file or unsupported version");
+            }
+            int maxAttempts = mapped.getInt(8);
+            int guessCount = mapped.getInt(12);
+            int answerCount = mapped.getInt(16);
+            int nodeCount = mapped.getInt(20);
+            int totalGuesses = mapped.getInt(24);
+            int failures = mapped.getInt(28);
+            int checksum = mapped.getInt(32);
+            long dictionaryHash = mapped.getLong(40);
+            long nodesStart = HEADER_SIZE + (long) guessCount * Integer.BYTES;
+            if (guessCount <= 0 || nodeCount < 0 || channel.size() != nodesStart + (long) nodeCount * NODE_SIZE) {
+                throw new StorageException(file, "Decision tree file has the wrong size");
+            }
+
+            ByteBuffer body = mapped.slice(HEADER_SIZE, (int) (channel.size() - HEADER_SIZE)).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32C crc = new CRC32C();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new StorageException(file, "Decision tree checksum mismatch");
+            }
+            int[] guessWords = new int[guessCount];
+            body.asIntBuffer().get(guessWords);
+            ByteBuffer nodes = mapped.slice((int) nodesStart, nodeCount * NODE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            return new DecisionTree(guessWords, nodes, nodeCount, maxAttempts, answerCount, totalGuesses, failures,
+                    dictionaryHash);
+        } catch (IOException e) {
+            throw new StorageException(file, "Failed to read decision tree", e);
+        }
+    }
+
+    // Writes to a temporary file first so a concurrent reader never maps a half-written tree.
+    public void write(Path file) throws StorageException {
+        ByteBuffer body = ByteBuffer.allocate(guessWords.length * Integer.BYTES + nodeCount * NODE_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (int word : guessWords) {
+            body.putInt(word);
+        }
+        body.put(nodes.duplicate().clear()).flip();
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(maxAttempts)
+                .putInt(guessWords.length)
+                .putInt(answerCount)
+                .putInt(nodeCount)
+                .putInt(totalGuesses)
+                .putInt(failures)
+                .putInt((int) crc.getValue())
+                .putInt(0)
+                .putLong(dictionaryHash)
+                .flip();
+
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "decision-tree-", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (header.hasRemaining() || body.hasRemaining()) {
+                    channel.write(new ByteBuffer[]{header, body});
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (temp != null) {
+                temp.toFile().delete();
+            }
+            throw new StorageException(file, "Failed to write decision tree", e);
+        }
+    }
+
+    // Node for the first guess, or NO_NODE for a tree that solves nothing.
+    public int root() {
+        return nodeCount == 0 ? NO_NODE : 0;
+    }
+
+    public String guessAt(int node) {
+        checkNode(node);
+        return PackedWord.decode(guessWords[nodes.getInt(node * NODE_SIZE + GUESS)]);
+    }
+
+    // Node to play after the node's guess got this feedback, or NO_NODE if no answer leads there
+    // (or the game is won).
+    public int next(int node, int patternCode) {
+        checkNode(node);
+        if (patternCode < 0 || patternCode >= FeedbackPattern.PATTERN_COUNT) {
+            throw new IllegalArgumentException("Invalid pattern code: " + patternCode);
+        }
+        int offset = node * NODE_SIZE + PATTERN_MAP;
+        int word = patternCode >>> 6;
+        long bits = nodes.getLong(offset + word * Long.BYTES);
+        if ((bits & (1L << patternCode)) == 0) {
+            return NO_NODE;
+        }
+        int rank = Long.bitCount(bits & ((1L << patternCode) - 1));
+        for (int w = 0; w < word; w++) {
+            rank += Long.bitCount(nodes.getLong(offset + w * Long.BYTES));
+        }
+        return nodes.getInt(node * NODE_SIZE + FIRST_CHILD) + rank;
+    }
+
+    public String suggest(GameProcessor game) throws GameException {
+        return suggest(game.getGuesses(), game.guessOutcomes());
+    }
+
+    // Follows the history from the root; the game must have played the tree's guesses so far.
+    public String suggest(List<String> guesses, List<GuessOutcome[]> outcomes) throws GameException {
+        if (guesses.size() != outcomes.size()) {
+            throw new IllegalArgumentException("Each guess needs exactly one outcome");
+        }
+        int node = root();
+        for (int i = 0; i < guesses.size() && node != NO_NODE; i++) {
+            if (!guessAt(node).equals(guesses.get(i))) {
+                throw new GameException(String.format("Guess %d (%s) is not the tree's %s", i + 1, guesses.get(i), guessAt(node)));
+            }
+            node = next(node, FeedbackPattern.fromOutcomes(outcomes.get(i)));
+        }
+        if (node == NO_NODE) {
+            throw new GameException("No answer in the tree's dictionary is consistent with the guesses so far");
+        }
+        return guessAt(node);
+    }
+
+    // True if the tree was compiled for exactly these word lists.
+    public boolean isBuiltFor(List<String> allowedGuesses, List<String> possibleAnswers) {
+        return FeedbackMatrix.dictionaryHash(PackedWord.encodeAll(allowedGuesses),
+                PackedWord.encodeAll(possibleAnswers)) == dictionaryHash;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public int getAnswerCount() {
+        return answerCount;
+    }
+
+    // Answers the tree does not find within the attempt limit.
+    public int getFailures() {
+        return failures;
+    }
+
+    public double getAverageGuesses() {
+        int solved = answerCount - failures;
+        return solved == 0 ? 0 : (double) totalGuesses / solved;
+    }
+
+    public long getDictionaryHash() {
+        return dictionaryHash;
+    }
+
+    private void checkNode(int node) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IndexOutOfBoundsException("Invalid node: " + node);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d answers, %.4f guesses on average, %d not solved in %d attempts",
+                answerCount, getAverageGuesses(), failures, maxAttempts);
+    }
+}
@@ -0,0 +1,358 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.util.DictionaryIndex;
+import com.wordle.game.util.DictionaryRegistry;
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+// Builds a DecisionTree offline: the guess to play for every feedback history the answers can
+// produce within the attempt limit.
+//
+// At every node the guesses with the highest entropy over the remaining answers are tried (the
+// breadth) and the one whose subtree solves the most answers, then in the fewest total guesses,
+// is kept. Within that breadth the search is exhaustive. Large candidate sets search their options
+// and branches as fork/join subtasks; options that cannot beat the best one found so far are
+// pruned with a lower bound. Different histories often leave the same answers, so finished
+// subtrees are memoized by their candidate set and remaining attempts.
+public final class DecisionTreeCompiler {
+    public static final int DEFAULT_BREADTH = 3;
+    // Candidate sets at least this large are searched in parallel
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    private final int[] guessWords;
+    private final int[] answerWords;
+    // Position of every answer in the guess list
+    private final int[] answerGuesses;
+    private final int maxAttempts;
+    private final int breadth;
+    private final ForkJoinPool pool;
+    private final BatchScorer scorer = BatchScorer.create();
+    private final ConcurrentMap<CandidateSet, Subtree> memo = new ConcurrentHashMap<>();
+
+    public DecisionTreeCompiler(WordLoader dictionary) {
+        this(dictionary.getAllWords(), dictionary.getAllWords(), dictionary.getConfig().maxAttempts(),
+                DEFAULT_BREADTH, ForkJoinPool.commonPool());
+    }
+
+    // Every answer must also be an allowed guess.
+    public DecisionTreeCompiler(List<String> allowedGuesses, List<String> possibleAnswers, int maxAttempts, int breadth,
+                                ForkJoinPool pool) {
+        if (allowedGuesses.isEmpty() || possibleAnswers.isEmpty()) {
+            throw new IllegalArgumentException("Guess and answer lists cannot be empty");
+        }
+        if (maxAttempts < 1 || breadth < 1 || pool == null) {
+            throw new IllegalArgumentException("Attempts and breadth must be positive and a pool is required");
+        }
+        this.guessWords = PackedWord.encodeAll(allowedGuesses);
+        this.answerWords = PackedWord.encodeAll(possibleAnswers);
+        this.maxAttempts = maxAttempts;
+        this.breadth = breadth;
+        this.pool = pool;
+
+        DictionaryIndex guessIndex = new DictionaryIndex(guessWords);
+        this.answerGuesses = new int[answerWords.length];
+        for (int i = 0; i < answerWords.length; i++) {
+            answerGuesses[i] = guessIndex.indexOf(answerWords[i]);
+            if (answerGuesses[i] < 0) {
+                throw new IllegalArgumentException("Answer is not an allowed guess: " + PackedWord.decode(answerWords[i]));
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: DecisionTreeCompiler <output file> [breadth]");
+            System.exit(2);
+        }
+        WordLoader dictionary = DictionaryRegistry.getDefault();
+        int breadth = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BREADTH;
+        DecisionTreeCompiler compiler = new DecisionTreeCompiler(dictionary.getAllWords(), dictionary.getAllWords(),
+                dictionary.getConfig().maxAttempts(), breadth, ForkJoinPool.commonPool());
+        long start = System.nanoTime();
+        DecisionTree tree = compiler.compile();
+        tree.write(Path.of(args[0]));
+        System.out.printf("Compiled %d nodes in %.1f s: %s%n", tree.getNodeCount(), (System.nanoTime() - start) / 1e9, tree);
+    }
+
+    public DecisionTree compile() {
+        int[] all = new int[answerWords.length];
+        Arrays.setAll(all, i -> i);
+        Subtree root = pool.invoke(new Search(all, maxAttempts));
+        memo.clear();
+        return DecisionTree.build(guessWords, answerWords, maxAttempts, root);
+    }
+
+    // Best subtree for the candidates (answer positions in ascending order) with the attempts left.
+    private Subtree solve(int[] candidates, int attemptsLeft) {
+        if (attemptsLeft == 0) {
+            return Subtree.failed(candidates.length);
+        }
+        if (candidates.length == 1) {
+            return Subtree.leaf(answerGuesses[candidates[0]]);
+        }
+        CandidateSet key = new CandidateSet(candidates, attemptsLeft);
+        Subtree cached = memo.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        AnswerColumns columns = AnswerColumns.of(answerWordsOf(candidates));
+        int[] options = rankGuesses(candidates, columns);
+        Subtree best;
+        if (candidates.length >= PARALLEL_THRESHOLD && options.length > 1) {
+            List<OptionSearch> tasks = new ArrayList<>(options.length);
+            for (int option : options) {
+                tasks.add(new OptionSearch(option, candidates, columns, attemptsLeft));
+            }
+            best = null;
+            for (OptionSearch task : ForkJoinTask.invokeAll(tasks)) {
+                Subtree subtree = task.join();
+                if (subtree != null && subtree.isBetterThan(best)) {
+                    best = subtree;
+                }
+            }
+        } else {
+            best = null;
+            for (int option : options) {
+                Subtree subtree = evaluate(option, candidates, columns, attemptsLeft, best);
+                if (subtree != null && subtree.isBetterThan(best)) {
+                    best = subtree;
+                }
+            }
+        }
+        if (best == null) {
+            // No guess splits the candidates, which only happens with duplicate answers
+            best = Subtree.failed(candidates.length);
+        }
+        memo.putIfAbsent(key, best);
+        return best;
+    }
+
+    // Subtree that plays the guess first, or null if it cannot beat the bound or splits nothing.
+    private Subtree evaluate(int guess, int[] candidates, AnswerColumns columns, int attemptsLeft, Subtree bound) {
+        byte[] patterns = new byte[candidates.length];
+        scorer.score(guessWords[guess], columns, patterns);
+        int[][] buckets = partition(candidates, patterns);
+
+        // Every candidate spends this guess; every other one left in a bucket at least one more,
+        // all but one of them at least two
+        int lowerBound = candidates.length;
+        int branches = 0;
+        for (int pattern = 0; pattern < FeedbackPattern.ALL_CORRECT; pattern++) {
+            int[] bucket = buckets[pattern];
+            if (bucket != null) {
+                if (bucket.length == candidates.length) {
+                    return null;
+                }
+                lowerBound += 2 * bucket.length - 1;
+                branches++;
+            }
+        }
+        if (bound != null && bound.failures == 0 && lowerBound >= bound.cost) {
+            return null;
+        }
+
+        int[] childPatterns = new int[branches];
+        Subtree[] children = new Subtree[branches];
+        int child = 0;
+        for (int pattern = 0; pattern < FeedbackPattern.ALL_CORRECT; pattern++) {
+            if (buckets[pattern] != null) {
+                childPatterns[child++] = pattern;
+            }
+        }
+        if (candidates.length >= PARALLEL_THRESHOLD) {
+            List<Search> tasks = new ArrayList<>(branches);
+            for (int pattern : childPatterns) {
+                tasks.add(new Search(buckets[pattern], attemptsLeft - 1));
+            }
+            ForkJoinTask.invokeAll(tasks);
+            for (int i = 0; i < branches; i++) {
+                children[i] = tasks.get(i).join();
+            }
+        } else {
+            for (int i = 0; i < branches; i++) {
+                children[i] = solve(buckets[childPatterns[i]], attemptsLeft - 1);
+            }
+        }
+        return Subtree.node(guess, candidates.length, childPatterns, children);
+    }
+
+    // The breadth guesses with the highest entropy; ties go to a guess that could be the answer,
+    // then to the earlier word, as in EntropySolver.
+    private int[] rankGuesses(int[] candidates, AnswerColumns columns) {
+        DictionaryIndex candidateIndex = new DictionaryIndex(answerWordsOf(candidates));
+        byte[] patterns = new byte[candidates.length];
+        int[] histogram = new int[FeedbackPattern.PATTERN_COUNT];
+        int count = Math.min(breadth, guessWords.length);
+        int[] top = new int[count];
+        double[] topEntropy = new double[count];
+        boolean[] topCandidate = new boolean[count];
+        int filled = 0;
+        for (int g = 0; g < guessWords.length; g++) {
+            scorer.histogram(guessWords[g], columns, patterns, histogram);
+            double entropy = EntropySolver.entropy(histogram, candidates.length);
+            boolean candidate = candidateIndex.contains(guessWords[g]);
+            // Insertion into the short sorted list; equal entropy keeps the earlier word first
+            int position = filled;
+            while (position > 0 && (entropy > topEntropy[position - 1]
+                    || (entropy == topEntropy[position - 1] && candidate && !topCandidate[position - 1]))) {
+                position--;
+            }
+            if (position == count) {
+                continue;
+            }
+            int moved = Math.min(filled, count - 1) - position;
+            System.arraycopy(top, position, top, position + 1, moved);
+            System.arraycopy(topEntropy, position, topEntropy, position + 1, moved);
+            System.arraycopy(topCandidate, position, topCandidate, position + 1, moved);
+            top[position] = g;
+            topEntropy[position] = entropy;
+            topCandidate[position] = candidate;
+            filled = Math.min(filled + 1, count);
+        }
+        return Arrays.copyOf(top, filled);
+    }
+
+    private static int[][] partition(int[] candidates, byte[] patterns) {
+        int[] counts = new int[FeedbackPattern.PATTERN_COUNT];
+        for (byte pattern : patterns) {
+            counts[pattern & 0xFF]++;
+        }
+        int[][] buckets = new int[FeedbackPattern.PATTERN_COUNT][];
+        for (int pattern = 0; pattern < counts.length; pattern++) {
+            if (counts[pattern] > 0) {
+                buckets[pattern] = new int[counts[pattern]];
+            }
+        }
+        // Filling in order keeps every bucket ascending
+        int[] filled = new int[FeedbackPattern.PATTERN_COUNT];
+        for (int i = 0; i < candidates.length; i++) {
+            int pattern = patterns[i] & 0xFF;
+            buckets[pattern][filled[pattern]++] = candidates[i];
+        }
+        return buckets;
+    }
+
+    private int[] answerWordsOf(int[] candidates) {
+        int[] words = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            words[i] = answerWords[candidates[i]];
+        }
+        return words;
+    }
+
+    // Result of the search below one history. cost is the total number of guesses the solved
+    // answers take from here; failures counts the answers not found in time.
+    record Subtree(int guess, int cost, int failures, int[] patterns, Subtree[] children) {
+        private static final int[] NO_PATTERNS = new int[0];
+        private static final Subtree[] NO_CHILDREN = new Subtree[0];
+
+        static Subtree leaf(int guess) {
+            return new Subtree(guess, 1, 0, NO_PATTERNS, NO_CHILDREN);
+        }
+
+        static Subtree failed(int answers) {
+            return new Subtree(-1, 0, answers, NO_PATTERNS, NO_CHILDREN);
+        }
+
+        static Subtree node(int guess, int answers, int[] patterns, Subtree[] children) {
+            int cost = answers;
+            int failures = 0;
+            for (Subtree child : children) {
+                cost += child.cost;
+                failures += child.failures;
+            }
+            return new Subtree(guess, cost, failures, patterns, children);
+        }
+
+        boolean isFailed() {
+            return guess < 0;
+        }
+
+        boolean isBetterThan(Subtree other) {
+            if (other == null) {
+                return true;
+            }
+            if (failures != other.failures) {
+                return failures < other.failures;
+            }
+            return cost < other.cost;
+        }
+    }
+
+    // Memo key; the fingerprint makes hashing cheap and the array keeps collisions from matching.
+    private static final class CandidateSet {
+        private final int[] candidates;
+        private final int attemptsLeft;
+        private final long fingerprint;
+
+        CandidateSet(int[] candidates, int attemptsLeft) {
+            this.candidates = candidates;
+            this.attemptsLeft = attemptsLeft;
+            long hash = attemptsLeft;
+            for (int candidate : candidates) {
+                hash = (hash ^ candidate) * 0x9E3779B97F4A7C15L;
+                hash ^= hash >>> 29;
+            }
+            this.fingerprint = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CandidateSet other
+                    && fingerprint == other.fingerprint
+                    && attemptsLeft == other.attemptsLeft
+                    && Arrays.equals(candidates, other.candidates);
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (fingerprint ^ (fingerprint >>> 32));
+        }
+    }
+
+    private final class Search extends RecursiveTask<Subtree> {
+        private final int[] candidates;
+        private final int attemptsLeft;
+
+        Search(int[] candidates, int attemptsLeft) {
+            this.candidates = candidates;
+            this.attemptsLeft = attemptsLeft;
+        }
+
+        @Override
+        protected Subtree compute() {
+            return solve(candidates, attemptsLeft);
+        }
+    }
+
+    // Options searched in parallel share no bound, so none of them is pruned.
+    private final class OptionSearch extends RecursiveTask<Subtree> {
+        private final int guess;
+        private final int[] candidates;
+        private final AnswerColumns columns;
+        private final int attemptsLeft;
+
+        OptionSearch(int guess, int[] candidates, AnswerColumns columns, int attemptsLeft) {
+            this.guess = guess;
+            this.candidates = candidates;
+            this.columns = columns;
+            this.attemptsLeft = attemptsLeft;
+        }
+
+        @Override
+        protected Subtree compute() {
+            return evaluate(guess, candidates, columns, attemptsLeft, null);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.util.DictionaryIndex;
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Suggests the guess that maximizes the expected information (Shannon entropy of the
+// feedback distribution) over the answers still consistent with the game so far.
+public class EntropySolver {
+    // Guesses scored by one fork/join leaf before the range is split further
+    private static final int LEAF_SIZE = 32;
+
+    private final int[] guessWords;
+    private final CandidateIndex answerIndex;
+    private final ForkJoinPool pool;
+    private final BatchScorer scorer = BatchScorer.create();
+
+    public EntropySolver(WordLoader dictionary) {
+        this(dictionary.getAllWords(), dictionary.getAllWords(), ForkJoinPool.commonPool());
+    }
+
+    public EntropySolver(List<String> allowedGuesses, List<String> possibleAnswers, ForkJoinPool pool) {
+        if (allowedGuesses.isEmpty() || possibleAnswers.isEmpty()) {
+            throw new IllegalArgumentException("Guess and answer lists cannot be empty");
+        }
+        this.guessWords = PackedWord.encodeAll(allowedGuesses);
+        this.answerIndex = new CandidateIndex(PackedWord.encodeAll(possibleAnswers));
+        this.pool = pool;
+    }
+
+    public String suggest(GameProcessor game) {
+        return suggest(game.getGuesses(), game.guessOutcomes());
+    }
+
+    public String suggest(List<String> guesses, List<GuessOutcome[]> outcomes) throws GameException {
+        int[] candidates = filterCandidates(guesses, outcomes);
+        if (candidates.length == 0) {
+            throw new GameException("No possible answer is consistent with the guesses so far");
+        }
+        // With one or two candidates left, guessing one of them is never worse than exploring
+        if (candidates.length <= 2) {
+            return PackedWord.decode(candidates[0]);
+        }
+
+        DictionaryIndex candidateIndex = new DictionaryIndex(candidates);
+        AnswerColumns answers = AnswerColumns.of(candidates);
+        Choice best = pool.invoke(new GuessSearch(answers, candidateIndex, 0, guessWords.length));
+        return PackedWord.decode(guessWords[best.guessIndex]);
+    }
+
+    public List<String> remainingCandidates(List<String> guesses, List<GuessOutcome[]> outcomes) {
+        int[] candidates = filterCandidates(guesses, outcomes);
+        List<String> words = new ArrayList<>(candidates.length);
+        for (int candidate : candidates) {
+            words.add(PackedWord.decode(candidate));
+        }
+        return words;
+    }
+
+    // Expected information in bits gained by playing the guess against the given candidates.
+    public static double entropy(int[] histogram, int total) {
+        double sum = 0;
+        for (int count : histogram) {
+            if (count > 0) {
+                sum += count * Math.log(count);
+            }
+        }
+        return (Math.log(total) - sum / total) / Math.log(2);
+    }
+
+    private int[] filterCandidates(List<String> guesses, List<GuessOutcome[]> outcomes) {
+        if (guesses.size() != outcomes.size()) {
+            throw new IllegalArgumentException("Each guess needs exactly one outcome");
+        }
+        long[] candidates = answerIndex.allWords();
+        for (int i = 0; i < guesses.size(); i++) {
+            answerIndex.apply(candidates, guesses.get(i), outcomes.get(i));
+        }
+        return answerIndex.packedWords(candidates);
+    }
+
+    private record Choice(int guessIndex, double entropy, boolean candidate) {
+        boolean isBetterThan(Choice other) {
+            return other == null || other.isWorseThan(guessIndex, entropy, candidate);
+        }
+
+        // Higher entropy wins; ties go to a guess that could be the answer, then to the earlier word
+        boolean isWorseThan(int otherIndex, double otherEntropy, boolean otherCandidate) {
+            if (entropy != otherEntropy) {
+                return otherEntropy > entropy;
+            }
+            if (candidate != otherCandidate) {
+                return otherCandidate;
+            }
+            return otherIndex < guessIndex;
+        }
+    }
+
+    // Splits the guess range in halves; every leaf owns its histogram and pattern buffer,
+    // so workers share nothing mutable and only the best choices are merged.
+    private final class GuessSearch extends RecursiveTask<Choice> {
+        private final AnswerColumns candidates;
+        private final DictionaryIndex candidateIndex;
+        private final int from;
+        private final int to;
+
+        GuessSearch(AnswerColumns candidates, DictionaryIndex candidateIndex, int from, int to) {
+            this.candidates = candidates;
+            this.candidateIndex = candidateIndex;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Choice compute() {
+            if (to - from <= LEAF_SIZE) {
+                return scoreRange();
+            }
+            int middle = (from + to) >>> 1;
+            GuessSearch left = new GuessSearch(candidates, candidateIndex, from, middle);
+            left.fork();
+            Choice right = new GuessSearch(candidates, candidateIndex, middle, to).compute();
+            Choice leftChoice = left.join();
+            return leftChoice.isBetterThan(right) ? leftChoice : right;
+        }
+
+        private Choice scoreRange() {
+            byte[] patterns = new byte[candidates.size()];
+            int[] histogram = new int[FeedbackPattern.PATTERN_COUNT];
+            Choice best = null;
+            for (int g = from; g < to; g++) {
+                int guess = guessWords[g];
+                scorer.histogram(guess, candidates, patterns, histogram);
+                double entropy = entropy(histogram, candidates.size());
+                boolean candidate = candidateIndex.contains(guess);
+                if (best == null || best.isWorseThan(g, entropy, candidate)) {
+                    best = new Choice(g, entropy, candidate);
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.exceptions.StorageException;
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Pattern code for every (guess, answer) pair, stored row-major as one byte per pair.
+public class FeedbackMatrix {
+    private static final int MAGIC = 0x57464D58; // "WFMX"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+
+    private final int guessCount;
+    private final int answerCount;
+    private final long dictionaryHash;
+    private final ByteBuffer patterns;
+
+    private FeedbackMatrix(int guessCount, int answerCount, long dictionaryHash, ByteBuffer patterns) {
+        this.guessCount = guessCount;
+        this.answerCount = answerCount;
+        this.dictionaryHash = dictionaryHash;
+        this.patterns = patterns;
+    }
+
+    // Computes the matrix in memory without touching the file system.
+    public static FeedbackMatrix compute(List<String> guesses, List<String> answers) {
+        int[] packedGuesses = PackedWord.encodeAll(guesses);
+        int[] packedAnswers = PackedWord.encodeAll(answers);
+        byte[] data = computePatterns(packedGuesses, packedAnswers);
+        return new FeedbackMatrix(packedGuesses.length, packedAnswers.length,
+                dictionaryHash(packedGuesses, packedAnswers), ByteBuffer.wrap(data));
+    }
+
+    public static FeedbackMatrix load(WordLoader dictionary, Path cacheDirectory) throws StorageException {
+        List<String> words = dictionary.getAllWords();
+        return load(words, words, cacheDirectory);
+    }
+
+    // Memory-maps the cached matrix for these word lists, computing and storing it first if needed.
+    public static FeedbackMatrix load(List<String> guesses, List<String> answers, Path cacheDirectory)
+            throws StorageException {
+        int[] packedGuesses = PackedWord.encodeAll(guesses);
+        int[] packedAnswers = PackedWord.encodeAll(answers);
+        long hash = dictionaryHash(packedGuesses, packedAnswers);
+
+        Path file = cacheDirectory.resolve(String.format("feedback-%016x.bin", hash));
+        FeedbackMatrix cached = tryMap(file, packedGuesses.length, packedAnswers.length, hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        write(file, packedGuesses, packedAnswers, hash);
+        cached = tryMap(file, packedGuesses.length, packedAnswers.length, hash);
+        if (cached == null) {
+            throw new StorageException(file, "Feedback matrix could not be read back after writing");
+        }
+        return cached;
+    }
+
+    public int pattern(int guessIndex, int answerIndex) {
+        if (guessIndex < 0 || guessIndex >= guessCount || answerIndex < 0 || answerIndex >= answerCount) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Invalid matrix position: (%d, %d)", guessIndex, answerIndex));
+        }
+        return patterns.get(guessIndex * answerCount + answerIndex) & 0xFF;
+    }
+
+    public GuessOutcome[] outcomes(int guessIndex, int answerIndex) {
+        return FeedbackPattern.toOutcomes(pattern(guessIndex, answerIndex));
+    }
+
+    public int getGuessCount() {
+        return guessCount;
+    }
+
+    public int getAnswerCount() {
+        return answerCount;
+    }
+
+    public long getDictionaryHash() {
+        return dictionaryHash;
+    }
+
+    // FNV-1a over both word lists, used to key cache files to the dictionary they were built from.
+    public static long dictionaryHash(int[] packedGuesses, int[] packedAnswers) {
+        long hash = 0xCBF29CE484222325L;
+        hash = mix(hash, packedGuesses.length);
+        for (int word : packedGuesses) {
+            hash = mix(hash, word);
+        }
+        hash = mix(hash, packedAnswers.length);
+        for (int word : packedAnswers) {
+            hash = mix(hash, word);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        for (int i = 0; i < 4; i++) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // Both compute and load build the matrix here, so both are held to the size a single array, or a
+    // mapped cache file with its header, can take.
+    private static byte[] computePatterns(int[] packedGuesses, int[] packedAnswers) {
+        int answerCount = packedAnswers.length;
+        long size = (long) packedGuesses.length * answerCount;
+        if (HEADER_SIZE + size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Feedback matrix too large: " + size + " entries");
+        }
+        byte[] data = new byte[(int) size];
+        // Rows are independent, and the checker keeps no state, so workers share it and score
+        // straight into their own row of the matrix
+        WordChecker checker = new WordChecker();
+        IntStream.range(0, packedGuesses.length).parallel()
+                .forEach(g -> checker.score(packedGuesses[g], packedAnswers, data, g * answerCount));
+        return data;
+    }
+
+    private static FeedbackMatrix tryMap(Path file, int guessCount, int answerCount, long hash) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long expectedSize = HEADER_SIZE + (long) guessCount * answerCount;
+            if (channel.size() != expectedSize) {
+                return null;
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, expectedSize)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION
+                    || mapped.getInt(8) != guessCount || mapped.getInt(12) != answerCount
+                    || mapped.getLong(16) != hash) {
+                return null;
+            }
+            ByteBuffer body = mapped.position(HEADER_SIZE).slice();
+            return new FeedbackMatrix(guessCount, answerCount, hash, body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // Writes to a temporary file first so a concurrent reader never maps a half-written matrix.
+    private static void write(Path file, int[] packedGuesses, int[] packedAnswers, long hash)
+            throws StorageException {
+        byte[] data = computePatterns(packedGuesses, packedAnswers);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(packedGuesses.length)
+                .putInt(packedAnswers.length)
+                .putLong(hash)
+                .flip();
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), "feedback-", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer body = ByteBuffer.wrap(data);
+                while (header.hasRemaining() || body.hasRemaining()) {
+                    channel.write(new ByteBuffer[]{header, body});
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new StorageException(file, "Failed to write feedback matrix", e);
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException ignored) {
+            // The original write failure is the one worth reporting
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.wordle.game.logic;
+
+// Feedback for a whole guess encoded as a base-3 number, one digit per position
+// (position 0 is the least significant digit): 0 = INCORRECT, 1 = WRONG_POSITION, 2 = CORRECT.
+// The constants describe five-letter words; the length-taking methods serve the other variants.
+public final class FeedbackPattern {
+    public static final int WORD_LENGTH = 5;
+    public static final int PATTERN_COUNT = 243;
+    public static final int ALL_CORRECT = PATTERN_COUNT - 1;
+
+    private static final GuessOutcome[] BY_DIGIT = {
+            GuessOutcome.INCORRECT, GuessOutcome.WRONG_POSITION, GuessOutcome.CORRECT
+    };
+
+    private FeedbackPattern() {
+        throw new UnsupportedOperationException("FeedbackPattern class cannot be instantiated");
+    }
+
+    public static GuessOutcome[] toOutcomes(int code) {
+        return toOutcomes(code, WORD_LENGTH);
+    }
+
+    public static GuessOutcome[] toOutcomes(int code, int length) {
+        if (code < 0 || code >= patternCount(length)) {
+            throw new IllegalArgumentException("Invalid pattern code: " + code);
+        }
+        GuessOutcome[] outcomes = new GuessOutcome[length];
+        for (int i = 0; i < length; i++) {
+            outcomes[i] = BY_DIGIT[code % 3];
+            code /= 3;
+        }
+        return outcomes;
+    }
+
+    // Accepts the outcomes of any supported word length.
+    public static int fromOutcomes(GuessOutcome[] outcomes) {
+        if (outcomes == null || outcomes.length < 1 || outcomes.length > GameConfig.MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("Outcomes must contain between 1 and " + GameConfig.MAX_WORD_LENGTH + " entries");
+        }
+        int code = 0;
+        for (int i = outcomes.length - 1; i >= 0; i--) {
+            code = code * 3 + digit(outcomes[i]);
+        }
+        return code;
+    }
+
+    public static GuessOutcome outcomeAt(int code, int position) {
+        for (int i = 0; i < position; i++) {
+            code /= 3;
+        }
+        return BY_DIGIT[code % 3];
+    }
+
+    public static int patternCount(int length) {
+        if (length < 1 || length > GameConfig.MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("Unsupported word length: " + length);
+        }
+        int count = 1;
+        for (int i = 0; i < length; i++) {
+            count *= 3;
+        }
+        return count;
+    }
+
+    // Code of a fully solved word of the given length
+    public static int allCorrect(int length) {
+        return patternCount(length) - 1;
+    }
+
+    private static int digit(GuessOutcome outcome) {
+        if (outcome == null) {
+            throw new IllegalArgumentException("Outcome cannot be null");
+        }
+        return switch (outcome) {
+            case INCORRECT -> 0;
+            case WRONG_POSITION -> 1;
+            case CORRECT -> 2;
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.wordle.game.logic;
+
+// What single and multi-board games have in common once they are finished, e.g. for statistics.
+public interface Game {
+    long getGameId();
+
+    boolean isGameWon();
+
+    boolean isGameOver();
+
+    int getCurrentAttempt();
+
+    int getMaxAttempts();
+}
@@ -0,0 +1,8 @@
+package com.wordle.game.logic;
+
+// Called by GameProcessor and MultiBoardGame once a game is won or lost, on the thread that made
+// the final guess.
+@FunctionalInterface
+public interface GameCompletionListener {
+    void gameCompleted(Game game);
+}
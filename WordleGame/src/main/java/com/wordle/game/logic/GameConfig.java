@@ -0,0 +1,44 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.util.PackedWord;
+
+// Word length and attempt limit of a game. The dictionary, the checker and the game all take
+// their limits from one of these, so a variant is a single object rather than three constants.
+public record GameConfig(int wordLength, int maxAttempts) {
+    public static final int MIN_WORD_LENGTH = 2;
+    // Words are packed into a long for scoring, which bounds the length
+    public static final int MAX_WORD_LENGTH = PackedWord.MAX_LONG_WORD_LENGTH;
+    public static final GameConfig DEFAULT = new GameConfig(5, 5);
+
+    public GameConfig {
+        if (wordLength < MIN_WORD_LENGTH || wordLength > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException(String.format("Word length must be between %d and %d (was %d)",
+                    MIN_WORD_LENGTH, MAX_WORD_LENGTH, wordLength));
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be positive (was " + maxAttempts + ")");
+        }
+    }
+
+    public GameConfig withMaxAttempts(int attempts) {
+        return new GameConfig(wordLength, attempts);
+    }
+
+    // True for the five-letter words the int-packed dictionaries, solver and feedback tables use
+    public boolean isDefaultLength() {
+        return wordLength == DEFAULT.wordLength;
+    }
+
+    // Number of distinct feedback patterns for this length (3 ^ wordLength)
+    public int patternCount() {
+        return FeedbackPattern.patternCount(wordLength);
+    }
+
+    // Shape check for guesses: the right length and letters only. Whether every letter can be
+    // packed (A-Z) is left to the checker, which reports it as an invalid word.
+    public boolean isValidWord(String word) {
+        return word != null &&
+                word.length() == wordLength &&
+                word.chars().allMatch(Character::isLetter);
+    }
+}
@@ -1,72 +1,200 @@
 package com.wordle.game.logic;
 
+import com.wordle.game.events.GameCreatedEvent;
+import com.wordle.game.events.GameFinishedEvent;
+import com.wordle.game.events.GuessMadeEvent;
 import com.wordle.game.exceptions.GameException;
 import com.wordle.game.exceptions.InvalidWordException;
 import com.wordle.game.exceptions.WordLoadException;
+import com.wordle.game.metrics.GameMetrics;
+import com.wordle.game.util.DictionaryRegistry;
+import com.wordle.game.util.PackedWord;
 import com.wordle.game.util.WordLoader;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class GameProcessor {
-    private static final int MAX_ATTEMPTS = 5;
-    private static final int WORD_LENGTH = 5;
+public class GameProcessor implements Game {
+    // Identifies games in flight recorder events, multi-board ones included; unrelated to session ids
+    private static final AtomicLong NEXT_GAME_ID = new AtomicLong(1);
 
+    private final long gameId;
+    private final GameConfig config;
     private final WordChecker wordChecker;
     private final WordLoader wordLoader;
-    private final String targetWord;
+    // Null for a normal game; in adversarial mode there is no target until the game ends
+    private final CandidatePartitioner adversary;
+    private String targetWord;
     private final List<String> guesses;
     private final List<GuessOutcome[]> guessOutcomes;
 
+    private GameCompletionListener completionListener;
     private boolean gameWon;
     private boolean gameOver;
     private int currentAttempt;
 
     public GameProcessor() throws WordLoadException {
-        this.wordChecker = new WordChecker();
-        this.wordLoader = new WordLoader();
-        this.targetWord = wordLoader.getRandomWord();
-        this.guesses = new ArrayList<>();
-        this.guessOutcomes = new ArrayList<>();
-        this.gameWon = false;
-        this.gameOver = false;
-        this.currentAttempt = 0;
+        this(DictionaryRegistry.getDefault());
     }
 
     public GameProcessor(String targetWord) throws WordLoadException, InvalidWordException {
-        this.wordChecker = new WordChecker();
-        this.wordLoader = new WordLoader();
+        this(DictionaryRegistry.getDefault(), targetWord);
+    }
+
+    public GameProcessor(WordLoader dictionary) {
+        this(dictionary, randomTarget(dictionary));
+    }
 
-        if (!WordLoader.isWordValid(targetWord)) {
-            throw new InvalidWordException(targetWord, "Target word must be exactly 5 letters");
+    // Uses the given dictionary as is; nothing is loaded, so creating a game is constant time.
+    public GameProcessor(WordLoader dictionary, String targetWord) throws InvalidWordException {
+        this(dictionary, configOf(dictionary), targetWord);
+    }
+
+    // Overrides the dictionary's limits, e.g. to allow more attempts; the word length must match.
+    public GameProcessor(WordLoader dictionary, GameConfig config) {
+        this(dictionary, config, randomTarget(dictionary));
+    }
+
+    public GameProcessor(WordLoader dictionary, GameConfig config, String targetWord) throws InvalidWordException {
+        this(dictionary, config, targetWord, true);
+    }
+
+    // A restored game continues one that was already counted, so it is not announced again.
+    private GameProcessor(WordLoader dictionary, GameConfig config, String targetWord, boolean announce)
+            throws InvalidWordException {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionary cannot be null");
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        if (config.wordLength() != dictionary.getConfig().wordLength()) {
+            throw new IllegalArgumentException(String.format("Config word length %d does not match the dictionary's %d",
+                    config.wordLength(), dictionary.getConfig().wordLength()));
+        }
+        if (!config.isValidWord(targetWord)) {
+            throw new InvalidWordException(targetWord, InvalidWordException.Reason.of(targetWord, config.wordLength()),
+                    String.format("Target word must be exactly %d letters", config.wordLength()));
         }
 
+        this.gameId = nextGameId();
+        this.config = config;
+        this.wordChecker = new WordChecker(config);
+        this.wordLoader = dictionary;
+        this.adversary = null;
         this.targetWord = targetWord.toUpperCase();
         this.guesses = new ArrayList<>();
         this.guessOutcomes = new ArrayList<>();
         this.gameWon = false;
         this.gameOver = false;
         this.currentAttempt = 0;
+        if (announce) {
+            GameMetrics.GAMES_STARTED.increment();
+            GameCreatedEvent.emit(gameId, dictionary.getWordCount(), config.wordLength(), config.maxAttempts());
+        }
+    }
+
+    private GameProcessor(WordLoader dictionary, GameConfig config, CandidatePartitioner adversary) {
+        this.gameId = nextGameId();
+        this.config = config;
+        this.wordChecker = new WordChecker(config);
+        this.wordLoader = dictionary;
+        this.adversary = adversary;
+        this.targetWord = null;
+        this.guesses = new ArrayList<>();
+        this.guessOutcomes = new ArrayList<>();
+        GameMetrics.GAMES_STARTED.increment();
+        GameCreatedEvent.emit(gameId, dictionary.getWordCount(), config.wordLength(), config.maxAttempts());
+    }
+
+    // Absurdle-style game: every guess gets the feedback that keeps the most dictionary words possible,
+    // and the game is won only once a single word remains and is guessed.
+    public static GameProcessor adversarial(WordLoader dictionary) {
+        return adversarial(dictionary, configOf(dictionary));
+    }
+
+    public static GameProcessor adversarial(WordLoader dictionary, GameConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        if (!configOf(dictionary).isDefaultLength() || !config.isDefaultLength()) {
+            throw new IllegalArgumentException("Adversarial games use five-letter words only");
+        }
+        return new GameProcessor(dictionary, config, new CandidatePartitioner(dictionary.getAllWords()));
+    }
+
+    // Rebuilds a game from its target and guesses, e.g. from a CompactSession. The guesses are scored
+    // again, but neither the game nor its guesses show up in the metrics, events or listener twice.
+    public static GameProcessor restore(WordLoader dictionary, GameConfig config, String targetWord, List<String> guesses)
+            throws GameException {
+        if (guesses == null) {
+            throw new IllegalArgumentException("Guesses cannot be null");
+        }
+        GameProcessor game = new GameProcessor(dictionary, config, targetWord, false);
+        for (String guess : guesses) {
+            game.applyGuess(guess, false);
+        }
+        return game;
+    }
+
+    private static GameConfig configOf(WordLoader dictionary) {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionary cannot be null");
+        }
+        return dictionary.getConfig();
+    }
+
+    private static String randomTarget(WordLoader dictionary) {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionary cannot be null");
+        }
+        return dictionary.getRandomWord();
     }
 
     public GuessOutcome[] makeGuess(String guess) throws GameException {
+        long start = System.nanoTime();
+        GuessMadeEvent event = new GuessMadeEvent();
+        event.begin();
+        try {
+            GuessOutcome[] outcomes = applyGuess(guess, true);
+            event.complete(gameId, guesses.get(currentAttempt - 1), currentAttempt,
+                    FeedbackPattern.fromOutcomes(outcomes), null);
+            return outcomes;
+        } catch (InvalidWordException e) {
+            GameMetrics.invalidGuess(e);
+            event.complete(gameId, guess, currentAttempt + 1, -1, e.getReason().name());
+            throw e;
+        } finally {
+            GameMetrics.GUESS.recordSince(start);
+        }
+    }
+
+    private GuessOutcome[] applyGuess(String guess, boolean announce) throws GameException {
         if (gameOver) {
             throw new GameException("Game is already over");
         }
-        if (currentAttempt >= MAX_ATTEMPTS) {
+        if (currentAttempt >= config.maxAttempts()) {
             throw new GameException("Maximum attempts exceeded");
         }
 
         // Validate the guess format
-        if (!WordLoader.isWordValid(guess)) {
-            throw new InvalidWordException(guess, "Must be exactly 5 letters containing only alphabetic characters");
+        if (!config.isValidWord(guess)) {
+            throw new InvalidWordException(guess, InvalidWordException.Reason.of(guess, config.wordLength()),
+                    String.format("Must be exactly %d letters containing only alphabetic characters", config.wordLength()));
         }
 
         String updatedGuess = guess.toUpperCase();
 
-        // Validate against the target word
-        GuessOutcome[] guessOutcomes1 = wordChecker.validateGuess(updatedGuess, targetWord);
+        // Validate against the target word, or let the adversary pick the feedback
+        long validationStart = System.nanoTime();
+        GuessOutcome[] guessOutcomes1 = adversary != null
+                ? FeedbackPattern.toOutcomes(adversary.adversarialMove(PackedWord.encode(updatedGuess)))
+                : wordChecker.validateGuess(updatedGuess, targetWord);
+        if (announce) {
+            GameMetrics.VALIDATION.recordSince(validationStart);
+        }
 
         // Update game state
         guesses.add(updatedGuess);
@@ -74,40 +202,110 @@ public class GameProcessor {
         currentAttempt++;
 
         // Check for win condition
-        if (wordChecker.checkForExactMatch(updatedGuess, targetWord)) {
+        boolean won = adversary != null
+                ? FeedbackPattern.fromOutcomes(guessOutcomes1) == FeedbackPattern.ALL_CORRECT
+                : wordChecker.checkForExactMatch(updatedGuess, targetWord);
+        if (adversary != null && (won || currentAttempt >= config.maxAttempts())) {
+            // The adversary commits to a word only when the game ends
+            targetWord = PackedWord.decode(adversary.packedWordAt(0));
+        }
+        if (won) {
             gameWon = true;
             gameOver = true;
-        } else if (currentAttempt >= MAX_ATTEMPTS) {
+            if (announce) {
+                GameMetrics.GAMES_WON.increment();
+                GameFinishedEvent.emit(gameId, true, currentAttempt, targetWord);
+                notifyCompleted();
+            }
+        } else if (currentAttempt >= config.maxAttempts()) {
             gameOver = true;
+            if (announce) {
+                GameMetrics.GAMES_LOST.increment();
+                GameFinishedEvent.emit(gameId, false, currentAttempt, targetWord);
+                notifyCompleted();
+            }
         }
 
         return guessOutcomes1;
     }
 
+    private void notifyCompleted() {
+        if (completionListener != null) {
+            completionListener.gameCompleted(this);
+        }
+    }
+
+    // Replaces the listener told about the end of this game; null removes it.
+    public void setCompletionListener(GameCompletionListener listener) {
+        this.completionListener = listener;
+    }
+
+    public GameCompletionListener getCompletionListener() {
+        return completionListener;
+    }
+
+    public boolean isAdversarial() {
+        return adversary != null;
+    }
+
+    // Words the adversary could still choose; only for adversarial games.
+    public int getRemainingCandidateCount() {
+        if (adversary == null) {
+            throw new IllegalStateException("Only adversarial games track candidates");
+        }
+        return adversary.size();
+    }
+
     public boolean isGuessInWordList(String guess) {
         return wordLoader.isWordInList(guess);
     }
 
+    @Override
     public boolean isGameWon() {
         return gameWon;
     }
 
+    @Override
     public boolean isGameOver() {
         return gameOver;
     }
 
+    @Override
     public int getCurrentAttempt() {
         return currentAttempt;
     }
 
     public int getRemainingAttempts() {
-        return MAX_ATTEMPTS - currentAttempt;
+        return config.maxAttempts() - currentAttempt;
     }
 
+    @Override
     public int getMaxAttempts() {
-        return MAX_ATTEMPTS;
+        return config.maxAttempts();
     }
 
+    public int getWordLength() {
+        return config.wordLength();
+    }
+
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    public static int getDefaultMaxAttempts() {
+        return GameConfig.DEFAULT.maxAttempts();
+    }
+
+    static long nextGameId() {
+        return NEXT_GAME_ID.getAndIncrement();
+    }
+
+    @Override
+    public long getGameId() {
+        return gameId;
+    }
+
+    // Null while an adversarial game is still in progress.
     public String getTargetWord() {
         return targetWord;
     }
@@ -116,6 +314,10 @@ public class GameProcessor {
         return wordLoader.getWordCount();
     }
 
+    public WordLoader getDictionary() {
+        return wordLoader;
+    }
+
     public List<String> getGuesses() {
         return Collections.unmodifiableList(guesses);
     }
@@ -144,13 +346,19 @@ public class GameProcessor {
         gameWon = false;
         gameOver = false;
         currentAttempt = 0;
+        if (adversary != null) {
+            adversary.reset();
+            targetWord = null;
+        }
+        GameMetrics.GAMES_STARTED.increment();
+        GameCreatedEvent.emit(gameId, wordLoader.getWordCount(), config.wordLength(), config.maxAttempts());
     }
 
     public String getGameSummary() {
         StringBuilder summary = new StringBuilder();
         summary.append(String.format("Game Status: %s%n",
                 gameWon ? "WON" : gameOver ? "LOST" : "IN PROGRESS"));
-        summary.append(String.format("Attempts: %d/%d%n", currentAttempt, MAX_ATTEMPTS));
+        summary.append(String.format("Attempts: %d/%d%n", currentAttempt, config.maxAttempts()));
         summary.append(String.format("Remaining: %d%n", getRemainingAttempts()));
 
         if (gameOver) {
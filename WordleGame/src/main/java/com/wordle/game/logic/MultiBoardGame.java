@@ -0,0 +1,336 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.events.GameCreatedEvent;
+import com.wordle.game.events.GameFinishedEvent;
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.exceptions.InvalidWordException;
+import com.wordle.game.metrics.GameMetrics;
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Quordle/Octordle-style game: every guess is played on N boards at once, each with its own hidden
+// target, and the game is won once every board is solved. The targets still unsolved are kept as
+// answer columns, so a guess is one batch scorer call over them however many boards there are;
+// solved boards are compacted out after the guess. Not thread-safe, like GameProcessor.
+public class MultiBoardGame implements Game {
+    public static final int MIN_BOARDS = 2;
+    // Far more boards than fit side by side on any terminal
+    public static final int MAX_BOARDS = 64;
+    // Returned by patternAt for boards solved before that guess
+    public static final int NO_PATTERN = -1;
+    // Attempts on top of the board count when none are given: 9 for Quordle, 13 for Octordle
+    private static final int EXTRA_ATTEMPTS = 5;
+
+    private final long gameId;
+    private final GameConfig config;
+    private final WordLoader wordLoader;
+    private final String[] targetWords;
+    private final AnswerColumns unsolved;
+    // Board of each unsolved column, compacted together with the columns
+    private final int[] unsolvedBoards;
+    private final byte[] patterns;
+    // [attempt][board] pattern code as a byte; NO_PATTERN once the board was solved earlier
+    private final byte[][] boardPatterns;
+    private final int[] solvedAt;
+    private final BatchScorer scorer;
+    private final List<String> guesses;
+
+    private int unsolvedCount;
+    private int currentAttempt;
+    private boolean gameWon;
+    private boolean gameOver;
+    private GameCompletionListener completionListener;
+
+    public MultiBoardGame(WordLoader dictionary, int boardCount) {
+        this(dictionary, defaultConfig(boardCount), randomTargets(dictionary, boardCount));
+    }
+
+    public MultiBoardGame(WordLoader dictionary, GameConfig config, List<String> targetWords) throws InvalidWordException {
+        this(dictionary, config, targetWords, BatchScorer.create());
+    }
+
+    MultiBoardGame(WordLoader dictionary, GameConfig config, List<String> targetWords, BatchScorer scorer)
+            throws InvalidWordException {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionary cannot be null");
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        if (!config.isDefaultLength() || !dictionary.getConfig().isDefaultLength()) {
+            throw new IllegalArgumentException("Multi-board games use five-letter words only");
+        }
+        if (targetWords == null || targetWords.size() < MIN_BOARDS || targetWords.size() > MAX_BOARDS) {
+            throw new IllegalArgumentException(String.format("Between %d and %d targets are required",
+                    MIN_BOARDS, MAX_BOARDS));
+        }
+
+        int boardCount = targetWords.size();
+        int[] packedTargets = new int[boardCount];
+        this.targetWords = new String[boardCount];
+        for (int board = 0; board < boardCount; board++) {
+            String target = targetWords.get(board);
+            if (!config.isValidWord(target)) {
+                throw new InvalidWordException(target, InvalidWordException.Reason.of(target, config.wordLength()),
+                        String.format("Target word must be exactly %d letters", config.wordLength()));
+            }
+            this.targetWords[board] = target.toUpperCase();
+            packedTargets[board] = PackedWord.encode(this.targetWords[board]);
+        }
+
+        this.gameId = GameProcessor.nextGameId();
+        this.config = config;
+        this.wordLoader = dictionary;
+        this.unsolved = AnswerColumns.of(packedTargets);
+        this.unsolvedBoards = new int[boardCount];
+        this.patterns = new byte[boardCount];
+        this.boardPatterns = new byte[config.maxAttempts()][boardCount];
+        this.solvedAt = new int[boardCount];
+        this.scorer = scorer;
+        this.guesses = new ArrayList<>();
+        for (int board = 0; board < boardCount; board++) {
+            unsolvedBoards[board] = board;
+        }
+        this.unsolvedCount = boardCount;
+        GameMetrics.GAMES_STARTED.increment();
+        GameCreatedEvent.emit(gameId, dictionary.getWordCount(), config.wordLength(), config.maxAttempts());
+    }
+
+    // Every board needs its own target, so a small dictionary allows fewer boards.
+    public static int maxBoards(WordLoader dictionary) {
+        return Math.min(MAX_BOARDS, dictionary.getWordCount());
+    }
+
+    public static GameConfig defaultConfig(int boardCount) {
+        return GameConfig.DEFAULT.withMaxAttempts(boardCount + EXTRA_ATTEMPTS);
+    }
+
+    // Distinct random targets from the dictionary.
+    private static List<String> randomTargets(WordLoader dictionary, int boardCount) {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionary cannot be null");
+        }
+        if (boardCount < MIN_BOARDS || boardCount > maxBoards(dictionary)) {
+            throw new IllegalArgumentException("Cannot pick " + boardCount + " distinct targets");
+        }
+        Set<String> targets = new LinkedHashSet<>();
+        while (targets.size() < boardCount) {
+            targets.add(dictionary.getRandomWord());
+        }
+        return new ArrayList<>(targets);
+    }
+
+    // Plays the guess on every board. Returns the outcomes per board, null for boards already solved.
+    public GuessOutcome[][] makeGuess(String guess) throws GameException {
+        int attempt = playGuess(guess);
+        GuessOutcome[][] outcomes = new GuessOutcome[targetWords.length][];
+        for (int board = 0; board < outcomes.length; board++) {
+            outcomes[board] = getGuessOutcome(attempt, board);
+        }
+        return outcomes;
+    }
+
+    // Plays the guess without building outcome arrays and returns its attempt index; renderers read
+    // the feedback back with patternAt, e.g. into BoardBuffer.appendGuesses.
+    public int playGuess(String guess) throws GameException {
+        long start = System.nanoTime();
+        try {
+            return applyGuess(guess);
+        } catch (InvalidWordException e) {
+            GameMetrics.invalidGuess(e);
+            throw e;
+        } finally {
+            GameMetrics.GUESS.recordSince(start);
+        }
+    }
+
+    private int applyGuess(String guess) throws GameException {
+        if (gameOver) {
+            throw new GameException("Game is already over");
+        }
+        if (!config.isValidWord(guess)) {
+            throw new InvalidWordException(guess, InvalidWordException.Reason.of(guess, config.wordLength()),
+                    String.format("Must be exactly %d letters containing only alphabetic characters", config.wordLength()));
+        }
+        String updatedGuess = guess.toUpperCase();
+        int packedGuess = PackedWord.encode(updatedGuess);
+        int attempt = currentAttempt;
+
+        // One batched call scores every unsolved board
+        long validationStart = System.nanoTime();
+        scorer.score(packedGuess, unsolved, patterns);
+        GameMetrics.VALIDATION.recordSince(validationStart);
+
+        byte[] row = boardPatterns[attempt];
+        Arrays.fill(row, (byte) NO_PATTERN);
+        int solvedNow = 0;
+        for (int i = 0; i < unsolvedCount; i++) {
+            int board = unsolvedBoards[i];
+            row[board] = patterns[i];
+            if ((patterns[i] & 0xFF) == FeedbackPattern.ALL_CORRECT) {
+                solvedAt[board] = attempt + 1;
+                solvedNow++;
+            }
+        }
+        if (solvedNow > 0) {
+            // Board indexes follow the columns, which drop the solved targets in the same order
+            int kept = 0;
+            for (int i = 0; i < unsolvedCount; i++) {
+                if ((patterns[i] & 0xFF) != FeedbackPattern.ALL_CORRECT) {
+                    unsolvedBoards[kept++] = unsolvedBoards[i];
+                }
+            }
+            unsolvedCount = unsolved.remove(patterns, FeedbackPattern.ALL_CORRECT);
+        }
+
+        guesses.add(updatedGuess);
+        currentAttempt++;
+
+        if (unsolvedCount == 0) {
+            gameWon = true;
+            gameOver = true;
+            GameMetrics.GAMES_WON.increment();
+            finish();
+        } else if (currentAttempt >= config.maxAttempts()) {
+            gameOver = true;
+            GameMetrics.GAMES_LOST.increment();
+            finish();
+        }
+        return attempt;
+    }
+
+    // The event carries every target, comma separated, in board order.
+    private void finish() {
+        GameFinishedEvent.emit(gameId, gameWon, currentAttempt, String.join(",", targetWords));
+        if (completionListener != null) {
+            completionListener.gameCompleted(this);
+        }
+    }
+
+    // Replaces the listener told about the end of this game; null removes it.
+    public void setCompletionListener(GameCompletionListener listener) {
+        this.completionListener = listener;
+    }
+
+    public GameCompletionListener getCompletionListener() {
+        return completionListener;
+    }
+
+    // Pattern code the guess of this attempt got on the board, or NO_PATTERN if it was solved before.
+    public int patternAt(int attemptNumber, int board) {
+        checkAttempt(attemptNumber);
+        checkBoard(board);
+        byte pattern = boardPatterns[attemptNumber][board];
+        return pattern == NO_PATTERN ? NO_PATTERN : pattern & 0xFF;
+    }
+
+    public GuessOutcome[] getGuessOutcome(int attemptNumber, int board) {
+        int pattern = patternAt(attemptNumber, board);
+        return pattern == NO_PATTERN ? null : FeedbackPattern.toOutcomes(pattern);
+    }
+
+    public boolean isBoardSolved(int board) {
+        checkBoard(board);
+        return solvedAt[board] > 0;
+    }
+
+    // Attempt (1-based) that solved the board, or 0 while it is unsolved.
+    public int getSolvedAttempt(int board) {
+        checkBoard(board);
+        return solvedAt[board];
+    }
+
+    public int getBoardCount() {
+        return targetWords.length;
+    }
+
+    public int getSolvedCount() {
+        return targetWords.length - unsolvedCount;
+    }
+
+    // Hidden until the board is solved or the game is over.
+    public String getTargetWord(int board) {
+        checkBoard(board);
+        return solvedAt[board] > 0 || gameOver ? targetWords[board] : null;
+    }
+
+    public boolean isGuessInWordList(String guess) {
+        return wordLoader.isWordInList(guess);
+    }
+
+    @Override
+    public long getGameId() {
+        return gameId;
+    }
+
+    @Override
+    public boolean isGameWon() {
+        return gameWon;
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    @Override
+    public int getCurrentAttempt() {
+        return currentAttempt;
+    }
+
+    public int getRemainingAttempts() {
+        return config.maxAttempts() - currentAttempt;
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return config.maxAttempts();
+    }
+
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    public List<String> getGuesses() {
+        return Collections.unmodifiableList(guesses);
+    }
+
+    public String getGuess(int attemptNumber) {
+        checkAttempt(attemptNumber);
+        return guesses.get(attemptNumber);
+    }
+
+    private void checkAttempt(int attemptNumber) {
+        if (attemptNumber < 0 || attemptNumber >= currentAttempt) {
+            throw new IndexOutOfBoundsException("Invalid attempt number: " + attemptNumber);
+        }
+    }
+
+    private void checkBoard(int board) {
+        if (board < 0 || board >= targetWords.length) {
+            throw new IndexOutOfBoundsException("Invalid board: " + board);
+        }
+    }
+
+    public String getGameSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Game Status: %s%n",
+                gameWon ? "WON" : gameOver ? "LOST" : "IN PROGRESS"));
+        summary.append(String.format("Boards Solved: %d/%d%n", getSolvedCount(), targetWords.length));
+        summary.append(String.format("Attempts: %d/%d%n", currentAttempt, config.maxAttempts()));
+        summary.append(String.format("Remaining: %d%n", getRemainingAttempts()));
+
+        if (gameOver) {
+            summary.append(String.format("Target Words: %s%n", String.join(", ", targetWords)));
+        }
+
+        return summary.toString();
+    }
+}
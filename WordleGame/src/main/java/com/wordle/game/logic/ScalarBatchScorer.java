@@ -0,0 +1,78 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.events.ScoringBatchEvent;
+import com.wordle.game.util.PackedWord;
+
+// WordChecker's two passes run over the answer columns, one answer at a time.
+final class ScalarBatchScorer implements BatchScorer {
+    private static final int WORD_LENGTH = FeedbackPattern.WORD_LENGTH;
+    private static final int ALPHABET_SIZE = 26;
+
+    @Override
+    public void score(int packedGuess, AnswerColumns answers, byte[] patterns) {
+        checkArguments(answers, patterns);
+        ScoringBatchEvent event = new ScoringBatchEvent();
+        event.begin();
+        scoreRange(guessLetters(packedGuess), answers.columns(), patterns, 0, answers.size());
+        event.complete(answers.size(), name());
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    // Also scores the tail the vector scorer leaves when the answer count is not a multiple of its lanes.
+    static void scoreRange(byte[] guess, byte[][] columns, byte[] patterns, int from, int to) {
+        int[] counts = new int[ALPHABET_SIZE];
+        for (int i = from; i < to; i++) {
+            int greenMask = 0;
+            for (int p = 0; p < WORD_LENGTH; p++) {
+                int letter = columns[p][i];
+                if (letter == guess[p]) {
+                    greenMask |= 1 << p;
+                } else {
+                    counts[letter]++;
+                }
+            }
+
+            int code = 0;
+            int weight = 1;
+            for (int p = 0; p < WORD_LENGTH; p++) {
+                if ((greenMask & (1 << p)) != 0) {
+                    code += 2 * weight;
+                } else if (counts[guess[p]] > 0) {
+                    counts[guess[p]]--;
+                    code += weight;
+                }
+                weight *= 3;
+            }
+
+            for (int p = 0; p < WORD_LENGTH; p++) {
+                counts[columns[p][i]] = 0;
+            }
+            patterns[i] = (byte) code;
+        }
+    }
+
+    static byte[] guessLetters(int packedGuess) {
+        if (packedGuess == 0 || packedGuess == PackedWord.INVALID) {
+            throw new IllegalArgumentException("Not a packed word: " + packedGuess);
+        }
+        byte[] letters = new byte[WORD_LENGTH];
+        for (int p = 0; p < WORD_LENGTH; p++) {
+            letters[p] = (byte) PackedWord.letterAt(packedGuess, p);
+        }
+        return letters;
+    }
+
+    static void checkArguments(AnswerColumns answers, byte[] patterns) {
+        if (answers == null || patterns == null) {
+            throw new IllegalArgumentException("Answers and pattern buffer cannot be null");
+        }
+        if (patterns.length < answers.size()) {
+            throw new IllegalArgumentException(String.format("Pattern buffer holds %d entries, %d answers given",
+                    patterns.length, answers.size()));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.events.ScoringBatchEvent;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Scores one answer per byte lane, SPECIES.length() answers per step (32 with AVX2).
+// For each guess position p with letter L, lane-wise:
+//   green  = answer[p] == L
+//   yellow = !green && (copies of L at answer positions where the guess has another letter)
+//                    > (earlier guess positions holding L that were not green)
+// which is the greedy left-to-right assignment of WordChecker without a per-answer letter counter.
+// Codes up to 242 wrap in signed bytes, which is harmless since they are read back unsigned.
+final class VectorBatchScorer implements BatchScorer {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int WORD_LENGTH = FeedbackPattern.WORD_LENGTH;
+    private static final String NAME = "vector-" + SPECIES.vectorBitSize();
+
+    @Override
+    public void score(int packedGuess, AnswerColumns answers, byte[] patterns) {
+        ScalarBatchScorer.checkArguments(answers, patterns);
+        byte[] guess = ScalarBatchScorer.guessLetters(packedGuess);
+        byte[][] columns = answers.columns();
+        int size = answers.size();
+        int bound = SPECIES.loopBound(size);
+        ScoringBatchEvent event = new ScoringBatchEvent();
+        event.begin();
+
+        // Vectors stay in locals: stored in arrays they would be boxed on the heap
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            ByteVector code = ByteVector.zero(SPECIES);
+            int weight = 1;
+            for (int p = 0; p < WORD_LENGTH; p++) {
+                byte letter = guess[p];
+                VectorMask<Byte> green = ByteVector.fromArray(SPECIES, columns[p], i).eq(letter);
+                ByteVector available = ByteVector.zero(SPECIES);
+                ByteVector claimed = ByteVector.zero(SPECIES);
+                for (int q = 0; q < WORD_LENGTH; q++) {
+                    if (guess[q] != letter) {
+                        available = available.add((byte) 1, ByteVector.fromArray(SPECIES, columns[q], i).eq(letter));
+                    } else if (q < p) {
+                        claimed = claimed.add((byte) 1, ByteVector.fromArray(SPECIES, columns[q], i).eq(letter).not());
+                    }
+                }
+                VectorMask<Byte> yellow = available.compare(VectorOperators.GT, claimed).andNot(green);
+                code = code.add((byte) (2 * weight), green).add((byte) weight, yellow);
+                weight *= 3;
+            }
+            code.intoArray(patterns, i);
+        }
+        ScalarBatchScorer.scoreRange(guess, columns, patterns, bound, size);
+        event.complete(size, NAME);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
@@ -1,83 +1,153 @@
 package com.wordle.game.logic;
 
+import com.wordle.game.events.ScoringBatchEvent;
 import com.wordle.game.exceptions.InvalidWordException;
-
-import java.util.HashMap;
-import java.util.Map;
+import com.wordle.game.exceptions.InvalidWordException.Reason;
+import com.wordle.game.util.PackedWord;
 
 public class WordChecker {
     private static final int WORD_LENGTH = 5;
 
+    private final GameConfig config;
+
+    public WordChecker() {
+        this(GameConfig.DEFAULT);
+    }
+
+    public WordChecker(GameConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        this.config = config;
+    }
+
+    // Adapter over the packed scoring path for callers working with strings. Five-letter words take
+    // the int engine; other lengths are packed into a long.
     public GuessOutcome[] validateGuess(String guessWord, String targetWord) throws InvalidWordException {
         validateInputs(guessWord, targetWord);
-        String updatedGuessWord = guessWord.toUpperCase();
-        String updatedTargetWord = targetWord.toUpperCase();
-        GuessOutcome[] guessOutcomes = new GuessOutcome[WORD_LENGTH];
-        // First, count letter frequencies in the target word
-        Map<Character, Integer> targetLetterCount = countLetters(updatedTargetWord);
+        if (config.isDefaultLength()) {
+            int packedGuess = PackedWord.encode(guessWord);
+            int packedTarget = PackedWord.encode(targetWord);
+            return FeedbackPattern.toOutcomes(score(packedGuess, packedTarget));
+        }
+        int length = config.wordLength();
+        long packedGuess = PackedWord.encodeLong(guessWord, length);
+        long packedTarget = PackedWord.encodeLong(targetWord, length);
+        return FeedbackPattern.toOutcomes(score(packedGuess, packedTarget), length);
+    }
 
-        // First pass: Mark correct positions (green)
-        for (int i = 0; i < WORD_LENGTH; i++) {
-            char guessChar = updatedGuessWord.charAt(i);
-            char targetChar = updatedTargetWord.charAt(i);
+    // Scores two packed five-letter words and returns the feedback as a FeedbackPattern code (0-242).
+    // Keeps no scratch state, so one WordChecker can be shared between threads.
+    public int score(int packedGuess, int packedTarget) {
+        int greenMask = 0;
 
-            if (guessChar == targetChar) {
-                guessOutcomes[i] = GuessOutcome.CORRECT;
-                // Decrease the count for this letter since we've used it
-                targetLetterCount.put(guessChar, targetLetterCount.get(guessChar) - 1);
-            }
-        }
-        // Second pass: Mark wrong positions (yellow) and incorrect (gray)
+        // First pass: mark correct positions (green)
         for (int i = 0; i < WORD_LENGTH; i++) {
-            // Skip letters already marked as correct
-            if (guessOutcomes[i] == GuessOutcome.CORRECT) {
-                continue;
+            if (PackedWord.letterAt(packedGuess, i) == PackedWord.letterAt(packedTarget, i)) {
+                greenMask |= 1 << i;
             }
+        }
 
-            char guessChar = updatedGuessWord.charAt(i);
-            int remainingCount = targetLetterCount.getOrDefault(guessChar, 0);
-
-            if (remainingCount > 0) {
-                guessOutcomes[i] = GuessOutcome.WRONG_POSITION;
-                // Decrease the count for this letter
-                targetLetterCount.put(guessChar, remainingCount - 1);
+        // Second pass: mark wrong positions (yellow), each claiming one target letter not yet
+        // matched; the claimed positions are tracked in a mask instead of a letter counter
+        int claimed = greenMask;
+        int code = 0;
+        int weight = 1;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if ((greenMask & (1 << i)) != 0) {
+                code += 2 * weight;
             } else {
-                guessOutcomes[i] = GuessOutcome.INCORRECT;
+                int guessLetter = PackedWord.letterAt(packedGuess, i);
+                for (int j = 0; j < WORD_LENGTH; j++) {
+                    if ((claimed & (1 << j)) == 0 && PackedWord.letterAt(packedTarget, j) == guessLetter) {
+                        claimed |= 1 << j;
+                        code += weight;
+                        break;
+                    }
+                }
             }
+            weight *= 3;
         }
+        return code;
+    }
 
-        return guessOutcomes;
+    // Writes the pattern of the guess against packedAnswers[i] into patterns[i]; reported to the
+    // flight recorder as one ScoringBatch.
+    public void score(int packedGuess, int[] packedAnswers, byte[] patterns) {
+        score(packedGuess, packedAnswers, patterns, 0);
+    }
+
+    // Same, writing the codes from the given offset on, e.g. into one row of a larger matrix.
+    public void score(int packedGuess, int[] packedAnswers, byte[] patterns, int offset) {
+        if (offset < 0 || patterns.length - offset < packedAnswers.length) {
+            throw new IllegalArgumentException(String.format("Pattern buffer holds %d entries from offset %d, %d answers given",
+                    patterns.length - offset, offset, packedAnswers.length));
+        }
+        ScoringBatchEvent event = new ScoringBatchEvent();
+        event.begin();
+        for (int i = 0; i < packedAnswers.length; i++) {
+            patterns[offset + i] = (byte) score(packedGuess, packedAnswers[i]);
+        }
+        event.complete(packedAnswers.length, "checker");
     }
 
-    private Map<Character, Integer> countLetters(String word) {
-        Map<Character, Integer> letterCount = new HashMap<>();
+    // Scores two words packed with PackedWord.encodeLong at the configured length and returns the
+    // FeedbackPattern code (0 to 3^length - 1). Same two passes as the int engine, still allocation-free.
+    public int score(long packedGuess, long packedTarget) {
+        int length = config.wordLength();
+        int greenMask = 0;
 
-        for (char c : word.toCharArray()) {
-            letterCount.put(c, letterCount.getOrDefault(c, 0) + 1);
+        for (int i = 0; i < length; i++) {
+            if (PackedWord.letterAt(packedGuess, i, length) == PackedWord.letterAt(packedTarget, i, length)) {
+                greenMask |= 1 << i;
+            }
+        }
+
+        int claimed = greenMask;
+        int code = 0;
+        int weight = 1;
+        for (int i = 0; i < length; i++) {
+            if ((greenMask & (1 << i)) != 0) {
+                code += 2 * weight;
+            } else {
+                int guessLetter = PackedWord.letterAt(packedGuess, i, length);
+                for (int j = 0; j < length; j++) {
+                    if ((claimed & (1 << j)) == 0 && PackedWord.letterAt(packedTarget, j, length) == guessLetter) {
+                        claimed |= 1 << j;
+                        code += weight;
+                        break;
+                    }
+                }
+            }
+            weight *= 3;
         }
+        return code;
+    }
 
-        return letterCount;
+    public GameConfig getConfig() {
+        return config;
     }
 
     private void validateInputs(String guessWord, String targetWord) {
-        if (guessWord == null) throw new InvalidWordException("null", "Guess word cannot be null");
-        if (targetWord == null) throw new InvalidWordException("null", "Target word cannot be null");
-        if (guessWord.length() != WORD_LENGTH) {
-            throw new InvalidWordException(guessWord,
-                    String.format("Must be exactly %d letters long (was %d)", WORD_LENGTH, guessWord.length()));
+        if (guessWord == null) throw new InvalidWordException("null", Reason.MISSING, "Guess word cannot be null");
+        if (targetWord == null) throw new InvalidWordException("null", Reason.MISSING, "Target word cannot be null");
+        int length = config.wordLength();
+        if (guessWord.length() != length) {
+            throw new InvalidWordException(guessWord, Reason.WRONG_LENGTH,
+                    String.format("Must be exactly %d letters long (was %d)", length, guessWord.length()));
         }
 
-        if (targetWord.length() != WORD_LENGTH) {
-            throw new InvalidWordException(targetWord,
-                    String.format("Target must be exactly %d letters long (was %d)", WORD_LENGTH, targetWord.length()));
+        if (targetWord.length() != length) {
+            throw new InvalidWordException(targetWord, Reason.WRONG_LENGTH,
+                    String.format("Target must be exactly %d letters long (was %d)", length, targetWord.length()));
         }
 
         if (!guessWord.chars().allMatch(Character::isLetter)) {
-            throw new InvalidWordException(guessWord, "Must contain only alphabetic characters");
+            throw new InvalidWordException(guessWord, Reason.INVALID_CHARACTERS, "Must contain only alphabetic characters");
         }
 
         if (!targetWord.chars().allMatch(Character::isLetter)) {
-            throw new InvalidWordException(targetWord, "Target must contain only alphabetic characters");
+            throw new InvalidWordException(targetWord, Reason.INVALID_CHARACTERS, "Target must contain only alphabetic characters");
         }
     }
 
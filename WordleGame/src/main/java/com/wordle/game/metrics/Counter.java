@@ -0,0 +1,33 @@
+package com.wordle.game.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Monotonic event counter. Backed by a LongAdder, whose cells are striped across threads,
+// so concurrent increments do not contend on a single cache line.
+public final class Counter {
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Counters can only go up");
+        }
+        count.add(amount);
+    }
+
+    public long get() {
+        return count.sum();
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,50 @@
+package com.wordle.game.metrics;
+
+import com.wordle.game.exceptions.InvalidWordException;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// The game's own metrics in the global registry, resolved once so instrumented code records
+// straight into them.
+public final class GameMetrics {
+    public static final LatencyHistogram DICTIONARY_LOAD = histogram("dictionary.load");
+    public static final LatencyHistogram GUESS = histogram("game.guess");
+    public static final LatencyHistogram VALIDATION = histogram("game.validate");
+    public static final LatencyHistogram RENDERING = histogram("render.guess");
+    public static final LatencyHistogram JOURNAL_SYNC = histogram("journal.sync");
+
+    public static final Counter GAMES_STARTED = counter("games.started");
+    public static final Counter GAMES_WON = counter("games.won");
+    public static final Counter GAMES_LOST = counter("games.lost");
+    public static final Counter JOURNAL_RECORDS = counter("journal.records");
+
+    private static final Map<InvalidWordException.Reason, Counter> INVALID_GUESSES =
+            new EnumMap<>(InvalidWordException.Reason.class);
+
+    static {
+        for (InvalidWordException.Reason reason : InvalidWordException.Reason.values()) {
+            INVALID_GUESSES.put(reason, counter("guesses.invalid." + reason.name().toLowerCase()));
+        }
+    }
+
+    private GameMetrics() {
+        throw new UnsupportedOperationException("GameMetrics class cannot be instantiated");
+    }
+
+    public static void invalidGuess(InvalidWordException e) {
+        INVALID_GUESSES.get(e.getReason()).increment();
+    }
+
+    public static Counter invalidGuesses(InvalidWordException.Reason reason) {
+        return INVALID_GUESSES.get(reason);
+    }
+
+    private static LatencyHistogram histogram(String name) {
+        return MetricsRegistry.global().histogram(name);
+    }
+
+    private static Counter counter(String name) {
+        return MetricsRegistry.global().counter(name);
+    }
+}
@@ -0,0 +1,22 @@
+package com.wordle.game.metrics;
+
+import java.util.function.LongSupplier;
+
+// A value read from its owner whenever a snapshot is taken, e.g. the number of active sessions.
+public final class Gauge {
+    private final String name;
+    private final LongSupplier value;
+
+    Gauge(String name, LongSupplier value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    public long get() {
+        return value.getAsLong();
+    }
+
+    public String getName() {
+        return name;
+    }
+}
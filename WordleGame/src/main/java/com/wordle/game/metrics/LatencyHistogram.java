@@ -0,0 +1,115 @@
+package com.wordle.game.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Fixed-bucket log-linear histogram of durations in nanoseconds.
+// Every power of two is split into 32 linear sub-buckets, so a recorded value is off by at most
+// 1/32 (about 3%) of itself, from 1 ns up to about 18 minutes, in 1152 buckets of fixed size.
+// Recording is a few shifts and one atomic increment; the bucket arrays are striped by thread
+// so concurrent writers mostly land on different cache lines.
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_VALUE_BITS = 40;
+    static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final long MAX_TRACKABLE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int MAX_STRIPES = 8;
+
+    private final String name;
+    private final AtomicLongArray[] stripes;
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram(String name) {
+        this.name = name;
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(BUCKET_COUNT);
+        }
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        stripe().getAndIncrement(bucketIndex(value));
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    // Buckets are read one at a time while writers carry on, so a snapshot taken under load may
+    // be a few samples off from the sum and max, but every sample is eventually counted once.
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long n = stripe.get(i);
+                counts[i] += n;
+                count += n;
+            }
+        }
+        return new Snapshot(name, count, sum.sum(), max.get(), counts);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    static int bucketIndex(long value) {
+        long clamped = Math.min(value, MAX_TRACKABLE);
+        if (clamped < SUB_BUCKETS) {
+            return (int) clamped;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(clamped) - SUB_BUCKET_BITS;
+        return (exponent + 1) * SUB_BUCKETS + (int) ((clamped >>> exponent) & (SUB_BUCKETS - 1));
+    }
+
+    // Largest value that falls into the bucket.
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << exponent;
+        return lower + (1L << exponent) - 1;
+    }
+
+    private AtomicLongArray stripe() {
+        if (stripes.length == 1) {
+            return stripes[0];
+        }
+        long id = Thread.currentThread().threadId();
+        return stripes[(int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (stripes.length - 1)];
+    }
+
+    public record Snapshot(String name, long count, long sum, long max, long[] buckets) {
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        // Upper bound of the bucket holding the requested quantile, never above the recorded maximum.
+        public long percentile(double quantile) {
+            if (quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.wordle.game.metrics;
+
+import java.io.IOException;
+
+// Writes a snapshot of a registry in some output format.
+public interface MetricsExporter {
+    void export(MetricsRegistry registry, Appendable out) throws IOException;
+}
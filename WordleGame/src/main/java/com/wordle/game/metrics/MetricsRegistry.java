@@ -0,0 +1,89 @@
+package com.wordle.game.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// Named counters, gauges and latency histograms.
+// Metrics are created on first use and live as long as the registry; callers keep the returned
+// instance and record into it directly, so the hot path never touches the maps.
+public class MetricsRegistry {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    // The process-wide registry the game instruments itself into.
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(requireName(name), Counter::new);
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(requireName(name), LatencyHistogram::new);
+    }
+
+    // Registers a gauge, replacing any previous one with the same name.
+    public Gauge gauge(String name, LongSupplier value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Gauge value supplier cannot be null");
+        }
+        Gauge gauge = new Gauge(requireName(name), value);
+        gauges.put(name, gauge);
+        return gauge;
+    }
+
+    // Removes the gauge only if it is still the given one, so an owner that has been replaced
+    // cannot unregister its successor.
+    public boolean removeGauge(Gauge gauge) {
+        return gauge != null && gauges.remove(gauge.getName(), gauge);
+    }
+
+    public List<Counter> getCounters() {
+        return sorted(counters.values(), Counter::getName);
+    }
+
+    public List<Gauge> getGauges() {
+        return sorted(gauges.values(), Gauge::getName);
+    }
+
+    public List<LatencyHistogram> getHistograms() {
+        return sorted(histograms.values(), LatencyHistogram::getName);
+    }
+
+    // Renders the current values with the given exporter.
+    public String export(MetricsExporter exporter) {
+        StringBuilder out = new StringBuilder();
+        try {
+            exporter.export(this, out);
+        } catch (IOException e) {
+            // StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private static String requireName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Metric name cannot be empty");
+        }
+        return name;
+    }
+
+    private static <T> List<T> sorted(Iterable<T> metrics, Function<T, String> name) {
+        List<T> result = new ArrayList<>();
+        metrics.forEach(result::add);
+        result.sort(Comparator.comparing(name));
+        return result;
+    }
+}
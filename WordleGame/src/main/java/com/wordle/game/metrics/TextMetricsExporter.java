@@ -0,0 +1,35 @@
+package com.wordle.game.metrics;
+
+import java.io.IOException;
+
+// Plain-text snapshot, one metric per line, with latencies in microseconds:
+//
+//   counter   games.started 42
+//   gauge     sessions.active 3
+//   histogram game.guess count=120 mean=1.2us p50=1.0us p90=2.1us p99=8.4us max=31.0us
+public class TextMetricsExporter implements MetricsExporter {
+
+    @Override
+    public void export(MetricsRegistry registry, Appendable out) throws IOException {
+        for (Counter counter : registry.getCounters()) {
+            out.append(String.format("counter   %s %d%n", counter.getName(), counter.get()));
+        }
+        for (Gauge gauge : registry.getGauges()) {
+            out.append(String.format("gauge     %s %d%n", gauge.getName(), gauge.get()));
+        }
+        for (LatencyHistogram histogram : registry.getHistograms()) {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            out.append(String.format("histogram %s count=%d mean=%s p50=%s p90=%s p99=%s max=%s%n",
+                    snapshot.name(), snapshot.count(),
+                    micros(snapshot.mean()),
+                    micros(snapshot.percentile(0.50)),
+                    micros(snapshot.percentile(0.90)),
+                    micros(snapshot.percentile(0.99)),
+                    micros(snapshot.max())));
+        }
+    }
+
+    private static String micros(double nanos) {
+        return String.format("%.1fus", nanos / 1_000.0);
+    }
+}
@@ -0,0 +1,278 @@
+package com.wordle.game.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.exceptions.InvalidWordException;
+import com.wordle.game.exceptions.SessionNotFoundException;
+import com.wordle.game.logic.FeedbackPattern;
+import com.wordle.game.logic.GameConfig;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.logic.GuessOutcome;
+import com.wordle.game.metrics.MetricsRegistry;
+import com.wordle.game.metrics.TextMetricsExporter;
+import com.wordle.game.session.GameSessionManager;
+import com.wordle.game.session.SessionJournal;
+import com.wordle.game.util.DictionaryRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// HTTP/JSON front end for hosted games, one virtual thread per request.
+//
+//   POST /games                  create a game            -> 201 {"id":..}
+//   POST /games/{id}/guesses     body "WATER" or {"guess":"WATER"} -> 200 outcome of the guess
+//   GET  /games/{id}             current state of the game
+//   GET  /metrics                text snapshot of the global metrics registry
+//
+// Responses are a few hundred bytes; with Nagle's algorithm on, each one waits for the client's
+// delayed ACK (~40 ms). main turns it off; embedders should start the JVM with
+// -Dsun.net.httpserver.nodelay=true, since the JDK server reads it once, before its first use.
+public class GameHttpServer implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(GameHttpServer.class.getName());
+    private static final String GAMES_PATH = "/games";
+    private static final String METRICS_PATH = "/metrics";
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final int MAX_BODY_BYTES = 1024;
+
+    private final GameSessionManager sessions;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public GameHttpServer(GameSessionManager sessions, InetSocketAddress address) throws IOException {
+        this.sessions = sessions;
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(GAMES_PATH, this::handle);
+        server.createContext(METRICS_PATH, GameHttpServer::sendMetrics);
+    }
+
+    // Usage: GameHttpServer [port] [journal directory]; with a journal, games survive restarts.
+    public static void main(String[] args) throws IOException {
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        SessionJournal journal = args.length > 1
+                ? SessionJournal.open(Path.of(args[1]), SessionJournal.Durability.BUFFERED)
+                : null;
+        GameSessionManager sessions = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(30), journal);
+        sessions.startEviction(Duration.ofMinutes(1));
+        GameHttpServer server = new GameHttpServer(sessions, new InetSocketAddress(port));
+        server.start();
+        System.out.printf("Wordle API listening on port %d%n", server.getPort());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (SessionNotFoundException e) {
+            sendError(exchange, 404, e.getMessage());
+        } catch (InvalidWordException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (MethodNotAllowed e) {
+            sendError(exchange, 405, e.getMessage());
+        } catch (PayloadTooLarge e) {
+            sendError(exchange, 413, e.getMessage());
+        } catch (GameException e) {
+            sendError(exchange, 409, e.getMessage());
+        } catch (NumberFormatException e) {
+            sendError(exchange, 404, "Unknown game id");
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.ERROR, exchange.getRequestMethod() + " "
+                    + exchange.getRequestURI().getPath() + " failed", e);
+            sendError(exchange, 500, "Internal error");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void sendMetrics(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+            byte[] body = MetricsRegistry.global().export(new TextMetricsExporter()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        // Path is "/games", "/games/{id}" or "/games/{id}/guesses"
+        String rest = path.length() > GAMES_PATH.length() ? path.substring(GAMES_PATH.length() + 1) : "";
+        int slash = rest.indexOf('/');
+
+        if (rest.isEmpty()) {
+            requireMethod(exchange, method, "POST");
+            createGame(exchange);
+        } else if (slash < 0) {
+            requireMethod(exchange, method, "GET");
+            sendState(exchange, Long.parseLong(rest));
+        } else if (rest.substring(slash + 1).equals("guesses")) {
+            requireMethod(exchange, method, "POST");
+            makeGuess(exchange, Long.parseLong(rest.substring(0, slash)));
+        } else {
+            sendError(exchange, 404, "Not found");
+        }
+    }
+
+    private void createGame(HttpExchange exchange) throws IOException {
+        long id = sessions.createSession();
+        GameConfig config = sessions.withSession(id, GameProcessor::getConfig);
+        JsonWriter json = new JsonWriter(64).beginObject()
+                .name("id").value(id)
+                .name("wordLength").value(config.wordLength())
+                .name("maxAttempts").value(config.maxAttempts())
+                .endObject();
+        send(exchange, 201, json);
+    }
+
+    private void makeGuess(HttpExchange exchange, long id) throws IOException {
+        String guess = parseGuess(readBody(exchange));
+        JsonWriter json = new JsonWriter(256);
+        sessions.withSession(id, game -> {
+            GuessOutcome[] outcomes = game.makeGuess(guess);
+            json.beginObject()
+                    .name("guess").value(game.getGuess(game.getCurrentAttempt() - 1))
+                    .name("pattern").value(FeedbackPattern.fromOutcomes(outcomes));
+            writeOutcomes(json.name("outcomes"), outcomes);
+            json.name("won").value(game.isGameWon())
+                    .name("over").value(game.isGameOver())
+                    .name("remainingAttempts").value(game.getRemainingAttempts());
+            if (game.isGameOver()) {
+                json.name("target").value(game.getTargetWord());
+            }
+            json.endObject();
+            return null;
+        });
+        send(exchange, 200, json);
+    }
+
+    private void sendState(HttpExchange exchange, long id) throws IOException {
+        JsonWriter json = new JsonWriter(512);
+        sessions.withSession(id, game -> {
+            json.beginObject()
+                    .name("id").value(id)
+                    .name("attempt").value(game.getCurrentAttempt())
+                    .name("wordLength").value(game.getWordLength())
+                    .name("maxAttempts").value(game.getMaxAttempts())
+                    .name("won").value(game.isGameWon())
+                    .name("over").value(game.isGameOver());
+            List<String> guesses = game.getGuesses();
+            List<GuessOutcome[]> outcomes = game.guessOutcomes();
+            json.name("guesses").beginArray();
+            for (int i = 0; i < guesses.size(); i++) {
+                json.beginObject()
+                        .name("guess").value(guesses.get(i))
+                        .name("pattern").value(FeedbackPattern.fromOutcomes(outcomes.get(i)))
+                        .endObject();
+            }
+            json.endArray();
+            if (game.isGameOver()) {
+                json.name("target").value(game.getTargetWord());
+            }
+            json.endObject();
+            return null;
+        });
+        send(exchange, 200, json);
+    }
+
+    private static void writeOutcomes(JsonWriter json, GuessOutcome[] outcomes) {
+        json.beginArray();
+        for (GuessOutcome outcome : outcomes) {
+            json.value(outcome.name());
+        }
+        json.endArray();
+    }
+
+    // Accepts either the bare word or a JSON object with a "guess" string field.
+    static String parseGuess(String body) throws InvalidWordException {
+        String trimmed = body.trim();
+        if (!trimmed.startsWith("{")) {
+            return trimmed;
+        }
+        int key = trimmed.indexOf("\"guess\"");
+        int colon = key < 0 ? -1 : trimmed.indexOf(':', key + 7);
+        int open = colon < 0 ? -1 : trimmed.indexOf('"', colon + 1);
+        int close = open < 0 ? -1 : trimmed.indexOf('"', open + 1);
+        if (close < 0) {
+            throw new InvalidWordException(trimmed, InvalidWordException.Reason.MALFORMED_REQUEST, "Request body must contain a \"guess\" string");
+        }
+        return trimmed.substring(open + 1, close);
+    }
+
+    // One byte past the limit is enough to tell an oversized body from one that just fits.
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new PayloadTooLarge();
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method, String expected) {
+        if (!expected.equals(method)) {
+            exchange.getResponseHeaders().set("Allow", expected);
+            throw new MethodNotAllowed();
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, new JsonWriter(128).beginObject().name("error").value(message).endObject());
+    }
+
+    private static void send(HttpExchange exchange, int status, JsonWriter json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, json.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            json.writeTo(out);
+        }
+    }
+
+    private static final class MethodNotAllowed extends GameException {
+        MethodNotAllowed() {
+            super("Method not allowed");
+        }
+    }
+
+    private static final class PayloadTooLarge extends GameException {
+        PayloadTooLarge() {
+            super("Request body exceeds " + MAX_BODY_BYTES + " bytes");
+        }
+    }
+}
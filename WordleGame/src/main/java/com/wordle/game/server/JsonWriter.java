@@ -0,0 +1,196 @@
+package com.wordle.game.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+// Minimal streaming JSON encoder that writes UTF-8 straight into one growable byte array,
+// with no intermediate Strings or StringBuilders per value.
+final class JsonWriter {
+    private static final int MAX_DEPTH = 16;
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+    private byte[] buffer;
+    private int length;
+    // Per nesting level: whether the next element needs a leading comma
+    private final boolean[] needsComma = new boolean[MAX_DEPTH];
+    private int depth;
+    private boolean afterName;
+
+    JsonWriter() {
+        this(256);
+    }
+
+    JsonWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    JsonWriter beginObject() {
+        return open('{');
+    }
+
+    JsonWriter endObject() {
+        return close('}');
+    }
+
+    JsonWriter beginArray() {
+        return open('[');
+    }
+
+    JsonWriter endArray() {
+        return close(']');
+    }
+
+    JsonWriter name(String name) {
+        separate();
+        writeString(name);
+        write(':');
+        afterName = true;
+        return this;
+    }
+
+    JsonWriter value(String value) {
+        separate();
+        if (value == null) {
+            write(NULL);
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    JsonWriter value(long value) {
+        separate();
+        if (value < 0) {
+            write('-');
+            if (value == Long.MIN_VALUE) {
+                write("9223372036854775808".getBytes());
+                return this;
+            }
+            value = -value;
+        }
+        ensureCapacity(20);
+        int start = length;
+        do {
+            buffer[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        reverse(start, length - 1);
+        return this;
+    }
+
+    JsonWriter value(boolean value) {
+        separate();
+        write(value ? TRUE : FALSE);
+        return this;
+    }
+
+    int size() {
+        return length;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, length);
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private JsonWriter open(char bracket) {
+        separate();
+        if (depth == MAX_DEPTH - 1) {
+            throw new IllegalStateException("JSON nested too deeply");
+        }
+        write(bracket);
+        needsComma[++depth] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) {
+        if (depth == 0) {
+            throw new IllegalStateException("Nothing to close");
+        }
+        depth--;
+        write(bracket);
+        return this;
+    }
+
+    private void separate() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (needsComma[depth]) {
+            write(',');
+        }
+        needsComma[depth] = true;
+    }
+
+    private void writeString(String value) {
+        ensureCapacity(value.length() + 2);
+        buffer[length++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                write('\\');
+                write(c);
+            } else if (c < 0x20) {
+                write(new byte[]{'\\', 'u', '0', '0', HEX[c >> 4], HEX[c & 0xF]});
+            } else if (c < 0x80) {
+                write(c);
+            } else {
+                writeNonAscii(value, i, c);
+                if (Character.isHighSurrogate(c) && i + 1 < value.length()) {
+                    i++;
+                }
+            }
+        }
+        write('"');
+    }
+
+    private void writeNonAscii(String value, int index, char c) {
+        int codePoint = value.codePointAt(index);
+        if (codePoint < 0x800) {
+            write(0xC0 | (codePoint >> 6));
+            write(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            write(0xE0 | (codePoint >> 12));
+            write(0x80 | ((codePoint >> 6) & 0x3F));
+            write(0x80 | (codePoint & 0x3F));
+        } else {
+            write(0xF0 | (codePoint >> 18));
+            write(0x80 | ((codePoint >> 12) & 0x3F));
+            write(0x80 | ((codePoint >> 6) & 0x3F));
+            write(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private void reverse(int from, int to) {
+        while (from < to) {
+            byte tmp = buffer[from];
+            buffer[from++] = buffer[to];
+            buffer[to--] = tmp;
+        }
+    }
+
+    private void write(int b) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) b;
+    }
+
+    private void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.wordle.game.session;
+
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.logic.FeedbackPattern;
+import com.wordle.game.logic.GameConfig;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// The state of a five-letter game in a few dozen bytes: the target and the guesses as packed ints,
+// and one pattern code byte per guess. Whether the game is won or over follows from the patterns.
+// A GameProcessor with its lists, checker and dictionary reference takes kilobytes, so idle
+// sessions are held in this form and snapshots are written from it. Instances never change.
+public final class CompactSession {
+    private static final int[] NO_GUESSES = new int[0];
+    private static final byte[] NO_PATTERNS = new byte[0];
+
+    private final int maxAttempts;
+    private final int packedTarget;
+    private final int[] packedGuesses;
+    private final byte[] patterns;
+
+    CompactSession(int maxAttempts, int packedTarget, int[] packedGuesses, byte[] patterns) {
+        if (maxAttempts < 1 || packedGuesses.length > maxAttempts || packedGuesses.length != patterns.length) {
+            throw new IllegalArgumentException(String.format("%d guesses and %d patterns do not fit %d attempts",
+                    packedGuesses.length, patterns.length, maxAttempts));
+        }
+        checkPacked(packedTarget);
+        for (int i = 0; i < packedGuesses.length; i++) {
+            checkPacked(packedGuesses[i]);
+            int pattern = patterns[i] & 0xFF;
+            if (pattern >= FeedbackPattern.PATTERN_COUNT
+                    || (pattern == FeedbackPattern.ALL_CORRECT && i < packedGuesses.length - 1)) {
+                throw new IllegalArgumentException("Invalid pattern for guess " + (i + 1) + ": " + pattern);
+            }
+        }
+        this.maxAttempts = maxAttempts;
+        this.packedTarget = packedTarget;
+        this.packedGuesses = packedGuesses.length == 0 ? NO_GUESSES : packedGuesses;
+        this.patterns = patterns.length == 0 ? NO_PATTERNS : patterns;
+    }
+
+    // Captures a game's state; only five-letter games with a fixed target can be compacted.
+    public static CompactSession of(GameProcessor game) {
+        if (game == null) {
+            throw new IllegalArgumentException("Game cannot be null");
+        }
+        if (game.isAdversarial() || !game.getConfig().isDefaultLength()) {
+            throw new IllegalArgumentException("Only five-letter games with a fixed target can be compacted");
+        }
+        int[] packedGuesses = PackedWord.encodeAll(game.getGuesses());
+        byte[] patterns = new byte[packedGuesses.length];
+        for (int i = 0; i < patterns.length; i++) {
+            patterns[i] = (byte) FeedbackPattern.fromOutcomes(game.getGuessOutcome(i));
+        }
+        return new CompactSession(game.getMaxAttempts(), PackedWord.encode(game.getTargetWord()), packedGuesses, patterns);
+    }
+
+    // Rebuilds the game against the dictionary, without counting it or its guesses again.
+    public GameProcessor toGame(WordLoader dictionary) throws GameException {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionary cannot be null");
+        }
+        List<String> guesses = new ArrayList<>(packedGuesses.length);
+        for (int packed : packedGuesses) {
+            guesses.add(PackedWord.decode(packed));
+        }
+        return GameProcessor.restore(dictionary, getConfig(), getTargetWord(), guesses);
+    }
+
+    public GameConfig getConfig() {
+        return GameConfig.DEFAULT.withMaxAttempts(maxAttempts);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public int getPackedTarget() {
+        return packedTarget;
+    }
+
+    public String getTargetWord() {
+        return PackedWord.decode(packedTarget);
+    }
+
+    public int getAttempts() {
+        return packedGuesses.length;
+    }
+
+    public int getPackedGuess(int attemptNumber) {
+        checkAttempt(attemptNumber);
+        return packedGuesses[attemptNumber];
+    }
+
+    public String getGuess(int attemptNumber) {
+        return PackedWord.decode(getPackedGuess(attemptNumber));
+    }
+
+    public int getPattern(int attemptNumber) {
+        checkAttempt(attemptNumber);
+        return patterns[attemptNumber] & 0xFF;
+    }
+
+    public boolean isGameWon() {
+        return patterns.length > 0 && (patterns[patterns.length - 1] & 0xFF) == FeedbackPattern.ALL_CORRECT;
+    }
+
+    public boolean isGameOver() {
+        return isGameWon() || packedGuesses.length >= maxAttempts;
+    }
+
+    private void checkAttempt(int attemptNumber) {
+        if (attemptNumber < 0 || attemptNumber >= packedGuesses.length) {
+            throw new IndexOutOfBoundsException("Invalid attempt number: " + attemptNumber);
+        }
+    }
+
+    // Every letter field holds A-Z and nothing is set above them; checked without decoding
+    private static void checkPacked(int packed) {
+        boolean valid = packed >>> (PackedWord.BITS_PER_LETTER * FeedbackPattern.WORD_LENGTH) == 0;
+        for (int p = 0; p < FeedbackPattern.WORD_LENGTH && valid; p++) {
+            int letter = PackedWord.letterAt(packed, p);
+            valid = letter >= 0 && letter < 26;
+        }
+        if (!valid) {
+            throw new IllegalArgumentException("Not a packed word: " + packed);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.wordle.game.session;
+
+import com.wordle.game.logic.GameCompletionListener;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.util.WordLoader;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+// A hosted game plus what the manager needs to confine and expire it.
+// ReentrantLock rather than synchronized so a virtual thread waiting for its turn does not pin its carrier.
+// An idle game may be held as a CompactSession instead; it is rebuilt the next time it is used.
+// Everything but the access time is only touched while holding the lock.
+final class GameSession {
+    private final long id;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile long lastAccessNanos;
+    // Exactly one of these is set
+    private GameProcessor game;
+    private CompactSession compact;
+    // Survives compaction, which a compact session has no room for
+    private GameCompletionListener completionListener;
+
+    GameSession(long id, GameProcessor game, long nowNanos) {
+        this.id = id;
+        this.game = game;
+        this.lastAccessNanos = nowNanos;
+    }
+
+    GameSession(long id, CompactSession compact, long nowNanos) {
+        this.id = id;
+        this.compact = compact;
+        this.lastAccessNanos = nowNanos;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    // Rebuilds a compacted game first.
+    GameProcessor getGame(WordLoader dictionary) {
+        if (game == null) {
+            game = compact.toGame(dictionary);
+            game.setCompletionListener(completionListener);
+            compact = null;
+            completionListener = null;
+        }
+        return game;
+    }
+
+    // The game's state as it stands, without rebuilding a compacted game.
+    CompactSession toCompact() {
+        return compact != null ? compact : CompactSession.of(game);
+    }
+
+    boolean canCompact() {
+        return game == null || (!game.isAdversarial() && game.getConfig().isDefaultLength());
+    }
+
+    // Returns false if the game was already compact.
+    boolean compact() {
+        if (game == null) {
+            return false;
+        }
+        compact = CompactSession.of(game);
+        completionListener = game.getCompletionListener();
+        game = null;
+        return true;
+    }
+
+    boolean isCompacted() {
+        return game == null;
+    }
+
+    ReentrantLock getLock() {
+        return lock;
+    }
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch(long nowNanos) {
+        lastAccessNanos = nowNanos;
+    }
+}
@@ -0,0 +1,406 @@
+package com.wordle.game.session;
+
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.exceptions.InvalidWordException;
+import com.wordle.game.exceptions.SessionNotFoundException;
+import com.wordle.game.exceptions.StorageException;
+import com.wordle.game.logic.FeedbackPattern;
+import com.wordle.game.logic.GameConfig;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.logic.GuessOutcome;
+import com.wordle.game.metrics.Gauge;
+import com.wordle.game.metrics.MetricsRegistry;
+import com.wordle.game.util.TargetSelector;
+import com.wordle.game.util.WordLoader;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// Hosts many concurrent games keyed by session id.
+// Lookups go through a ConcurrentHashMap and never block each other; work on one session is
+// serialized by that session's lock, so different sessions proceed fully in parallel.
+// With a journal, every change to a game is appended while its session is still held, so the
+// journal's records for a session are in the order they happened.
+// Idle games can be compacted to a few dozen bytes each and snapshotted to a file, so a server can
+// hold millions of them or move them to disk; a compacted game is rebuilt when it is next used.
+public class GameSessionManager implements AutoCloseable {
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private final WordLoader dictionary;
+    // Null when games are not journaled
+    private final SessionJournal journal;
+    private final long idleTtlNanos;
+    private final LongSupplier clock;
+    private final ConcurrentMap<Long, GameSession> sessions = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Gauge activeSessionsGauge;
+    private ScheduledExecutorService evictionScheduler;
+
+    public GameSessionManager(WordLoader dictionary, Duration idleTtl) {
+        this(dictionary, idleTtl, null, System::nanoTime);
+    }
+
+    // First rebuilds the sessions the journal describes, keeping their ids, then journals every
+    // change from here on. The journal stays owned by the caller, who closes it after the manager.
+    public GameSessionManager(WordLoader dictionary, Duration idleTtl, SessionJournal journal) throws StorageException {
+        this(dictionary, idleTtl, journal, System::nanoTime);
+    }
+
+    GameSessionManager(WordLoader dictionary, Duration idleTtl, LongSupplier clock) {
+        this(dictionary, idleTtl, null, clock);
+    }
+
+    GameSessionManager(WordLoader dictionary, Duration idleTtl, SessionJournal journal, LongSupplier clock) {
+        if (dictionary == null || idleTtl == null || idleTtl.isNegative() || idleTtl.isZero()) {
+            throw new IllegalArgumentException("A dictionary and a positive idle TTL are required");
+        }
+        this.dictionary = dictionary;
+        this.idleTtlNanos = idleTtl.toNanos();
+        this.clock = clock;
+        this.journal = journal;
+        if (journal != null) {
+            recover();
+        }
+        // The most recently created manager reports; close() hands the name back
+        this.activeSessionsGauge = MetricsRegistry.global().gauge("sessions.active", sessions::size);
+    }
+
+    public long createSession() {
+        return register(new GameProcessor(dictionary));
+    }
+
+    public long createSession(String targetWord) throws InvalidWordException {
+        return register(new GameProcessor(dictionary, targetWord));
+    }
+
+    // Picks the target with the given policy, e.g. one shuffle bag shared by all sessions.
+    public long createSession(TargetSelector targetSelector) {
+        return register(new GameProcessor(dictionary, dictionary.getTargetWord(targetSelector)));
+    }
+
+    // Hosts an existing game, e.g. one rebuilt from storage.
+    public long register(GameProcessor game) {
+        if (journal != null && game.isAdversarial()) {
+            // Replay needs a target word to rebuild the game from
+            throw new IllegalArgumentException("Adversarial games cannot be journaled");
+        }
+        long id = nextId.getAndIncrement();
+        GameSession session = new GameSession(id, game, clock.getAsLong());
+        if (journal == null) {
+            sessions.put(id, session);
+            return id;
+        }
+        // Published before it is journaled, and held meanwhile: a checkpoint that started earlier
+        // either waits and writes it again, or missed it and this goes into the checkpoint's segment
+        session.getLock().lock();
+        try {
+            sessions.put(id, session);
+            try {
+                journal.gameCreated(id, game.getConfig(), game.getTargetWord());
+                journalGuesses(id, game, 0);
+            } catch (RuntimeException e) {
+                sessions.remove(id, session);
+                throw e;
+            }
+        } finally {
+            session.getLock().unlock();
+        }
+        return id;
+    }
+
+    public GuessOutcome[] guess(long sessionId, String word) throws GameException {
+        return withSession(sessionId, game -> game.makeGuess(word));
+    }
+
+    // Runs the guess on its own virtual thread; guesses for the same session still apply one at a time.
+    public CompletableFuture<GuessOutcome[]> guessAsync(long sessionId, String word) {
+        return CompletableFuture.supplyAsync(() -> guess(sessionId, word), executor);
+    }
+
+    // Runs the action while holding the session, so it never overlaps other work on the same game.
+    public <T> T withSession(long sessionId, Function<GameProcessor, T> action) throws GameException {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new SessionNotFoundException(sessionId);
+        }
+        session.getLock().lock();
+        try {
+            // The session may have been evicted while we waited for the lock
+            if (sessions.get(sessionId) != session) {
+                throw new SessionNotFoundException(sessionId);
+            }
+            session.touch(clock.getAsLong());
+            GameProcessor game = session.getGame(dictionary);
+            if (journal == null) {
+                return action.apply(game);
+            }
+            // Whatever the action did to the game, including guesses made before it failed
+            int attemptsBefore = game.getCurrentAttempt();
+            try {
+                return action.apply(game);
+            } finally {
+                journalChanges(sessionId, game, attemptsBefore);
+            }
+        } finally {
+            session.getLock().unlock();
+        }
+    }
+
+    // Held like any other change, so a checkpoint cannot write the session again after its removal.
+    public boolean removeSession(long sessionId) {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) {
+            return false;
+        }
+        session.getLock().lock();
+        try {
+            if (!sessions.remove(sessionId, session)) {
+                return false;
+            }
+            if (journal != null) {
+                journal.sessionRemoved(sessionId);
+            }
+            return true;
+        } finally {
+            session.getLock().unlock();
+        }
+    }
+
+    public boolean hasSession(long sessionId) {
+        return sessions.containsKey(sessionId);
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    // Drops sessions idle for longer than the TTL and returns how many were removed.
+    // Sessions that are currently in use are skipped rather than waited for.
+    public int evictIdleSessions() {
+        long now = clock.getAsLong();
+        int evicted = 0;
+        for (GameSession session : sessions.values()) {
+            if (now - session.getLastAccessNanos() < idleTtlNanos || !session.getLock().tryLock()) {
+                continue;
+            }
+            try {
+                if (now - session.getLastAccessNanos() >= idleTtlNanos
+                        && sessions.remove(session.getId(), session)) {
+                    if (journal != null) {
+                        journal.sessionRemoved(session.getId());
+                    }
+                    evicted++;
+                }
+            } finally {
+                session.getLock().unlock();
+            }
+        }
+        return evicted;
+    }
+
+    // Replaces the games idle for at least the given time with their compact form and returns how
+    // many were compacted. Adversarial games and sessions in use are skipped.
+    public int compactIdleSessions(Duration idleFor) {
+        long idleNanos = idleFor.toNanos();
+        long now = clock.getAsLong();
+        int compacted = 0;
+        for (GameSession session : sessions.values()) {
+            if (now - session.getLastAccessNanos() < idleNanos || !session.getLock().tryLock()) {
+                continue;
+            }
+            try {
+                if (session.canCompact() && session.compact()) {
+                    compacted++;
+                }
+            } finally {
+                session.getLock().unlock();
+            }
+        }
+        return compacted;
+    }
+
+    // Writes every session that can be compacted to the file and returns how many were written.
+    // Each session is held only while it is copied, so games keep being played meanwhile and the
+    // snapshot is consistent per game, not across games. Adversarial games are left out.
+    public int snapshot(Path file) throws StorageException {
+        Map<Long, CompactSession> snapshot = new LinkedHashMap<>();
+        for (GameSession session : sessions.values()) {
+            session.getLock().lock();
+            try {
+                if (sessions.get(session.getId()) == session && session.canCompact()) {
+                    snapshot.put(session.getId(), session.toCompact());
+                }
+            } finally {
+                session.getLock().unlock();
+            }
+        }
+        SessionSnapshotCodec.write(file, snapshot);
+        return snapshot.size();
+    }
+
+    // Hosts the sessions of a snapshot under their own ids, still compacted, and returns how many
+    // there were. Meant for startup, before the manager is shared; fails before adding any of them if
+    // one of the ids is already in use.
+    public int restore(Path file) throws StorageException {
+        Map<Long, CompactSession> snapshot = SessionSnapshotCodec.read(file);
+        for (long id : snapshot.keySet()) {
+            if (sessions.containsKey(id)) {
+                throw new IllegalStateException("Session " + id + " is already hosted");
+            }
+        }
+        long now = clock.getAsLong();
+        for (Map.Entry<Long, CompactSession> entry : snapshot.entrySet()) {
+            long id = entry.getKey();
+            GameSession session = new GameSession(id, entry.getValue(), now);
+            if (journal != null) {
+                journalState(session);
+            }
+            sessions.put(id, session);
+            nextId.accumulateAndGet(id + 1, Math::max);
+        }
+        return snapshot.size();
+    }
+
+    public synchronized void startEviction(Duration interval) {
+        if (evictionScheduler != null) {
+            throw new IllegalStateException("Eviction is already running");
+        }
+        evictionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = interval.toNanos();
+        evictionScheduler.scheduleAtFixedRate(this::evictIdleSessions, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    boolean isCompacted(long sessionId) {
+        GameSession session = sessions.get(sessionId);
+        return session != null && session.isCompacted();
+    }
+
+    public WordLoader getDictionary() {
+        return dictionary;
+    }
+
+    private void journalChanges(long sessionId, GameProcessor game, int attemptsBefore) {
+        int attempts = game.getCurrentAttempt();
+        if (attempts < attemptsBefore) {
+            journal.gameReset(sessionId);
+            attemptsBefore = 0;
+        }
+        journalGuesses(sessionId, game, attemptsBefore);
+    }
+
+    private void journalGuesses(long sessionId, GameProcessor game, int fromAttempt) {
+        for (int i = fromAttempt; i < game.getCurrentAttempt(); i++) {
+            journal.guessMade(sessionId, game.getGuess(i), FeedbackPattern.fromOutcomes(game.getGuessOutcome(i)));
+        }
+    }
+
+    // Collects what the journal says about each session, then rebuilds the games through the game
+    // logic without counting them again: recovered games and guesses do not show up in the metrics,
+    // events or completion listeners. Runs in the constructor, before the manager is shared.
+    private void recover() {
+        long now = clock.getAsLong();
+        long[] highestId = {0};
+        Map<Long, ReplayedGame> replayed = new HashMap<>();
+        journal.replay(record -> {
+            long id = record.sessionId();
+            ReplayedGame game = replayed.get(id);
+            switch (record.type()) {
+                case CREATED -> {
+                    highestId[0] = Math.max(highestId[0], id);
+                    GameConfig config = new GameConfig(record.wordLength(), record.maxAttempts());
+                    replayed.put(id, new ReplayedGame(config, record.word(), new ArrayList<>()));
+                }
+                case GUESS -> {
+                    if (game != null) {
+                        game.guesses().add(record.word());
+                    }
+                }
+                case RESET -> {
+                    if (game != null) {
+                        game.guesses().clear();
+                    }
+                }
+                case REMOVED -> {
+                    highestId[0] = Math.max(highestId[0], id);
+                    replayed.remove(id);
+                }
+                case CHECKPOINT -> highestId[0] = Math.max(highestId[0], id - 1);
+            }
+        });
+        replayed.forEach((id, game) -> sessions.put(id, new GameSession(id,
+                GameProcessor.restore(dictionary, game.config(), game.targetWord(), game.guesses()), now)));
+        nextId.set(highestId[0] + 1);
+    }
+
+    // Rewrites the journal as the current state of the live sessions and deletes the segments before
+    // it, so recovery reads the live sessions rather than all history. Games keep being played
+    // meanwhile: each session's state is written while it is held, after the new segment was
+    // started, so anything it does later follows it. Returns how many segments were deleted.
+    public int compactJournal() throws StorageException {
+        if (journal == null) {
+            throw new IllegalStateException("Sessions are not journaled");
+        }
+        long firstSegment = journal.startCheckpoint();
+        for (GameSession session : sessions.values()) {
+            session.getLock().lock();
+            try {
+                if (sessions.get(session.getId()) == session) {
+                    journalState(session);
+                }
+            } finally {
+                session.getLock().unlock();
+            }
+        }
+        journal.checkpoint(nextId.get());
+        return journal.deleteSegmentsBefore(firstSegment);
+    }
+
+    // Called with the session held; a compacted game is written without rebuilding it.
+    private void journalState(GameSession session) {
+        long id = session.getId();
+        if (session.isCompacted()) {
+            CompactSession compact = session.toCompact();
+            journal.gameCreated(id, compact.getConfig(), compact.getTargetWord());
+            for (int i = 0; i < compact.getAttempts(); i++) {
+                journal.guessMade(id, compact.getGuess(i), compact.getPattern(i));
+            }
+        } else {
+            GameProcessor game = session.getGame(dictionary);
+            journal.gameCreated(id, game.getConfig(), game.getTargetWord());
+            journalGuesses(id, game, 0);
+        }
+    }
+
+    private record ReplayedGame(GameConfig config, String targetWord, List<String> guesses) {
+    }
+
+    @Override
+    public synchronized void close() {
+        if (evictionScheduler != null) {
+            evictionScheduler.shutdownNow();
+            evictionScheduler = null;
+        }
+        executor.shutdown();
+        MetricsRegistry.global().removeGauge(activeSessionsGauge);
+    }
+}
@@ -0,0 +1,43 @@
+package com.wordle.game.session;
+
+import com.wordle.game.util.PackedWord;
+
+// One entry of the session journal. Words are stored packed with PackedWord.encodeLong;
+// fields that do not apply to a record type are zero.
+public record JournalRecord(Type type, long sessionId, long timestampMillis, int wordLength, int maxAttempts,
+                            long packedWord, int pattern) {
+
+    public enum Type {
+        CREATED(1),
+        GUESS(2),
+        RESET(3),
+        REMOVED(4),
+        // Written by a checkpoint; the session id field holds the next id to hand out
+        CHECKPOINT(5);
+
+        private final byte code;
+
+        Type(int code) {
+            this.code = (byte) code;
+        }
+
+        byte code() {
+            return code;
+        }
+
+        // Returns null for codes no record type uses
+        static Type of(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    // The target word of a CREATED record or the guess of a GUESS record.
+    public String word() {
+        return PackedWord.decodeLong(packedWord, wordLength);
+    }
+}
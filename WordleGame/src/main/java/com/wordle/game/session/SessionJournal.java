@@ -0,0 +1,466 @@
+package com.wordle.game.session;
+
+import com.wordle.game.exceptions.StorageException;
+import com.wordle.game.logic.GameConfig;
+import com.wordle.game.metrics.GameMetrics;
+import com.wordle.game.util.PackedWord;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Append-only log of what happens to hosted games, so a restarted server can rebuild them.
+//
+// Records have a fixed size and go into preallocated, memory-mapped segment files, so an append is
+// a 40-byte copy under a short lock. Each record carries a CRC32C; reading stops at the first record
+// that is missing or fails it, which is where a crash interrupted the writer. A full segment is
+// sealed and the next one started; a checkpoint seals the current one early. Sealing records where
+// the segment ends in its header, so only the newest segment may end short. Segments are kept until
+// a checkpoint (see GameSessionManager.compactJournal) has rewritten the live state after them and
+// deletes them.
+//
+// With Durability.SYNC an append returns once its record is on disk. Appenders that arrive while a
+// force is running wait for the next one, which covers all of them (group commit). With BUFFERED,
+// records survive a crash of the process, since the kernel owns the mapped pages, but not a crash
+// of the machine until sync() or close().
+//
+// Segment header, little-endian:
+//   0 magic | 4 version | 6 record size (short) | 8 segment number | 16 sealed at (int): offset past
+//   the last record once the segment is sealed, 0 before | 20 reserved
+//
+// Record layout, little-endian:
+//   0 crc32c of bytes 4-39 | 4 type | 5 word length | 6 max attempts (short) | 8 session id
+//   16 timestamp millis | 24 packed word | 32 pattern code | 36 reserved
+public final class SessionJournal implements AutoCloseable {
+    public enum Durability {
+        SYNC,
+        BUFFERED
+    }
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    static final int MAGIC = 0x574A4E4C; // "WJNL"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int SEALED_AT_OFFSET = 16;
+    static final int RECORD_SIZE = 40;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".wj";
+
+    private final Path directory;
+    private final Durability durability;
+    private final int segmentSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition forceDone = lock.newCondition();
+    private final ByteBuffer scratch = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C crc = new CRC32C();
+
+    private MappedByteBuffer segment;
+    // Sealed segments in BUFFERED mode whose records have not been forced yet; the next sync does
+    private final List<MappedByteBuffer> unforcedSegments = new ArrayList<>();
+    private long segmentNumber;
+    // Offset of the next record in the current segment
+    private int position;
+    // Everything before this offset of the current segment is known to be on disk
+    private int forcedPosition;
+    // Records appended since the journal was opened, and how many of them are on disk
+    private long appended;
+    private long durable;
+    private boolean forcing;
+    private boolean closed;
+
+    private SessionJournal(Path directory, Durability durability, int segmentSize) {
+        this.directory = directory;
+        this.durability = durability;
+        this.segmentSize = segmentSize;
+    }
+
+    public static SessionJournal open(Path directory, Durability durability) throws StorageException {
+        return open(directory, durability, DEFAULT_SEGMENT_SIZE);
+    }
+
+    // Continues the newest segment after its last intact record, or starts the first one.
+    public static SessionJournal open(Path directory, Durability durability, int segmentSize) throws StorageException {
+        if (directory == null || durability == null) {
+            throw new IllegalArgumentException("A directory and a durability mode are required");
+        }
+        if (segmentSize < HEADER_SIZE + RECORD_SIZE) {
+            throw new IllegalArgumentException("Segment size must hold at least one record: " + segmentSize);
+        }
+        SessionJournal journal = new SessionJournal(directory, durability, segmentSize);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new StorageException(directory, "Failed to create journal directory", e);
+        }
+
+        List<Path> segments = listSegments(directory);
+        if (segments.isEmpty()) {
+            journal.startSegment(0);
+        } else {
+            Path last = segments.get(segments.size() - 1);
+            journal.segmentNumber = segmentNumber(last);
+            journal.segment = map(last, FileChannel.MapMode.READ_WRITE);
+            journal.position = tail(journal.segment);
+            journal.forcedPosition = journal.position;
+            clearFrom(journal.segment, journal.position);
+        }
+        return journal;
+    }
+
+    public void gameCreated(long sessionId, GameConfig config, String targetWord) throws StorageException {
+        int length = config.wordLength();
+        append(JournalRecord.Type.CREATED, sessionId, length, config.maxAttempts(),
+                PackedWord.encodeLong(targetWord, length), 0);
+    }
+
+    public void guessMade(long sessionId, String guess, int pattern) throws StorageException {
+        append(JournalRecord.Type.GUESS, sessionId, guess.length(), 0, PackedWord.encodeLong(guess, guess.length()), pattern);
+    }
+
+    public void gameReset(long sessionId) throws StorageException {
+        append(JournalRecord.Type.RESET, sessionId, 0, 0, 0, 0);
+    }
+
+    public void sessionRemoved(long sessionId) throws StorageException {
+        append(JournalRecord.Type.REMOVED, sessionId, 0, 0, 0, 0);
+    }
+
+    // Marks the end of a checkpoint; keeps session ids from being reused once older segments are gone.
+    public void checkpoint(long nextSessionId) throws StorageException {
+        append(JournalRecord.Type.CHECKPOINT, nextSessionId, 0, 0, 0, 0);
+    }
+
+    // Seals the current segment unless it is still empty, and returns the number of the segment a
+    // checkpoint's records start in.
+    public long startCheckpoint() throws StorageException {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            if (position > HEADER_SIZE) {
+                rollSegment();
+            }
+            return segmentNumber;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Forces everything appended so far, then deletes the segments numbered below the given one.
+    // Returns how many were deleted.
+    public int deleteSegmentsBefore(long number) throws StorageException {
+        sync();
+        int deleted = 0;
+        for (Path path : listSegments(directory)) {
+            if (segmentNumber(path) >= number) {
+                break;
+            }
+            try {
+                Files.delete(path);
+            } catch (IOException e) {
+                throw new StorageException(path, "Failed to delete journal segment", e);
+            }
+            deleted++;
+        }
+        return deleted;
+    }
+
+    // Reads every intact record, oldest first, and returns how many there were. Meant for startup,
+    // before anything is appended. A bad record in a sealed segment is reported, not skipped.
+    public long replay(Consumer<JournalRecord> visitor) throws StorageException {
+        List<Path> segments = listSegments(directory);
+        long count = 0;
+        for (int s = 0; s < segments.size(); s++) {
+            Path path = segments.get(s);
+            MappedByteBuffer buffer = map(path, FileChannel.MapMode.READ_ONLY);
+            int end = tail(buffer);
+            if (s < segments.size() - 1 && end != sealedEnd(buffer)) {
+                throw new StorageException(path, "Corrupted record at offset " + end);
+            }
+            for (int offset = HEADER_SIZE; offset < end; offset += RECORD_SIZE) {
+                visitor.accept(read(buffer, offset));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Forces every record appended so far to disk.
+    public void sync() {
+        long target;
+        lock.lock();
+        try {
+            target = appended;
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(target);
+    }
+
+    // Sealed segments the next sync still has to force.
+    int getUnforcedSegmentCount() {
+        lock.lock();
+        try {
+            return unforcedSegments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public int getSegmentCount() throws StorageException {
+        return listSegments(directory).size();
+    }
+
+    @Override
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+        sync();
+        lock.lock();
+        try {
+            closed = true;
+            segment = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(JournalRecord.Type type, long sessionId, int wordLength, int maxAttempts, long word, int pattern)
+            throws StorageException {
+        long sequence;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            if (position + RECORD_SIZE > segment.capacity()) {
+                rollSegment();
+            }
+            scratch.clear();
+            scratch.putInt(0)
+                    .put(type.code())
+                    .put((byte) wordLength)
+                    .putShort((short) maxAttempts)
+                    .putLong(sessionId)
+                    .putLong(System.currentTimeMillis())
+                    .putLong(word)
+                    .putInt(pattern)
+                    .putInt(0);
+            crc.reset();
+            crc.update(scratch.array(), Integer.BYTES, RECORD_SIZE - Integer.BYTES);
+            scratch.putInt(0, (int) crc.getValue());
+            segment.put(position, scratch.array(), 0, RECORD_SIZE);
+            position += RECORD_SIZE;
+            sequence = ++appended;
+        } finally {
+            lock.unlock();
+        }
+        GameMetrics.JOURNAL_RECORDS.increment();
+        if (durability == Durability.SYNC) {
+            awaitDurable(sequence);
+        }
+    }
+
+    // Group commit: the first waiter forces everything appended so far while later ones wait for it,
+    // then either return or, if their record came in after the force started, lead the next one.
+    private void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durable < sequence) {
+                if (forcing) {
+                    forceDone.awaitUninterruptibly();
+                    continue;
+                }
+                forcing = true;
+                MappedByteBuffer target = segment;
+                int from = forcedPosition;
+                int to = position;
+                long upTo = appended;
+                List<MappedByteBuffer> sealed = new ArrayList<>(unforcedSegments);
+                unforcedSegments.clear();
+                boolean done = false;
+                lock.unlock();
+                long start = System.nanoTime();
+                try {
+                    // Older records first, so everything up to upTo is on disk once this returns
+                    for (MappedByteBuffer old : sealed) {
+                        old.force();
+                    }
+                    target.force(from, to - from);
+                    done = true;
+                } finally {
+                    lock.lock();
+                    forcing = false;
+                    if (done) {
+                        GameMetrics.JOURNAL_SYNC.recordSince(start);
+                        // A roll while forcing has already made the old segment durable, or queued it
+                        if (target == segment) {
+                            forcedPosition = Math.max(forcedPosition, to);
+                        }
+                        durable = Math.max(durable, upTo);
+                    } else {
+                        unforcedSegments.addAll(0, sealed);
+                    }
+                    forceDone.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called with the lock held. Sealing forces the segment in SYNC mode so that durability never
+    // depends on a segment that is no longer current; in BUFFERED mode the next sync forces it.
+    private void rollSegment() throws StorageException {
+        segment.putInt(SEALED_AT_OFFSET, position);
+        if (durability == Durability.SYNC) {
+            segment.force();
+            durable = appended;
+        } else {
+            unforcedSegments.add(segment);
+        }
+        startSegment(segmentNumber + 1);
+    }
+
+    private void startSegment(long number) throws StorageException {
+        Path path = directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        int recordsPerSegment = (segmentSize - HEADER_SIZE) / RECORD_SIZE;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) recordsPerSegment * RECORD_SIZE);
+            mapped.order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(0, MAGIC)
+                    .putShort(4, VERSION)
+                    .putShort(6, (short) RECORD_SIZE)
+                    .putLong(8, number);
+            mapped.force(0, HEADER_SIZE);
+            segment = mapped;
+        } catch (IOException e) {
+            throw new StorageException(path, "Failed to create journal segment", e);
+        }
+        segmentNumber = number;
+        position = HEADER_SIZE;
+        forcedPosition = HEADER_SIZE;
+    }
+
+    private static MappedByteBuffer map(Path path, FileChannel.MapMode mode) throws StorageException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || (size - HEADER_SIZE) % RECORD_SIZE != 0) {
+                throw new StorageException(path, "Unexpected segment size " + size);
+            }
+            buffer = channel.map(mode, 0, size);
+        } catch (IOException e) {
+            throw new StorageException(path, "Failed to map journal segment", e);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION || buffer.getShort(6) != RECORD_SIZE) {
+            throw new StorageException(path, "Not a journal segment or unsupported version");
+        }
+        return buffer;
+    }
+
+    // Offset just past the last intact record of a segment.
+    private static int tail(MappedByteBuffer buffer) {
+        CRC32C check = new CRC32C();
+        byte[] record = new byte[RECORD_SIZE];
+        int offset = HEADER_SIZE;
+        while (offset + RECORD_SIZE <= buffer.capacity()) {
+            buffer.get(offset, record);
+            if (JournalRecord.Type.of(record[4]) == null) {
+                break;
+            }
+            check.reset();
+            check.update(record, Integer.BYTES, RECORD_SIZE - Integer.BYTES);
+            if (buffer.getInt(offset) != (int) check.getValue()) {
+                break;
+            }
+            offset += RECORD_SIZE;
+        }
+        return offset;
+    }
+
+    // Where a sealed segment's records end. Segments sealed before the header said so were always
+    // sealed full.
+    private static int sealedEnd(MappedByteBuffer buffer) {
+        int sealedAt = buffer.getInt(SEALED_AT_OFFSET);
+        if (sealedAt != 0) {
+            return sealedAt;
+        }
+        return HEADER_SIZE + (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+    }
+
+    // Zeroes a torn record and anything after it, so records appended from here on can never be
+    // followed by stale ones that happen to pass their checksum.
+    private static void clearFrom(MappedByteBuffer buffer, int offset) {
+        for (int i = offset; i + Long.BYTES <= buffer.capacity(); i += Long.BYTES) {
+            if (buffer.getLong(i) != 0) {
+                buffer.putLong(i, 0);
+            }
+        }
+    }
+
+    private static JournalRecord read(MappedByteBuffer buffer, int offset) {
+        return new JournalRecord(
+                JournalRecord.Type.of(buffer.get(offset + 4)),
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                buffer.get(offset + 5),
+                buffer.getShort(offset + 6),
+                buffer.getLong(offset + 24),
+                buffer.getInt(offset + 32));
+    }
+
+    private static List<Path> listSegments(Path directory) throws StorageException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new StorageException(directory, "Failed to list journal segments", e);
+        }
+    }
+
+    private static long segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
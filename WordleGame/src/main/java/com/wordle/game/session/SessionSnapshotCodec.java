@@ -0,0 +1,176 @@
+package com.wordle.game.session;
+
+import com.wordle.game.exceptions.StorageException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+// Versioned binary form of CompactSession, for swapping single games out and for snapshots of a
+// whole manager. Streams are written with DataOutput, so every number is big-endian.
+//
+// Session: version byte | max attempts (int) | packed target (int) | guess count (short)
+//          | packed guesses (int each) | pattern codes (byte each)
+// Snapshot file: magic (int) | version byte | session count (long)
+//          | per session: session id (long) followed by the session without its version byte
+//          | crc32c (int) of everything before it
+// Readers reject versions newer than their own.
+public final class SessionSnapshotCodec {
+    static final int MAGIC = 0x57534E50; // "WSNP"
+    static final byte VERSION = 1;
+    private static final int BUFFER_SIZE = 64 << 10;
+
+    private SessionSnapshotCodec() {
+        throw new UnsupportedOperationException("SessionSnapshotCodec class cannot be instantiated");
+    }
+
+    // 11 bytes plus 5 per guess.
+    public static byte[] encode(CompactSession session) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(encodedSize(session));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeSession(out, session);
+        } catch (IOException e) {
+            // In-memory streams do not fail
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static CompactSession decode(byte[] encoded) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            readVersion(in);
+            CompactSession session = readSession(in);
+            if (in.available() > 0) {
+                throw new IOException("Trailing bytes after the session");
+            }
+            return session;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Not a valid session snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    public static int encodedSize(CompactSession session) {
+        return 1 + Integer.BYTES * 2 + Short.BYTES + session.getAttempts() * (Integer.BYTES + 1);
+    }
+
+    // Writes to a temporary file first so a crash never leaves a half-written snapshot in place.
+    public static void write(Path file, Map<Long, CompactSession> sessions) throws StorageException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "sessions-", ".tmp");
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), new CRC32C());
+            try (DataOutputStream out = new DataOutputStream(checked)) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeLong(sessions.size());
+                for (Map.Entry<Long, CompactSession> entry : sessions.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    writeSession(out, entry.getValue());
+                }
+                out.writeInt((int) checked.getChecksum().getValue());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+        } catch (IOException e) {
+            throw new StorageException(file, "Failed to write session snapshot", e);
+        } finally {
+            if (temp != null) {
+                temp.toFile().delete();
+            }
+        }
+    }
+
+    // Sessions by id, in file order.
+    public static Map<Long, CompactSession> read(Path file) throws StorageException {
+        try (InputStream raw = Files.newInputStream(file)) {
+            CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(raw, BUFFER_SIZE), new CRC32C());
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readInt() != MAGIC) {
+                throw new StorageException(file, "Not a session snapshot file");
+            }
+            readVersion(in);
+            long count = in.readLong();
+            if (count < 0) {
+                throw new StorageException(file, "Invalid session count: " + count);
+            }
+            Map<Long, CompactSession> sessions = new LinkedHashMap<>();
+            for (long i = 0; i < count; i++) {
+                long id = in.readLong();
+                if (sessions.put(id, readSession(in)) != null) {
+                    throw new StorageException(file, "Session " + id + " appears twice");
+                }
+            }
+            int expected = (int) checked.getChecksum().getValue();
+            if (in.readInt() != expected) {
+                throw new StorageException(file, "Session snapshot checksum mismatch");
+            }
+            if (in.read() != -1) {
+                throw new StorageException(file, "Trailing bytes after the checksum");
+            }
+            return sessions;
+        } catch (IOException e) {
+            throw new StorageException(file, "Failed to read session snapshot", e);
+        } catch (IllegalArgumentException e) {
+            throw new StorageException(file, "Corrupted session snapshot", e);
+        }
+    }
+
+    private static void writeSession(DataOutput out, CompactSession session) throws IOException {
+        int attempts = session.getAttempts();
+        if (attempts > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many guesses to encode: " + attempts);
+        }
+        out.writeInt(session.getMaxAttempts());
+        out.writeInt(session.getPackedTarget());
+        out.writeShort(attempts);
+        for (int i = 0; i < attempts; i++) {
+            out.writeInt(session.getPackedGuess(i));
+        }
+        for (int i = 0; i < attempts; i++) {
+            out.writeByte(session.getPattern(i));
+        }
+    }
+
+    // The constructor checks the values, so a corrupted session fails here rather than when played.
+    private static CompactSession readSession(DataInput in) throws IOException {
+        int maxAttempts = in.readInt();
+        int packedTarget = in.readInt();
+        int attempts = in.readShort();
+        if (attempts < 0 || attempts > maxAttempts) {
+            throw new IOException(attempts + " guesses do not fit " + maxAttempts + " attempts");
+        }
+        int[] packedGuesses = new int[attempts];
+        byte[] patterns = new byte[attempts];
+        for (int i = 0; i < attempts; i++) {
+            packedGuesses[i] = in.readInt();
+        }
+        in.readFully(patterns);
+        return new CompactSession(maxAttempts, packedTarget, packedGuesses, patterns);
+    }
+
+    private static void readVersion(DataInput in) throws IOException {
+        byte version = in.readByte();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported session snapshot version " + version);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.wordle.game.simulation;
+
+import com.wordle.game.logic.CandidateIndex;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+
+import java.util.List;
+
+// Baseline that always plays the first dictionary word still consistent with the feedback.
+public class CandidateStrategy implements GuessStrategy {
+    private final CandidateIndex index;
+
+    public CandidateStrategy(WordLoader dictionary) {
+        this.index = new CandidateIndex(dictionary);
+    }
+
+    @Override
+    public String nextGuess(GameProcessor game) {
+        long[] candidates = index.allWords();
+        List<String> guesses = game.getGuesses();
+        for (int i = 0; i < guesses.size(); i++) {
+            index.apply(candidates, guesses.get(i), game.getGuessOutcome(i));
+        }
+        int[] remaining = index.packedWords(candidates);
+        if (remaining.length == 0) {
+            throw new IllegalStateException("No dictionary word is consistent with the feedback");
+        }
+        return PackedWord.decode(remaining[0]);
+    }
+}
@@ -0,0 +1,24 @@
+package com.wordle.game.simulation;
+
+import com.wordle.game.logic.DecisionTree;
+import com.wordle.game.logic.DecisionTreeCompiler;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.util.WordLoader;
+
+// Plays a precomputed DecisionTree: each turn is a walk of at most a few nodes, with no scoring.
+public class DecisionTreeStrategy implements GuessStrategy {
+    private final DecisionTree tree;
+
+    public DecisionTreeStrategy(WordLoader dictionary) {
+        this(new DecisionTreeCompiler(dictionary).compile());
+    }
+
+    public DecisionTreeStrategy(DecisionTree tree) {
+        this.tree = tree;
+    }
+
+    @Override
+    public String nextGuess(GameProcessor game) {
+        return tree.suggest(game);
+    }
+}
@@ -0,0 +1,48 @@
+package com.wordle.game.simulation;
+
+import com.wordle.game.logic.EntropySolver;
+import com.wordle.game.logic.FeedbackPattern;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.util.WordLoader;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Plays the EntropySolver's suggestion every turn. Suggestions depend only on the guesses
+// and feedback so far, and across a full-dictionary run most games share their early
+// histories, so each distinct history is solved once and the answer reused.
+public class EntropyStrategy implements GuessStrategy {
+    private final EntropySolver solver;
+    private final ConcurrentMap<String, String> suggestions = new ConcurrentHashMap<>();
+
+    public EntropyStrategy(WordLoader dictionary) {
+        this(new EntropySolver(dictionary));
+    }
+
+    public EntropyStrategy(EntropySolver solver) {
+        this.solver = solver;
+    }
+
+    @Override
+    public String nextGuess(GameProcessor game) {
+        String key = historyKey(game);
+        String cached = suggestions.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Racing workers may solve the same history twice; they all arrive at the same word
+        String suggestion = solver.suggest(game);
+        suggestions.putIfAbsent(key, suggestion);
+        return suggestion;
+    }
+
+    private static String historyKey(GameProcessor game) {
+        List<String> guesses = game.getGuesses();
+        StringBuilder key = new StringBuilder(guesses.size() * 9);
+        for (int i = 0; i < guesses.size(); i++) {
+            key.append(guesses.get(i)).append(FeedbackPattern.fromOutcomes(game.getGuessOutcome(i))).append('|');
+        }
+        return key.toString();
+    }
+}
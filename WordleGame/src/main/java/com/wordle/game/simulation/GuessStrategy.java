@@ -0,0 +1,13 @@
+package com.wordle.game.simulation;
+
+import com.wordle.game.logic.GameProcessor;
+
+// Chooses the next guess for a game in progress.
+// One instance is shared by every simulation worker, so implementations must be thread-safe.
+public interface GuessStrategy {
+    String nextGuess(GameProcessor game);
+
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,58 @@
+package com.wordle.game.simulation;
+
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.util.DictionaryRegistry;
+import com.wordle.game.util.WordLoader;
+
+import java.util.List;
+
+// Plays one headless game per target word across all cores and aggregates the outcomes.
+public class SimulationEngine {
+    private final WordLoader dictionary;
+
+    public SimulationEngine(WordLoader dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    public static void main(String[] args) {
+        WordLoader dictionary = DictionaryRegistry.getDefault();
+        String name = args.length > 0 ? args[0].toLowerCase() : "entropy";
+        GuessStrategy strategy = switch (name) {
+            case "candidate" -> new CandidateStrategy(dictionary);
+            case "tree" -> new DecisionTreeStrategy(dictionary);
+            default -> new EntropyStrategy(dictionary);
+        };
+        SimulationResult result = new SimulationEngine(dictionary).run(strategy);
+        System.out.println("Strategy: " + strategy.getName());
+        System.out.print(result);
+    }
+
+    // Plays every word in the dictionary as the target.
+    public SimulationResult run(GuessStrategy strategy) {
+        return run(strategy, dictionary.getAllWords());
+    }
+
+    public SimulationResult run(GuessStrategy strategy, List<String> targets) {
+        int maxAttempts = GameProcessor.getDefaultMaxAttempts();
+        long start = System.nanoTime();
+        // collect() gives every worker its own accumulator and merges them pairwise at the end
+        SimulationResult result = targets.parallelStream().collect(
+                () -> new SimulationResult(maxAttempts),
+                (accumulator, target) -> play(strategy, target, accumulator),
+                SimulationResult::merge);
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    private void play(GuessStrategy strategy, String target, SimulationResult accumulator) {
+        GameProcessor game = new GameProcessor(dictionary, target);
+        while (!game.isGameOver()) {
+            game.makeGuess(strategy.nextGuess(game));
+        }
+        if (game.isGameWon()) {
+            accumulator.recordWin(game.getCurrentAttempt());
+        } else {
+            accumulator.recordLoss(game.getTargetWord());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.wordle.game.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Outcome totals for a batch of simulated games. Each worker fills its own instance;
+// the instances are merged once all games are done, so recording needs no synchronization.
+public class SimulationResult {
+    private static final int MAX_RECORDED_LOSSES = 20;
+
+    private final int maxAttempts;
+    // Index n holds the number of games won in exactly n guesses
+    private final long[] guessDistribution;
+    private final List<String> lostWords = new ArrayList<>();
+    private long games;
+    private long losses;
+    private long elapsedNanos;
+
+    public SimulationResult(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        this.guessDistribution = new long[maxAttempts + 1];
+    }
+
+    void recordWin(int attempts) {
+        games++;
+        guessDistribution[attempts]++;
+    }
+
+    void recordLoss(String target) {
+        games++;
+        losses++;
+        if (lostWords.size() < MAX_RECORDED_LOSSES) {
+            lostWords.add(target);
+        }
+    }
+
+    void merge(SimulationResult other) {
+        games += other.games;
+        losses += other.losses;
+        for (int i = 0; i < guessDistribution.length; i++) {
+            guessDistribution[i] += other.guessDistribution[i];
+        }
+        for (String word : other.lostWords) {
+            if (lostWords.size() < MAX_RECORDED_LOSSES) {
+                lostWords.add(word);
+            }
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return games - losses;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) getWins() / games;
+    }
+
+    public long getWinsInAttempts(int attempts) {
+        return guessDistribution[attempts];
+    }
+
+    public double getAverageGuessesToWin() {
+        long wins = getWins();
+        if (wins == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 1; i <= maxAttempts; i++) {
+            total += i * guessDistribution[i];
+        }
+        return (double) total / wins;
+    }
+
+    // Most guesses any won game needed, or 0 if nothing was won.
+    public int getWorstWin() {
+        for (int i = maxAttempts; i > 0; i--) {
+            if (guessDistribution[i] > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    public List<String> getSampleLostWords() {
+        return Collections.unmodifiableList(lostWords);
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Games: %d, won: %d (%.2f%%), lost: %d%n",
+                games, getWins(), getWinRate() * 100, losses));
+        report.append(String.format("Average guesses to win: %.3f, worst win: %d%n",
+                getAverageGuessesToWin(), getWorstWin()));
+        for (int i = 1; i <= maxAttempts; i++) {
+            report.append(String.format("  %d: %d%n", i, guessDistribution[i]));
+        }
+        if (!lostWords.isEmpty()) {
+            report.append(String.format("Lost words (sample): %s%n", lostWords));
+        }
+        report.append(String.format("Throughput: %.0f games/second (%.3f s)%n",
+                getGamesPerSecond(), elapsedNanos / 1e9));
+        return report.toString();
+    }
+}
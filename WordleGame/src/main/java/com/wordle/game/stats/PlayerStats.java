@@ -0,0 +1,15 @@
+package com.wordle.game.stats;
+
+// A consistent copy of one player's record. distribution[i] counts wins in i + 1 guesses; the last
+// bucket also takes every win that needed more guesses.
+public record PlayerStats(int gamesPlayed, int wins, int currentStreak, int maxStreak, int[] distribution,
+                          long lastPlayedMillis) {
+
+    public int losses() {
+        return gamesPlayed - wins;
+    }
+
+    public double winRate() {
+        return gamesPlayed == 0 ? 0 : (double) wins / gamesPlayed;
+    }
+}
@@ -0,0 +1,274 @@
+package com.wordle.game.stats;
+
+import com.wordle.game.exceptions.StorageException;
+import com.wordle.game.logic.GameCompletionListener;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Long-term statistics for players identified by dense ids 0..capacity-1.
+//
+// Every player owns one 64-byte record (a cache line) in direct or memory-mapped buffers, so the
+// heap holds no per-player objects and a million players take 64 MB outside it. A record is
+// guarded by a sequence lock in its first 8 bytes: a writer CASes the sequence from even to odd,
+// updates the fields and publishes the next even value; readers retry while the sequence is odd
+// or has changed. Updates to different players never contend.
+//
+// Record layout, little-endian:
+//   0 sequence | 8 games played | 12 wins | 16 current streak | 20 max streak
+//   24 wins by guess count, 8 ints | 56 last played (epoch millis)
+public final class PlayerStatsStore implements AutoCloseable {
+    public static final int RECORD_SIZE = 64;
+    public static final int DISTRIBUTION_BUCKETS = 8;
+    static final int HEADER_SIZE = 64;
+    private static final int MAGIC = 0x57505354; // "WPST"
+    private static final int VERSION = 1;
+    // Records per buffer; 2^24 records make 1 GiB, within what one ByteBuffer can address
+    private static final int CHUNK_SHIFT = 24;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private static final int SEQUENCE = 0;
+    private static final int GAMES_PLAYED = 8;
+    private static final int WINS = 12;
+    private static final int CURRENT_STREAK = 16;
+    private static final int MAX_STREAK = 20;
+    private static final int DISTRIBUTION = 24;
+    private static final int LAST_PLAYED = 56;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final ByteBuffer[] chunks;
+    private final int capacity;
+    private final Path file;
+
+    private PlayerStatsStore(ByteBuffer[] chunks, int capacity, Path file) {
+        this.chunks = chunks;
+        this.capacity = capacity;
+        this.file = file;
+    }
+
+    // Off-heap store that lives as long as the process.
+    public static PlayerStatsStore inMemory(int capacity) {
+        checkCapacity(capacity);
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(capacity)];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = ByteBuffer.allocateDirect(chunkRecords(capacity, i) * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new PlayerStatsStore(chunks, capacity, null);
+    }
+
+    // Store backed by a file, created or grown to hold at least capacity players. The file is
+    // sparse, so players that never played take no disk space.
+    public static PlayerStatsStore open(Path file, int capacity) throws StorageException {
+        checkCapacity(capacity);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.size() == 0) {
+                header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_SIZE).putInt(capacity).flip();
+                channel.write(header, 0);
+            } else {
+                channel.read(header, 0);
+                header.flip();
+                if (header.remaining() < 16 || header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                        || header.getInt(8) != RECORD_SIZE) {
+                    throw new StorageException(file, "Not a player statistics file or unsupported version");
+                }
+                int stored = header.getInt(12);
+                if (stored < capacity) {
+                    channel.write(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, capacity), 12);
+                } else {
+                    capacity = stored;
+                }
+            }
+
+            ByteBuffer[] chunks = new ByteBuffer[chunkCount(capacity)];
+            for (int i = 0; i < chunks.length; i++) {
+                long offset = HEADER_SIZE + ((long) i << CHUNK_SHIFT) * RECORD_SIZE;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset,
+                        (long) chunkRecords(capacity, i) * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                unlockAbandoned(chunks[i]);
+            }
+            return new PlayerStatsStore(chunks, capacity, file);
+        } catch (IOException e) {
+            throw new StorageException(file, "Failed to open player statistics", e);
+        }
+    }
+
+    public void recordGame(int playerId, boolean won, int attempts) {
+        recordGame(playerId, won, attempts, System.currentTimeMillis());
+    }
+
+    public void recordGame(int playerId, boolean won, int attempts, long timestampMillis) {
+        if (won && attempts < 1) {
+            throw new IllegalArgumentException("A won game takes at least one guess: " + attempts);
+        }
+        ByteBuffer chunk = chunkFor(playerId);
+        int offset = offsetFor(playerId);
+        long sequence = lock(chunk, offset);
+        try {
+            chunk.putInt(offset + GAMES_PLAYED, chunk.getInt(offset + GAMES_PLAYED) + 1);
+            if (won) {
+                int streak = chunk.getInt(offset + CURRENT_STREAK) + 1;
+                chunk.putInt(offset + WINS, chunk.getInt(offset + WINS) + 1);
+                chunk.putInt(offset + CURRENT_STREAK, streak);
+                chunk.putInt(offset + MAX_STREAK, Math.max(streak, chunk.getInt(offset + MAX_STREAK)));
+                int bucket = offset + DISTRIBUTION + (Math.min(attempts, DISTRIBUTION_BUCKETS) - 1) * Integer.BYTES;
+                chunk.putInt(bucket, chunk.getInt(bucket) + 1);
+            } else {
+                chunk.putInt(offset + CURRENT_STREAK, 0);
+            }
+            chunk.putLong(offset + LAST_PLAYED, timestampMillis);
+        } finally {
+            LONGS.setRelease(chunk, offset + SEQUENCE, sequence + 2);
+        }
+    }
+
+    // Records the outcome of the game for the player once it ends.
+    public GameCompletionListener listenerFor(int playerId) {
+        checkPlayer(playerId);
+        return game -> recordGame(playerId, game.isGameWon(), game.getCurrentAttempt());
+    }
+
+    public PlayerStats get(int playerId) {
+        ByteBuffer chunk = chunkFor(playerId);
+        int offset = offsetFor(playerId);
+        while (true) {
+            long before = (long) LONGS.getAcquire(chunk, offset + SEQUENCE);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int[] distribution = new int[DISTRIBUTION_BUCKETS];
+            for (int i = 0; i < DISTRIBUTION_BUCKETS; i++) {
+                distribution[i] = chunk.getInt(offset + DISTRIBUTION + i * Integer.BYTES);
+            }
+            PlayerStats stats = new PlayerStats(chunk.getInt(offset + GAMES_PLAYED), chunk.getInt(offset + WINS),
+                    chunk.getInt(offset + CURRENT_STREAK), chunk.getInt(offset + MAX_STREAK), distribution,
+                    chunk.getLong(offset + LAST_PLAYED));
+            VarHandle.loadLoadFence();
+            if ((long) LONGS.getVolatile(chunk, offset + SEQUENCE) == before) {
+                return stats;
+            }
+        }
+    }
+
+    // One pass over every record. Each record is read consistently; the summary as a whole is not a
+    // point-in-time snapshot while games keep finishing.
+    public StatsSummary summarize() {
+        StatsSummary summary = new StatsSummary();
+        int[] distribution = new int[DISTRIBUTION_BUCKETS];
+        for (ByteBuffer chunk : chunks) {
+            for (int offset = 0; offset < chunk.capacity(); offset += RECORD_SIZE) {
+                // Players who never played are skipped without taking part in the sequence lock
+                if (chunk.getInt(offset + GAMES_PLAYED) == 0) {
+                    continue;
+                }
+                int played;
+                int wins;
+                int maxStreak;
+                while (true) {
+                    long before = (long) LONGS.getAcquire(chunk, offset + SEQUENCE);
+                    if ((before & 1) != 0) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    played = chunk.getInt(offset + GAMES_PLAYED);
+                    wins = chunk.getInt(offset + WINS);
+                    maxStreak = chunk.getInt(offset + MAX_STREAK);
+                    for (int i = 0; i < DISTRIBUTION_BUCKETS; i++) {
+                        distribution[i] = chunk.getInt(offset + DISTRIBUTION + i * Integer.BYTES);
+                    }
+                    VarHandle.loadLoadFence();
+                    if ((long) LONGS.getVolatile(chunk, offset + SEQUENCE) == before) {
+                        break;
+                    }
+                }
+                summary.add(played, wins, maxStreak);
+                for (int i = 0; i < DISTRIBUTION_BUCKETS; i++) {
+                    summary.addWins(i, distribution[i]);
+                }
+            }
+        }
+        return summary;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Writes a file-backed store's records to disk; a no-op for in-memory stores.
+    public void flush() {
+        if (file == null) {
+            return;
+        }
+        for (ByteBuffer chunk : chunks) {
+            ((MappedByteBuffer) chunk).force();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    // A process that died while updating a record left its sequence odd, and every reader and
+    // writer of that record would spin forever. The store is not shared yet, so any odd sequence
+    // belongs to a dead writer: it is released, keeping whatever part of the update was written.
+    // Only such records are written, so the pages of players that never played stay untouched.
+    private static void unlockAbandoned(ByteBuffer chunk) {
+        for (int offset = 0; offset < chunk.capacity(); offset += RECORD_SIZE) {
+            long sequence = chunk.getLong(offset + SEQUENCE);
+            if ((sequence & 1) != 0) {
+                chunk.putLong(offset + SEQUENCE, sequence + 1);
+            }
+        }
+    }
+
+    // Spins until the record's sequence is even and this thread moved it to odd.
+    private static long lock(ByteBuffer chunk, int offset) {
+        while (true) {
+            long sequence = (long) LONGS.getVolatile(chunk, offset + SEQUENCE);
+            if ((sequence & 1) == 0 && LONGS.compareAndSet(chunk, offset + SEQUENCE, sequence, sequence + 1)) {
+                return sequence;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private ByteBuffer chunkFor(int playerId) {
+        checkPlayer(playerId);
+        return chunks[playerId >>> CHUNK_SHIFT];
+    }
+
+    private static int offsetFor(int playerId) {
+        return (playerId & CHUNK_MASK) * RECORD_SIZE;
+    }
+
+    private void checkPlayer(int playerId) {
+        if (playerId < 0 || playerId >= capacity) {
+            throw new IllegalArgumentException(String.format("Player id %d outside 0..%d", playerId, capacity - 1));
+        }
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+    }
+
+    private static int chunkCount(int capacity) {
+        return ((capacity - 1) >>> CHUNK_SHIFT) + 1;
+    }
+
+    private static int chunkRecords(int capacity, int chunk) {
+        return Math.min(1 << CHUNK_SHIFT, capacity - (chunk << CHUNK_SHIFT));
+    }
+}
@@ -0,0 +1,98 @@
+package com.wordle.game.stats;
+
+// Totals and distributions over every player who finished at least one game, built by one scan
+// of the store. Per-player values are kept as small histograms so percentiles are cheap.
+public final class StatsSummary {
+    // Streaks at or above this share the top bucket
+    static final int STREAK_BUCKETS = 1024;
+    private static final int WIN_RATE_BUCKETS = 101;
+
+    private long players;
+    private long games;
+    private long wins;
+    private final long[] guessDistribution = new long[PlayerStatsStore.DISTRIBUTION_BUCKETS];
+    private final long[] maxStreaks = new long[STREAK_BUCKETS];
+    private final long[] winRates = new long[WIN_RATE_BUCKETS];
+
+    StatsSummary() {
+    }
+
+    void add(int gamesPlayed, int playerWins, int maxStreak) {
+        players++;
+        games += gamesPlayed;
+        wins += playerWins;
+        maxStreaks[Math.min(maxStreak, STREAK_BUCKETS - 1)]++;
+        winRates[(int) (playerWins * 100L / gamesPlayed)]++;
+    }
+
+    void addWins(int bucket, int count) {
+        guessDistribution[bucket] += count;
+    }
+
+    public long getPlayers() {
+        return players;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return games - wins;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    // Wins by number of guesses over all players, in the layout of PlayerStats.distribution.
+    public long[] getGuessDistribution() {
+        return guessDistribution.clone();
+    }
+
+    public double getAverageGuesses() {
+        long total = 0;
+        for (int i = 0; i < guessDistribution.length; i++) {
+            total += guessDistribution[i] * (i + 1);
+        }
+        return wins == 0 ? 0 : (double) total / wins;
+    }
+
+    // Longest streak reached by the given share of players, e.g. 0.9 for the 90th percentile.
+    public int maxStreakPercentile(double quantile) {
+        return percentile(maxStreaks, quantile);
+    }
+
+    // Win rate in whole percent at the given quantile of players.
+    public int winRatePercentile(double quantile) {
+        return percentile(winRates, quantile);
+    }
+
+    private int percentile(long[] histogram, double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (players == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * players));
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return histogram.length - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d players, %d games, %.1f%% won, %.2f guesses per win, max streak p50=%d p99=%d",
+                players, games, getWinRate() * 100, getAverageGuesses(), maxStreakPercentile(0.5), maxStreakPercentile(0.99));
+    }
+}
@@ -0,0 +1,145 @@
+package com.wordle.game.util;
+
+import com.wordle.game.exceptions.WordLoadException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+// Read-only, memory-mapped view of a dictionary written by DictionaryCompiler.
+//
+// Layout (little-endian):
+//   0  int   magic "WDIC"
+//   4  short format version
+//   6  byte  word length
+//   7  byte  flags (bit 0: frequency column present)
+//   8  int   word count
+//   12 int   reserved
+//   16 long  CRC32C of everything after the header
+//   24 int[] packed words, sorted ascending
+//      int[] frequencies, in the same order (optional)
+public final class BinaryDictionary {
+    static final int MAGIC = 0x43494457; // "WDIC" read as little-endian
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 24;
+    static final byte FLAG_FREQUENCIES = 1;
+
+    private final Path path;
+    private final IntBuffer words;
+    private final IntBuffer frequencies;
+
+    private BinaryDictionary(Path path, IntBuffer words, IntBuffer frequencies) {
+        this.path = path;
+        this.words = words;
+        this.frequencies = frequencies;
+    }
+
+    public static BinaryDictionary open(Path path) throws WordLoadException {
+        String fileName = String.valueOf(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new WordLoadException(fileName, "Not a compiled dictionary (unexpected size " + size + ")");
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+
+            if (mapped.getInt(0) != MAGIC) {
+                throw new WordLoadException(fileName, "Not a compiled dictionary (bad magic number)");
+            }
+            if (mapped.getShort(4) != VERSION) {
+                throw new WordLoadException(fileName, "Unsupported dictionary format version " + mapped.getShort(4));
+            }
+            if (mapped.get(6) != WordLoader.getWordLength()) {
+                throw new WordLoadException(fileName, "Dictionary holds " + mapped.get(6) + "-letter words");
+            }
+            boolean hasFrequencies = (mapped.get(7) & FLAG_FREQUENCIES) != 0;
+            int count = mapped.getInt(8);
+            long expectedSize = HEADER_SIZE + (long) count * Integer.BYTES * (hasFrequencies ? 2 : 1);
+            if (count < 0 || expectedSize != size) {
+                throw new WordLoadException(fileName, "Truncated or oversized dictionary file");
+            }
+
+            ByteBuffer body = mapped.slice(HEADER_SIZE, (int) (size - HEADER_SIZE)).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32C crc = new CRC32C();
+            crc.update(body.duplicate());
+            if (crc.getValue() != mapped.getLong(16)) {
+                throw new WordLoadException(fileName, "Checksum mismatch, the file is corrupted");
+            }
+
+            IntBuffer words = body.slice(0, count * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            IntBuffer frequencies = hasFrequencies
+                    ? body.slice(count * Integer.BYTES, count * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer()
+                    : null;
+            return new BinaryDictionary(path, words, frequencies);
+        } catch (IOException e) {
+            throw new WordLoadException(fileName, "I/O error while reading file", e);
+        }
+    }
+
+    public int size() {
+        return words.limit();
+    }
+
+    public int wordAt(int index) {
+        return words.get(index);
+    }
+
+    // Binary search over the sorted packed words; returns -1 if absent.
+    public int indexOf(int packedWord) {
+        int low = 0;
+        int high = words.limit() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int word = words.get(middle);
+            if (word < packedWord) {
+                low = middle + 1;
+            } else if (word > packedWord) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int packedWord) {
+        return indexOf(packedWord) >= 0;
+    }
+
+    public boolean hasFrequencies() {
+        return frequencies != null;
+    }
+
+    public int frequencyAt(int index) {
+        if (frequencies == null) {
+            throw new IllegalStateException("Dictionary has no frequency column");
+        }
+        return frequencies.get(index);
+    }
+
+    // The mapped word column itself, for serving lookups without copying it.
+    IntBuffer words() {
+        return words;
+    }
+
+    public int[] copyWords() {
+        int[] copy = new int[words.limit()];
+        words.get(0, copy);
+        return copy;
+    }
+
+    // Size of the compiled file in bytes.
+    public long getFileSize() {
+        int columns = frequencies == null ? 1 : 2;
+        return HEADER_SIZE + (long) words.limit() * Integer.BYTES * columns;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+}
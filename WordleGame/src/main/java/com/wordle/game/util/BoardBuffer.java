@@ -0,0 +1,176 @@
+package com.wordle.game.util;
+
+import com.wordle.game.logic.FeedbackPattern;
+import com.wordle.game.logic.GuessOutcome;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Reusable byte buffer for drawing boards. Guess rows are assembled by copying the tiles that
+// ColorDisplayer encodes once at startup, so once the buffer has grown to the size of a board,
+// redrawing it allocates nothing. Call reset() to start the next board in the same buffer.
+public final class BoardBuffer {
+    private byte[] bytes;
+    private int size;
+
+    public BoardBuffer() {
+        this(1024);
+    }
+
+    public BoardBuffer(int initialCapacity) {
+        this.bytes = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public BoardBuffer appendGuess(CharSequence guess, GuessOutcome[] outcomes) {
+        if (guess == null || outcomes == null) {
+            throw new IllegalArgumentException("Guess and outcome cannot be null");
+        }
+        if (guess.length() != outcomes.length) {
+            throw new IllegalArgumentException("Guess length must match outcomes array length");
+        }
+        for (int i = 0; i < outcomes.length; i++) {
+            if (i > 0) {
+                append(ColorDisplayer.TILE_SEPARATOR);
+            }
+            int tile = outcomes[i] == null ? -1 : ColorDisplayer.tileIndex(guess.charAt(i), outcomes[i]);
+            if (tile >= 0) {
+                append(ColorDisplayer.TILE_BYTES[tile]);
+            } else {
+                append(ColorDisplayer.formatLetter(guess.charAt(i), outcomes[i]));
+            }
+        }
+        return this;
+    }
+
+    // Renders straight from the packed forms, without decoding the word or the pattern.
+    public BoardBuffer appendGuess(int packedGuess, int patternCode) {
+        int code = patternCode;
+        for (int i = 0; i < WordLoader.getWordLength(); i++) {
+            if (i > 0) {
+                append(ColorDisplayer.TILE_SEPARATOR);
+            }
+            // Peel one base-3 digit per position instead of seeking each one from the start
+            GuessOutcome outcome = FeedbackPattern.outcomeAt(code, 0);
+            code /= 3;
+            append(ColorDisplayer.TILE_BYTES[ColorDisplayer.letterTileIndex(PackedWord.letterAt(packedGuess, i), outcome)]);
+        }
+        return this;
+    }
+
+    // One guess on boards [from, to) side by side; a negative code (MultiBoardGame.NO_PATTERN)
+    // leaves that board blank.
+    public BoardBuffer appendGuesses(int packedGuess, int[] patternCodes, int from, int to) {
+        if (from < 0 || to > patternCodes.length || from > to) {
+            throw new IndexOutOfBoundsException("Invalid board range: " + from + " to " + to);
+        }
+        for (int board = from; board < to; board++) {
+            if (board > from) {
+                append(ColorDisplayer.BOARD_SEPARATOR);
+            }
+            if (patternCodes[board] < 0) {
+                append(ColorDisplayer.BLANK_GUESS);
+            } else {
+                appendGuess(packedGuess, patternCodes[board]);
+            }
+        }
+        return this;
+    }
+
+    // Appends text as UTF-8; plain ASCII, which covers all the escape codes, is copied without encoding.
+    public BoardBuffer append(String text) {
+        int length = text.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                // Rare non-ASCII text such as emoji; the ASCII prefix is already in, encode the rest
+                return append(text.substring(i).getBytes(StandardCharsets.UTF_8));
+            }
+            bytes[size++] = (byte) c;
+        }
+        return this;
+    }
+
+    public BoardBuffer append(byte[] data) {
+        ensureCapacity(data.length);
+        System.arraycopy(data, 0, bytes, size, data.length);
+        size += data.length;
+        return this;
+    }
+
+    // Appends a non-negative number in decimal without going through a String.
+    public BoardBuffer appendNumber(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Only non-negative numbers are supported");
+        }
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        for (int i = size + digits - 1, rest = value; i >= size; i--, rest /= 10) {
+            bytes[i] = (byte) ('0' + rest % 10);
+        }
+        size += digits;
+        return this;
+    }
+
+    public BoardBuffer newLine() {
+        return append(System.lineSeparator());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+
+    // Writes the whole content, looping until a non-blocking or partial channel has taken every byte.
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer content = ByteBuffer.wrap(bytes, 0, size);
+        while (content.hasRemaining()) {
+            channel.write(content);
+        }
+    }
+
+    // Copies a range of another buffer, e.g. one row of a previous frame.
+    BoardBuffer append(BoardBuffer source, int from, int to) {
+        ensureCapacity(to - from);
+        System.arraycopy(source.bytes, from, bytes, size, to - from);
+        size += to - from;
+        return this;
+    }
+
+    boolean rangeEquals(int from, int to, BoardBuffer other, int otherFrom, int otherTo) {
+        return Arrays.equals(bytes, from, to, other.bytes, otherFrom, otherTo);
+    }
+
+    public byte[] toByteArray() {
+        byte[] copy = new byte[size];
+        System.arraycopy(bytes, 0, copy, 0, size);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, size, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > bytes.length) {
+            byte[] grown = new byte[Math.max(bytes.length * 2, size + additional)];
+            System.arraycopy(bytes, 0, grown, 0, size);
+            bytes = grown;
+        }
+    }
+}
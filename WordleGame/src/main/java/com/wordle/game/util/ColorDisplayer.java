@@ -1,6 +1,11 @@
 package com.wordle.game.util;
 
+import com.wordle.game.logic.FeedbackPattern;
 import com.wordle.game.logic.GuessOutcome;
+import com.wordle.game.logic.MultiBoardGame;
+import com.wordle.game.metrics.GameMetrics;
+
+import java.nio.charset.StandardCharsets;
 
 public class ColorDisplayer {
     // ANSI escape codes for colors
@@ -18,6 +23,28 @@ public class ColorDisplayer {
     private static final String BLUE = "\u001B[34m";
     private static final String CYAN = "\u001B[36m";
 
+    static final String TILE_SEPARATOR = " ";
+    // Between the boards of a multi-board row
+    static final String BOARD_SEPARATOR = "   ";
+    // Stands in for the row of a board solved earlier; as wide as a row of tiles (" A " each)
+    static final String BLANK_GUESS = " ".repeat(FeedbackPattern.WORD_LENGTH * 3
+            + (FeedbackPattern.WORD_LENGTH - 1) * TILE_SEPARATOR.length());
+    private static final GuessOutcome[] OUTCOMES = GuessOutcome.values();
+    private static final int ALPHABET_SIZE = 26;
+    // Every A-Z tile in every color, built once; [letter * 3 + outcome.ordinal()]
+    private static final String[] TILES = new String[ALPHABET_SIZE * OUTCOMES.length];
+    static final byte[][] TILE_BYTES = new byte[TILES.length][];
+
+    static {
+        for (int letter = 0; letter < ALPHABET_SIZE; letter++) {
+            for (GuessOutcome outcome : OUTCOMES) {
+                int index = letter * OUTCOMES.length + outcome.ordinal();
+                TILES[index] = buildTile((char) ('A' + letter), outcome);
+                TILE_BYTES[index] = TILES[index].getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+    }
+
     private ColorDisplayer() {
         throw new UnsupportedOperationException("ColorDisplayer class cannot be instantiated");
     }
@@ -27,6 +54,25 @@ public class ColorDisplayer {
         if (letter == '\0' || outcome == null) {
             return "";
         }
+        int index = tileIndex(letter, outcome);
+        return index >= 0 ? TILES[index] : buildTile(letter, outcome);
+    }
+
+    // Position of the cached tile for the letter, or -1 for characters outside A-Z.
+    static int tileIndex(char letter, GuessOutcome outcome) {
+        char upper = Character.toUpperCase(letter);
+        if (upper < 'A' || upper > 'Z') {
+            return -1;
+        }
+        return (upper - 'A') * OUTCOMES.length + outcome.ordinal();
+    }
+
+    // Same for a letter given as 0 for 'A' through 25 for 'Z', as stored in packed words.
+    static int letterTileIndex(int letterIndex, GuessOutcome outcome) {
+        return letterIndex * OUTCOMES.length + outcome.ordinal();
+    }
+
+    private static String buildTile(char letter, GuessOutcome outcome) {
         String background = switch (outcome) {
             case CORRECT -> GREEN_BG;
             case WRONG_POSITION -> YELLOW_BG;
@@ -46,17 +92,70 @@ public class ColorDisplayer {
             throw new IllegalArgumentException("Guess length must match outcomes array length");
         }
 
-        StringBuilder formatted = new StringBuilder();
+        long start = System.nanoTime();
+        // Sized up front so the cached tiles are copied in once, without regrowing the builder
+        int length = Math.max(0, guess.length() - 1) * TILE_SEPARATOR.length();
+        for (int i = 0; i < guess.length(); i++) {
+            length += formatLetter(guess.charAt(i), outcomes[i]).length();
+        }
+        StringBuilder formatted = new StringBuilder(length);
         for (int i = 0; i < guess.length(); i++) {
             if (i > 0) {
-                formatted.append(" ");
+                formatted.append(TILE_SEPARATOR);
             }
             formatted.append(formatLetter(guess.charAt(i), outcomes[i]));
         }
 
+        String result = formatted.toString();
+        GameMetrics.RENDERING.recordSince(start);
+        return result;
+    }
+
+    // Formats one guess across several boards side by side; a null entry is a board solved earlier
+    // and is left blank so the boards stay aligned.
+    public static String formatGuesses(String guess, GuessOutcome[][] boards) {
+        if (guess == null || boards == null) {
+            throw new IllegalArgumentException("Guess and outcomes cannot be null");
+        }
+        StringBuilder formatted = new StringBuilder();
+        for (int board = 0; board < boards.length; board++) {
+            if (board > 0) {
+                formatted.append(BOARD_SEPARATOR);
+            }
+            formatted.append(boards[board] == null ? BLANK_GUESS : formatGuess(guess, boards[board]));
+        }
         return formatted.toString();
     }
 
+    // Every guess of a multi-board game, boardsPerRow boards side by side, with a blank line between
+    // groups of boards. Rendered straight from the packed patterns through a BoardBuffer.
+    public static String formatBoards(MultiBoardGame game, int boardsPerRow) {
+        if (game == null) {
+            throw new IllegalArgumentException("Game cannot be null");
+        }
+        if (boardsPerRow < 1) {
+            throw new IllegalArgumentException("At least one board per row is required");
+        }
+        long start = System.nanoTime();
+        BoardBuffer buffer = new BoardBuffer();
+        int[] row = new int[game.getBoardCount()];
+        for (int first = 0; first < game.getBoardCount(); first += boardsPerRow) {
+            int last = Math.min(game.getBoardCount(), first + boardsPerRow);
+            if (first > 0) {
+                buffer.newLine();
+            }
+            for (int attempt = 0; attempt < game.getCurrentAttempt(); attempt++) {
+                for (int board = first; board < last; board++) {
+                    row[board] = game.patternAt(attempt, board);
+                }
+                buffer.appendGuesses(PackedWord.encode(game.getGuess(attempt)), row, first, last).newLine();
+            }
+        }
+        String result = buffer.toString();
+        GameMetrics.RENDERING.recordSince(start);
+        return result;
+    }
+
     //Formats an error message in red color.
     public static String error(String message) {
         return RED + BOLD + "ERROR: " + message + RESET;
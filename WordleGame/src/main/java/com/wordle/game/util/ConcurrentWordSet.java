@@ -0,0 +1,75 @@
+package com.wordle.game.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Lock-free insert-only set of packed words for de-duplicating across parser threads.
+// A packed five-letter word is a 25-bit number, so the set is a bitmap over that range, split into
+// one page per two-letter prefix. Pages are allocated on first use and claimed with a CAS, so memory
+// follows the prefixes the corpus actually uses (4 KiB each, at most 676 of them) rather than an
+// estimate of its word count, and no page ever has to grow. A bit is set with a CAS on its long.
+final class ConcurrentWordSet {
+    private static final int WORD_BITS = PackedWord.BITS_PER_LETTER * 5;
+    // The last three letters index a bit within the page
+    private static final int PAGE_BITS = PackedWord.BITS_PER_LETTER * 3;
+    private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+
+    private final AtomicReferenceArray<AtomicLongArray> pages = new AtomicReferenceArray<>(1 << (WORD_BITS - PAGE_BITS));
+
+    // Returns true if the word was not in the set yet.
+    boolean add(int packedWord) {
+        if (packedWord <= 0 || packedWord >>> WORD_BITS != 0) {
+            throw new IllegalArgumentException("Not a packed word: " + packedWord);
+        }
+        AtomicLongArray page = page(packedWord >>> PAGE_BITS);
+        int bit = packedWord & PAGE_MASK;
+        long mask = 1L << bit;
+        int index = bit >>> 6;
+        while (true) {
+            long current = page.get(index);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (page.compareAndSet(index, current, current | mask)) {
+                return true;
+            }
+            // Another word of the same 64 was set meanwhile; retry with the new value
+        }
+    }
+
+    private AtomicLongArray page(int index) {
+        AtomicLongArray page = pages.get(index);
+        if (page == null) {
+            AtomicLongArray created = new AtomicLongArray(1 << (PAGE_BITS - 6));
+            page = pages.compareAndExchange(index, null, created);
+            if (page == null) {
+                page = created;
+            }
+        }
+        return page;
+    }
+
+    // The words in ascending order, which is bit order; only meaningful once all writers have finished.
+    int[] toSortedArray() {
+        int count = 0;
+        for (int p = 0; p < pages.length(); p++) {
+            AtomicLongArray page = pages.get(p);
+            for (int i = 0; page != null && i < page.length(); i++) {
+                count += Long.bitCount(page.get(i));
+            }
+        }
+        int[] words = new int[count];
+        int next = 0;
+        for (int p = 0; p < pages.length(); p++) {
+            AtomicLongArray page = pages.get(p);
+            for (int i = 0; page != null && i < page.length(); i++) {
+                long bits = page.get(i);
+                while (bits != 0) {
+                    words[next++] = (p << PAGE_BITS) | (i << 6) | Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,291 @@
+package com.wordle.game.util;
+
+import com.wordle.game.events.DictionaryLoadedEvent;
+import com.wordle.game.exceptions.WordLoadException;
+import com.wordle.game.metrics.GameMetrics;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Loads word lists with millions of lines from the filesystem.
+// The file is split into chunks on line boundaries, and every chunk is memory-mapped and parsed
+// in parallel straight from bytes into packed words; no line ever becomes a String. A line is
+// accepted when, after trimming blanks, it is exactly five ASCII letters in any case, the same
+// rule WordLoader applies to text resources. A rejected line is classified like
+// InvalidWordException.Reason.of: by its length in characters first, then by its characters.
+// Duplicates are dropped through a lock-free set.
+public class CorpusLoader {
+    // Why a line did not produce a new word
+    public enum Rejection {
+        BLANK,
+        WRONG_LENGTH,
+        INVALID_CHARACTERS,
+        DUPLICATE
+    }
+
+    private static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+    // Files are mapped in segments of this size, which hold many chunks
+    private static final long SEGMENT_SIZE = 1L << 30;
+    // A segment's mapping extends this far past its end so its last line can be read in full;
+    // a line running past it is far too long to be a word anyway
+    private static final int LINE_SLACK = 64 << 10;
+    private static final int WORD_LENGTH = 5;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public CorpusLoader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public CorpusLoader(ForkJoinPool pool) {
+        this(pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    CorpusLoader(ForkJoinPool pool, int chunkSize) {
+        if (pool == null || chunkSize <= 0) {
+            throw new IllegalArgumentException("A pool and a positive chunk size are required");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public Result load(Path path) throws WordLoadException {
+        String fileName = String.valueOf(path);
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ConcurrentWordSet seen = new ConcurrentWordSet();
+
+            List<Callable<ChunkResult>> chunks = new ArrayList<>();
+            for (long segmentStart = 0; segmentStart < size; segmentStart += SEGMENT_SIZE) {
+                long segmentEnd = Math.min(size, segmentStart + SEGMENT_SIZE);
+                Window window = Window.map(channel, size, segmentStart, segmentEnd);
+                for (long from = segmentStart; from < segmentEnd; from += chunkSize) {
+                    long chunkStart = from;
+                    long chunkEnd = Math.min(segmentEnd, from + chunkSize);
+                    chunks.add(() -> parseChunk(window, chunkStart, chunkEnd, seen));
+                }
+            }
+
+            ChunkResult total = new ChunkResult();
+            for (Future<ChunkResult> chunk : pool.invokeAll(chunks)) {
+                total.add(chunk.get());
+            }
+
+            int[] words = seen.toSortedArray();
+            long elapsed = System.nanoTime() - start;
+            GameMetrics.DICTIONARY_LOAD.record(elapsed);
+            DictionaryLoadedEvent.emit(fileName, words.length, size, elapsed);
+            return new Result(fileName, words, total.lines, size, elapsed, total.rejections());
+        } catch (IOException e) {
+            throw new WordLoadException(fileName, "I/O error while reading file", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw new WordLoadException(fileName, "I/O error while reading file", io);
+            }
+            throw new WordLoadException(fileName, "Failed to parse file", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WordLoadException(fileName, "Interrupted while loading", e);
+        }
+    }
+
+    // Parses every line that starts inside [from, to); the last one may run past 'to'.
+    private static ChunkResult parseChunk(Window window, long from, long to, ConcurrentWordSet seen) {
+        MappedByteBuffer bytes = window.bytes();
+        int limit = bytes.limit();
+        int owned = (int) (to - window.start());
+        ChunkResult result = new ChunkResult();
+
+        int position = (int) (from - window.start());
+        if (from > 0) {
+            // Skip the tail of the line the previous chunk owns. Scanning starts one byte early so a
+            // line starting exactly at 'from' is kept, and stops at 'to' so long lines are not rescanned
+            int scan = position - 1;
+            while (scan < owned - 1 && bytes.get(scan) != '\n') {
+                scan++;
+            }
+            if (scan >= owned - 1) {
+                return result;
+            }
+            position = scan + 1;
+        }
+
+        while (position < owned) {
+            int lineEnd = position;
+            while (lineEnd < limit && bytes.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            result.lines++;
+            if (lineEnd == limit && !window.reachesEndOfFile()) {
+                result.reject(Rejection.WRONG_LENGTH);
+                break;
+            }
+            parseLine(bytes, position, lineEnd, seen, result);
+            position = lineEnd + 1;
+        }
+        return result;
+    }
+
+    private static void parseLine(MappedByteBuffer bytes, int start, int end, ConcurrentWordSet seen, ChunkResult result) {
+        while (start < end && isBlank(bytes.get(start))) {
+            start++;
+        }
+        while (end > start && isBlank(bytes.get(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            result.reject(Rejection.BLANK);
+            return;
+        }
+        if (charLength(bytes, start, end) != WORD_LENGTH) {
+            result.reject(Rejection.WRONG_LENGTH);
+            return;
+        }
+
+        int packed = 0;
+        for (int i = start; i < end; i++) {
+            // Folds A-Z onto a-z; every other byte, including UTF-8 sequences, falls outside the range
+            int letter = (bytes.get(i) | 0x20) - 'a';
+            if (letter < 0 || letter >= 26) {
+                result.reject(Rejection.INVALID_CHARACTERS);
+                return;
+            }
+            // Same layout as PackedWord: first letter in the highest bits, letters stored as 1..26
+            packed = (packed << PackedWord.BITS_PER_LETTER) | (letter + 1);
+        }
+        if (!seen.add(packed)) {
+            result.reject(Rejection.DUPLICATE);
+        }
+    }
+
+    // Length of the UTF-8 bytes as a Java String would have it: every byte but continuation bytes
+    // starts a character, and four-byte sequences take a surrogate pair. Stops counting past a word.
+    private static int charLength(MappedByteBuffer bytes, int start, int end) {
+        if (end - start < WORD_LENGTH) {
+            return end - start;
+        }
+        int length = 0;
+        for (int i = start; i < end && length <= WORD_LENGTH; i++) {
+            int b = bytes.get(i) & 0xFF;
+            if ((b & 0xC0) != 0x80) {
+                length += b >= 0xF0 ? 2 : 1;
+            }
+        }
+        return length;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    // One read-only mapping shared by all chunks of a segment; absolute reads need no coordination.
+    private record Window(MappedByteBuffer bytes, long start, boolean reachesEndOfFile) {
+        static Window map(FileChannel channel, long fileSize, long segmentStart, long segmentEnd) throws IOException {
+            long start = segmentStart == 0 ? 0 : segmentStart - 1;
+            long end = Math.min(fileSize, segmentEnd + LINE_SLACK);
+            return new Window(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), start, end == fileSize);
+        }
+    }
+
+    // Per-chunk counters, merged once all chunks are done so parsers never share them.
+    private static final class ChunkResult {
+        private long lines;
+        private final long[] rejected = new long[Rejection.values().length];
+
+        void reject(Rejection reason) {
+            rejected[reason.ordinal()]++;
+        }
+
+        void add(ChunkResult other) {
+            lines += other.lines;
+            for (int i = 0; i < rejected.length; i++) {
+                rejected[i] += other.rejected[i];
+            }
+        }
+
+        Map<Rejection, Long> rejections() {
+            Map<Rejection, Long> counts = new EnumMap<>(Rejection.class);
+            for (Rejection reason : Rejection.values()) {
+                counts.put(reason, rejected[reason.ordinal()]);
+            }
+            return counts;
+        }
+    }
+
+    public static final class Result {
+        private final String source;
+        private final int[] packedWords;
+        private final long lines;
+        private final long bytes;
+        private final long elapsedNanos;
+        private final Map<Rejection, Long> rejections;
+
+        Result(String source, int[] packedWords, long lines, long bytes, long elapsedNanos,
+               Map<Rejection, Long> rejections) {
+            this.source = source;
+            this.packedWords = packedWords;
+            this.lines = lines;
+            this.bytes = bytes;
+            this.elapsedNanos = elapsedNanos;
+            this.rejections = rejections;
+        }
+
+        // Distinct words in ascending (alphabetical) order.
+        public int[] getPackedWords() {
+            return packedWords.clone();
+        }
+
+        public int getWordCount() {
+            return packedWords.length;
+        }
+
+        public long getLines() {
+            return lines;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public long getRejected(Rejection reason) {
+            return rejections.get(reason);
+        }
+
+        public double getLinesPerSecond() {
+            return elapsedNanos == 0 ? 0 : lines * 1e9 / elapsedNanos;
+        }
+
+        public WordLoader toWordLoader() throws WordLoadException {
+            return new WordLoader(source, packedWords);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("%s: %d words from %d lines (%d bytes) in %.1f ms, %.0f lines/s%n",
+                    source, packedWords.length, lines, bytes, elapsedNanos / 1e6, getLinesPerSecond()));
+            for (Rejection reason : Rejection.values()) {
+                report.append(String.format("  rejected %-18s %d%n", reason, rejections.get(reason)));
+            }
+            return report.toString();
+        }
+    }
+}
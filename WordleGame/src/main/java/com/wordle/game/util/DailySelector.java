@@ -0,0 +1,33 @@
+package com.wordle.game.util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+// Day n since the epoch takes position n of a seeded shuffle; see TargetSelector.daily.
+final class DailySelector implements TargetSelector {
+    private final long seed;
+    private final Clock clock;
+
+    DailySelector(long seed, Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.seed = seed;
+        this.clock = clock;
+    }
+
+    static int indexFor(long seed, LocalDate date, int wordCount) {
+        long day = date.toEpochDay();
+        return new SeededPermutation(seed, Math.floorDiv(day, wordCount), wordCount).apply(Math.floorMod(day, wordCount));
+    }
+
+    @Override
+    public int nextIndex(int wordCount) {
+        return indexFor(seed, LocalDate.now(clock), wordCount);
+    }
+
+    @Override
+    public String name() {
+        return "daily";
+    }
+}
@@ -0,0 +1,121 @@
+package com.wordle.game.util;
+
+import com.wordle.game.exceptions.StorageException;
+import com.wordle.game.exceptions.WordLoadException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+// Compiles wordList.txt-style sources into the binary format read by BinaryDictionary.
+// Lines hold a word, optionally followed by whitespace and an integer frequency.
+public final class DictionaryCompiler {
+
+    private DictionaryCompiler() {
+        throw new UnsupportedOperationException("DictionaryCompiler class cannot be instantiated");
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: DictionaryCompiler <word list> <output file>");
+            System.exit(2);
+        }
+        int count = compile(Path.of(args[0]), Path.of(args[1]));
+        System.out.printf("Compiled %d words into %s%n", count, args[1]);
+    }
+
+    // Returns the number of words written.
+    public static int compile(Path source, Path output) throws WordLoadException, StorageException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(source, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new WordLoadException(String.valueOf(source), "I/O error while reading file", e);
+        }
+        return compile(lines, output);
+    }
+
+    public static int compile(List<String> lines, Path output) throws StorageException {
+        // First occurrence of a word wins, matching the text loader's distinct()
+        Map<Integer, Integer> frequencies = new LinkedHashMap<>();
+        boolean hasFrequencies = false;
+        for (String line : lines) {
+            String[] fields = line.trim().split("\\s+");
+            int packed = PackedWord.tryEncode(fields[0]);
+            if (packed == PackedWord.INVALID || fields.length > 2) {
+                continue;
+            }
+            int frequency = 0;
+            if (fields.length == 2) {
+                try {
+                    frequency = Integer.parseInt(fields[1]);
+                    hasFrequencies = true;
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+            }
+            frequencies.putIfAbsent(packed, frequency);
+        }
+
+        int[] words = frequencies.keySet().stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(words);
+        write(output, words, hasFrequencies ? frequencies : null);
+        return words.length;
+    }
+
+    private static void write(Path output, int[] words, Map<Integer, Integer> frequencies) throws StorageException {
+        int columns = frequencies != null ? 2 : 1;
+        ByteBuffer body = ByteBuffer.allocate(words.length * Integer.BYTES * columns).order(ByteOrder.LITTLE_ENDIAN);
+        for (int word : words) {
+            body.putInt(word);
+        }
+        if (frequencies != null) {
+            for (int word : words) {
+                body.putInt(frequencies.get(word));
+            }
+        }
+        body.flip();
+
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(BinaryDictionary.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(BinaryDictionary.MAGIC)
+                .putShort(BinaryDictionary.VERSION)
+                .put((byte) WordLoader.getWordLength())
+                .put(frequencies != null ? BinaryDictionary.FLAG_FREQUENCIES : 0)
+                .putInt(words.length)
+                .putInt(0)
+                .putLong(crc.getValue())
+                .flip();
+
+        Path directory = output.toAbsolutePath().getParent();
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "dictionary-", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (header.hasRemaining() || body.hasRemaining()) {
+                    channel.write(new ByteBuffer[]{header, body});
+                }
+                channel.force(true);
+            }
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (temp != null) {
+                temp.toFile().delete();
+            }
+            throw new StorageException(output, "Failed to write compiled dictionary", e);
+        }
+    }
+}
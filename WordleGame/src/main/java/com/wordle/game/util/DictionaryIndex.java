@@ -0,0 +1,107 @@
+package com.wordle.game.util;
+
+// Open-addressing hash set of packed words with linear probing.
+// Slots hold the packed word itself (0 marks an empty slot, which PackedWord never produces)
+// next to the word's position in the dictionary list.
+public final class DictionaryIndex {
+    private static final long EMPTY = 0;
+    private static final int DEFAULT_WORD_LENGTH = 5;
+
+    // Keys are longs so one index serves every word length; five-letter words pack to the same
+    // value as an int or a long
+    private final long[] keys;
+    private final int[] positions;
+    private final int mask;
+    private final int size;
+    private final int wordLength;
+
+    // Five-letter words packed with PackedWord.encode.
+    public DictionaryIndex(int[] packedWords) {
+        this(widen(packedWords), DEFAULT_WORD_LENGTH);
+    }
+
+    // Words of the given length packed with PackedWord.encodeLong.
+    public DictionaryIndex(long[] packedWords, int wordLength) {
+        if (wordLength < 1 || wordLength > PackedWord.MAX_LONG_WORD_LENGTH) {
+            throw new IllegalArgumentException("Unsupported word length: " + wordLength);
+        }
+        int capacity = Integer.highestOneBit(Math.max(packedWords.length, 1) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.positions = new int[capacity];
+        this.mask = capacity - 1;
+        this.wordLength = wordLength;
+
+        int added = 0;
+        for (int i = 0; i < packedWords.length; i++) {
+            long key = packedWords[i];
+            if (key == EMPTY || key == PackedWord.INVALID) {
+                throw new IllegalArgumentException("Not a packed word: " + key);
+            }
+            int slot = slotFor(key);
+            // Duplicates keep the position of their first occurrence
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                positions[slot] = i;
+                added++;
+            }
+        }
+        this.size = added;
+    }
+
+    private static long[] widen(int[] packedWords) {
+        long[] widened = new long[packedWords.length];
+        for (int i = 0; i < packedWords.length; i++) {
+            widened[i] = packedWords[i];
+        }
+        return widened;
+    }
+
+    public boolean contains(int packedWord) {
+        return indexOf(packedWord) >= 0;
+    }
+
+    public boolean contains(long packedWord) {
+        return indexOf(packedWord) >= 0;
+    }
+
+    // Case-insensitive lookup that never allocates; invalid words are simply absent.
+    public boolean contains(CharSequence word) {
+        long packed = PackedWord.tryEncodeLong(word, wordLength);
+        return packed != PackedWord.INVALID && contains(packed);
+    }
+
+    // Returns the dictionary position of the packed word, or -1 if it is not indexed.
+    public int indexOf(int packedWord) {
+        return indexOf((long) packedWord);
+    }
+
+    public int indexOf(long packedWord) {
+        if (packedWord == EMPTY || packedWord == PackedWord.INVALID) {
+            return -1;
+        }
+        int slot = slotFor(packedWord);
+        return keys[slot] == packedWord ? positions[slot] : -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    // Returns the slot holding the key, or the empty slot where it would be inserted.
+    private int slotFor(long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
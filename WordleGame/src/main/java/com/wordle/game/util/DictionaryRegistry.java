@@ -0,0 +1,66 @@
+package com.wordle.game.util;
+
+import com.wordle.game.exceptions.WordLoadException;
+import com.wordle.game.metrics.MetricsRegistry;
+
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Process-wide cache of loaded dictionaries keyed by word source.
+// Each source is parsed at most once; concurrent first requests wait for the same load.
+public final class DictionaryRegistry {
+    private static final ConcurrentMap<String, WordLoader> DICTIONARIES = new ConcurrentHashMap<>();
+
+    static {
+        MetricsRegistry.global().gauge("dictionary.loaded", DICTIONARIES::size);
+        MetricsRegistry.global().gauge("dictionary.words", DictionaryRegistry::defaultWordCount);
+    }
+
+    private DictionaryRegistry() {
+        throw new UnsupportedOperationException("DictionaryRegistry class cannot be instantiated");
+    }
+
+    public static WordLoader getDefault() throws WordLoadException {
+        return get(WordLoader.getDefaultWordFile());
+    }
+
+    public static WordLoader get(String fileName) throws WordLoadException {
+        if (fileName == null) {
+            throw new IllegalArgumentException("File name cannot be null");
+        }
+        // A failed load throws out of computeIfAbsent and leaves no entry behind, so it can be retried
+        return DICTIONARIES.computeIfAbsent(fileName, WordLoader::new);
+    }
+
+    // Keyed by the compiled file's path; see WordLoader.load for the fallback behaviour.
+    public static WordLoader getCompiled(Path compiledDictionary, String fallbackFileName) throws WordLoadException {
+        if (compiledDictionary == null) {
+            throw new IllegalArgumentException("Compiled dictionary path cannot be null");
+        }
+        return DICTIONARIES.computeIfAbsent(compiledDictionary.toString(),
+                key -> WordLoader.load(compiledDictionary, fallbackFileName));
+    }
+
+    // Makes a dictionary built elsewhere available under the given name, replacing any previous one.
+    public static void register(String name, WordLoader dictionary) {
+        if (name == null || dictionary == null) {
+            throw new IllegalArgumentException("Name and dictionary cannot be null");
+        }
+        DICTIONARIES.put(name, dictionary);
+    }
+
+    // Size of the default dictionary, or 0 while it has not been loaded; never triggers a load.
+    private static long defaultWordCount() {
+        WordLoader dictionary = DICTIONARIES.get(WordLoader.getDefaultWordFile());
+        return dictionary == null ? 0 : dictionary.getWordCount();
+    }
+
+    public static boolean isLoaded(String name) {
+        return DICTIONARIES.containsKey(name);
+    }
+
+    public static void evict(String name) {
+        DICTIONARIES.remove(name);
+    }
+}
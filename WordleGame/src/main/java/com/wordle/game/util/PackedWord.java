@@ -0,0 +1,127 @@
+package com.wordle.game.util;
+
+import com.wordle.game.exceptions.InvalidWordException;
+
+import java.util.List;
+
+public final class PackedWord {
+    public static final int INVALID = -1;
+    public static final int BITS_PER_LETTER = 5;
+    private static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+    private static final int WORD_LENGTH = 5;
+    // Longest word the long encoding holds: 12 letters use 60 of its 64 bits
+    public static final int MAX_LONG_WORD_LENGTH = Long.SIZE / BITS_PER_LETTER;
+
+    private PackedWord() {
+        throw new UnsupportedOperationException("PackedWord class cannot be instantiated");
+    }
+
+    // Packs a word into an int, 5 bits per letter with position 0 in the highest bits, so packed
+    // words sort alphabetically. Letters are stored as 1..26 so that no valid word encodes to 0.
+    public static int encode(String word) throws InvalidWordException {
+        int packed = tryEncode(word);
+        if (packed == INVALID) {
+            throw new InvalidWordException(String.valueOf(word), InvalidWordException.Reason.of(word, WORD_LENGTH),
+                    String.format("Must be exactly %d letters from A to Z", WORD_LENGTH));
+        }
+        return packed;
+    }
+
+    // Same as encode, but returns INVALID instead of throwing so lookups stay allocation-free.
+    public static int tryEncode(CharSequence word) {
+        if (word == null || word.length() != WORD_LENGTH) {
+            return INVALID;
+        }
+        int packed = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int letter = letterIndex(word.charAt(i));
+            if (letter < 0) {
+                return INVALID;
+            }
+            packed |= (letter + 1) << shift(i);
+        }
+        return packed;
+    }
+
+    // Packs every word of the list, in order; throws like encode on the first invalid word.
+    public static int[] encodeAll(List<String> words) throws InvalidWordException {
+        int[] packed = new int[words.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = encode(words.get(i));
+        }
+        return packed;
+    }
+
+    public static String decode(int packed) {
+        char[] letters = new char[WORD_LENGTH];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            letters[i] = (char) ('A' + letterAt(packed, i));
+        }
+        return new String(letters);
+    }
+
+    // Returns the letter at the given position as 0 for 'A' through 25 for 'Z'.
+    public static int letterAt(int packed, int position) {
+        return ((packed >>> shift(position)) & LETTER_MASK) - 1;
+    }
+
+    // The five-letter encoding above widened to any length up to MAX_LONG_WORD_LENGTH. The layout is
+    // the same, so a five-letter word packs to the same value in both encodings.
+    public static long encodeLong(String word, int length) throws InvalidWordException {
+        long packed = tryEncodeLong(word, length);
+        if (packed == INVALID) {
+            throw new InvalidWordException(String.valueOf(word), InvalidWordException.Reason.of(word, length),
+                    String.format("Must be exactly %d letters from A to Z", length));
+        }
+        return packed;
+    }
+
+    public static long tryEncodeLong(CharSequence word, int length) {
+        checkLength(length);
+        if (word == null || word.length() != length) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = letterIndex(word.charAt(i));
+            if (letter < 0) {
+                return INVALID;
+            }
+            packed = (packed << BITS_PER_LETTER) | (letter + 1);
+        }
+        return packed;
+    }
+
+    public static String decodeLong(long packed, int length) {
+        checkLength(length);
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('A' + letterAt(packed, i, length));
+        }
+        return new String(letters);
+    }
+
+    public static int letterAt(long packed, int position, int length) {
+        return (int) ((packed >>> ((length - 1 - position) * BITS_PER_LETTER)) & LETTER_MASK) - 1;
+    }
+
+    private static void checkLength(int length) {
+        if (length < 1 || length > MAX_LONG_WORD_LENGTH) {
+            throw new IllegalArgumentException("Word length must be between 1 and " + MAX_LONG_WORD_LENGTH + ": " + length);
+        }
+    }
+
+    private static int shift(int position) {
+        return (WORD_LENGTH - 1 - position) * BITS_PER_LETTER;
+    }
+
+    private static int letterIndex(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        return -1;
+    }
+}
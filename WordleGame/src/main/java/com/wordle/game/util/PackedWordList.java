@@ -0,0 +1,77 @@
+package com.wordle.game.util;
+
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// Immutable List<String> view over packed words sorted ascending, which is alphabetical order, and
+// decodes entries on access. The words can stay in a compiled dictionary's mapping, so opening one
+// needs neither a String per word nor a hash index; lookups are a binary search over the column.
+final class PackedWordList extends AbstractList<String> implements RandomAccess {
+    private final IntBuffer words;
+
+    // Only absolute gets are used, so the buffer's position never changes and threads can share it
+    PackedWordList(IntBuffer words) {
+        this.words = words;
+    }
+
+    @Override
+    public String get(int index) {
+        return PackedWord.decode(words.get(index));
+    }
+
+    @Override
+    public int size() {
+        return words.limit();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    // Words are stored upper case, so only upper-case strings are elements of the list
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof String word)) {
+            return -1;
+        }
+        int index = indexOfPacked(PackedWord.tryEncode(word));
+        return index >= 0 && get(index).equals(word) ? index : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    // Case-insensitive membership check that never allocates, like DictionaryIndex.contains.
+    boolean containsWord(CharSequence word) {
+        return indexOfPacked(PackedWord.tryEncode(word)) >= 0;
+    }
+
+    // Binary search over the sorted packed words; returns -1 if absent.
+    int indexOfPacked(int packedWord) {
+        if (packedWord == PackedWord.INVALID) {
+            return -1;
+        }
+        int low = 0;
+        int high = words.limit() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int word = words.get(middle);
+            if (word < packedWord) {
+                low = middle + 1;
+            } else if (word > packedWord) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    int packedAt(int index) {
+        return words.get(index);
+    }
+}
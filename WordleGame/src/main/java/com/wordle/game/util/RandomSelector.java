@@ -0,0 +1,33 @@
+package com.wordle.game.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Uniform picks from a SplittableRandom owned by the calling thread. A thread's stream is seeded
+// once, on its first pick, by hashing the selector's seed with a counter: one atomic add per thread,
+// which keeps short-lived virtual threads cheap. The hash matters: seeds one GOLDEN_GAMMA apart
+// would give the same sequence shifted by one step.
+final class RandomSelector implements TargetSelector {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final AtomicLong streamCount = new AtomicLong();
+    private final ThreadLocal<SplittableRandom> streams;
+
+    RandomSelector(long seed) {
+        this.seed = seed;
+        this.streams = ThreadLocal.withInitial(
+                () -> new SplittableRandom(SeededPermutation.mix(seed + streamCount.getAndIncrement() * GOLDEN_GAMMA)));
+    }
+
+    @Override
+    public int nextIndex(int wordCount) {
+        SeededPermutation.checkCount(wordCount);
+        return streams.get().nextInt(wordCount);
+    }
+
+    @Override
+    public String name() {
+        return "random";
+    }
+}
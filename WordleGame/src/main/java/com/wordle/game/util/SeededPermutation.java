@@ -0,0 +1,64 @@
+package com.wordle.game.util;
+
+// Keyed permutation of 0..size-1 without storing a shuffled array: a balanced Feistel network
+// over the smallest even number of bits that holds size-1, with cycle-walking for results that
+// land at or past size. The domain is under four times size, so a walk takes few steps on average.
+// Every cycle draws its own round keys from the seed, and unlike an affine map no pair of picks
+// gives away the rest of the order.
+final class SeededPermutation {
+    private static final int ROUNDS = 4;
+
+    final long cycle;
+    final int size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    SeededPermutation(long seed, long cycle, int size) {
+        checkCount(size);
+        this.cycle = cycle;
+        this.size = size;
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(size - 1L);
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        long state = mix(seed ^ mix(cycle + 0x632BE59BD9B4E019L));
+        for (int round = 0; round < ROUNDS; round++) {
+            state = mix(state + 0x9E3779B97F4A7C15L);
+            roundKeys[round] = state;
+        }
+    }
+
+    // The network is a bijection of the whole domain, so walking from an index below size
+    // reaches another index below size before it could come back to where it started
+    int apply(long index) {
+        long value = index;
+        do {
+            value = encrypt(value);
+        } while (value >= size);
+        return (int) value;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long key : roundKeys) {
+            long next = left ^ (mix(right ^ key) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    static void checkCount(int wordCount) {
+        if (wordCount <= 0) {
+            throw new IllegalArgumentException("No words available");
+        }
+    }
+
+    // SplitMix64 finalizer
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,35 @@
+package com.wordle.game.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Each word once per cycle; see TargetSelector.shuffleBag.
+final class ShuffleBagSelector implements TargetSelector {
+    private final long seed;
+    private final AtomicLong cursor = new AtomicLong();
+    // Permutation of the cycle most recently handed out; a stale read only costs a rebuild
+    private volatile SeededPermutation current;
+
+    ShuffleBagSelector(long seed) {
+        this.seed = seed;
+    }
+
+    // The bag assumes one dictionary size; a different size starts mixing orders, but every
+    // index stays in range.
+    @Override
+    public int nextIndex(int wordCount) {
+        SeededPermutation.checkCount(wordCount);
+        long position = cursor.getAndIncrement();
+        long cycle = position / wordCount;
+        SeededPermutation permutation = current;
+        if (permutation == null || permutation.cycle != cycle || permutation.size != wordCount) {
+            permutation = new SeededPermutation(seed, cycle, wordCount);
+            current = permutation;
+        }
+        return permutation.apply(position % wordCount);
+    }
+
+    @Override
+    public String name() {
+        return "shuffle-bag";
+    }
+}
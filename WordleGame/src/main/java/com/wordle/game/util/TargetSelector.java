@@ -0,0 +1,44 @@
+package com.wordle.game.util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+// Picks the position of the next target word in a dictionary of the given size.
+// Every implementation is safe to share between threads and none of them takes a lock or CASes a
+// shared random seed, so starting games from many threads does not serialize on the selection.
+public interface TargetSelector {
+
+    int nextIndex(int wordCount);
+
+    String name();
+
+    // Independent SplittableRandom stream per thread.
+    static TargetSelector random() {
+        return new RandomSelector(new SplittableRandom().nextLong());
+    }
+
+    // Per-thread streams derived from one seed; threads that make their first pick in the same
+    // order get the same words.
+    static TargetSelector random(long seed) {
+        return new RandomSelector(seed);
+    }
+
+    // Hands out every word once per cycle in an order fixed by the seed. Positions come from one
+    // atomic counter, so concurrent callers never receive the same slot of a cycle.
+    static TargetSelector shuffleBag(long seed) {
+        return new ShuffleBagSelector(seed);
+    }
+
+    // The same word for everyone on a given day, derived from the date and seed alone so every
+    // server agrees. Days walk a seeded shuffle of the dictionary, so no word returns until all
+    // others have had their day.
+    static TargetSelector daily(long seed, Clock clock) {
+        return new DailySelector(seed, clock);
+    }
+
+    // Position of the target on the given day, for scheduling words ahead of time.
+    static int dailyIndex(long seed, LocalDate date, int wordCount) {
+        return DailySelector.indexFor(seed, date, wordCount);
+    }
+}
@@ -0,0 +1,161 @@
+package com.wordle.game.util;
+
+import com.wordle.game.logic.GuessOutcome;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+// Composes a whole screen in memory and hands it to the terminal with a single write, instead of
+// one locked, possibly flushed PrintStream call per line.
+//
+// In the default mode each frame is appended to the output, like println would. With diff rendering
+// the frame is the full screen: rows are painted at absolute positions and only rows that differ
+// from the previous frame are sent. The last row of a frame may be left open (e.g. a prompt); it is
+// always repainted, since the user's typing lands on it.
+public class TerminalRenderer {
+    private static final String ESC = "\u001B[";
+    private static final String CLEAR_SCREEN = ESC + "H" + ESC + "2J";
+    private static final String CLEAR_TO_LINE_END = ESC + "K";
+    private static final String CLEAR_TO_SCREEN_END = ESC + "J";
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final WritableByteChannel out;
+    private final boolean diffRendering;
+    private final BoardBuffer output = new BoardBuffer();
+
+    private Frame current = new Frame();
+    private Frame previous = new Frame();
+    private boolean firstFrame = true;
+
+    public TerminalRenderer(WritableByteChannel out, boolean diffRendering) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output channel cannot be null");
+        }
+        this.out = out;
+        this.diffRendering = diffRendering;
+    }
+
+    // Writes straight to file descriptor 1, bypassing System.out and its lock.
+    public static TerminalRenderer forStdout(boolean diffRendering) {
+        return new TerminalRenderer(new FileOutputStream(FileDescriptor.out).getChannel(), diffRendering);
+    }
+
+    public TerminalRenderer line(String text) {
+        current.buffer.append(text);
+        current.endRow();
+        return this;
+    }
+
+    public TerminalRenderer line() {
+        current.endRow();
+        return this;
+    }
+
+    // Appends to the current row without ending it.
+    public TerminalRenderer text(String text) {
+        current.buffer.append(text);
+        return this;
+    }
+
+    // A numbered board row, e.g. "2. " followed by the colored tiles.
+    public TerminalRenderer guessRow(int number, String guess, GuessOutcome[] outcomes) {
+        current.buffer.appendNumber(number).append(". ").appendGuess(guess, outcomes);
+        current.endRow();
+        return this;
+    }
+
+    // Sends the composed frame in one write and starts an empty one.
+    public void flush() {
+        BoardBuffer frame = current.buffer;
+        if (diffRendering) {
+            renderDiff();
+            frame = output;
+        }
+        try {
+            frame.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Frame done = current;
+        current = previous;
+        previous = done;
+        current.reset();
+        firstFrame = false;
+    }
+
+    public boolean isDiffRendering() {
+        return diffRendering;
+    }
+
+    private void renderDiff() {
+        output.reset();
+        if (firstFrame) {
+            output.append(CLEAR_SCREEN);
+        }
+        int rows = current.rowCount();
+        boolean open = current.hasOpenRow();
+
+        // Clear whatever lies below the new frame first (shorter frames, echoed input), so the
+        // cursor can finish at the end of the last row drawn
+        output.append(ESC).appendNumber(rows + 1).append(";1H").append(CLEAR_TO_SCREEN_END);
+        for (int row = 0; row < rows; row++) {
+            boolean last = row == rows - 1;
+            if (firstFrame || (last && open) || !current.sameRow(row, previous)) {
+                output.append(ESC).appendNumber(row + 1).append(";1H")
+                        .append(current.buffer, current.rowStart(row), current.rowEnd(row))
+                        .append(CLEAR_TO_LINE_END);
+            }
+        }
+        // A frame of complete lines leaves the cursor on the line below it
+        if (!open) {
+            output.append(ESC).appendNumber(rows + 1).append(";1H");
+        }
+    }
+
+    // A frame's bytes plus where each row ends, so rows can be compared without rescanning.
+    private static final class Frame {
+        private final BoardBuffer buffer = new BoardBuffer();
+        private int[] rowEnds = new int[64];
+        private int completeRows;
+
+        void endRow() {
+            if (completeRows == rowEnds.length) {
+                rowEnds = Arrays.copyOf(rowEnds, completeRows * 2);
+            }
+            rowEnds[completeRows++] = buffer.size();
+            buffer.append(LINE_SEPARATOR);
+        }
+
+        boolean hasOpenRow() {
+            return buffer.size() > rowStart(completeRows);
+        }
+
+        int rowCount() {
+            return completeRows + (hasOpenRow() ? 1 : 0);
+        }
+
+        int rowStart(int row) {
+            return row == 0 ? 0 : rowEnds[row - 1] + LINE_SEPARATOR.length();
+        }
+
+        int rowEnd(int row) {
+            return row < completeRows ? rowEnds[row] : buffer.size();
+        }
+
+        // The other frame's open row never matches, as it also holds whatever the user typed
+        boolean sameRow(int row, Frame other) {
+            return row < other.completeRows
+                    && buffer.rangeEquals(rowStart(row), rowEnd(row), other.buffer, other.rowStart(row), other.rowEnd(row));
+        }
+
+        void reset() {
+            buffer.reset();
+            completeRows = 0;
+        }
+    }
+}
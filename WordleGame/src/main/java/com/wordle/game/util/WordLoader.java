@@ -1,81 +1,192 @@
 package com.wordle.game.util;
 
+import com.wordle.game.events.DictionaryLoadedEvent;
 import com.wordle.game.exceptions.WordLoadException;
+import com.wordle.game.logic.GameConfig;
+import com.wordle.game.metrics.GameMetrics;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-
+// Immutable once constructed, so a single instance can be shared by every game and thread.
+// A dictionary holds words of one length, taken from its GameConfig; games built on it inherit the config.
+// Text dictionaries are looked up through a DictionaryIndex; packed ones binary-search their sorted
+// words instead and only build the index if getIndex asks for it.
 public class WordLoader {
-    private static final int WORD_LENGTH = 5;
+    private static final System.Logger LOGGER = System.getLogger(WordLoader.class.getName());
     private static final String WORD_FILE = "/wordList.txt";
+    private final GameConfig config;
     private final List<String> words;
-    private final Random random;
+    // Null for text dictionaries
+    private final PackedWordList packedWords;
+    // Built on first use for packed dictionaries; racing threads build equal indexes
+    private volatile DictionaryIndex index;
+    // Shared by every thread; picks take no lock
+    private final TargetSelector selector;
 
     public WordLoader() throws WordLoadException {
         this(WORD_FILE);
     }
 
     public WordLoader(String fileName) throws WordLoadException {
-        this.random = new Random();
-        this.words = loadWordsFromFile(fileName);
-        if (words.isEmpty()) {
-            throw new WordLoadException(fileName, "No valid words found in file");
+        this(GameConfig.DEFAULT, fileName);
+    }
+
+    // Loads the words of the configured length from a text resource; lines of other lengths are skipped.
+    public WordLoader(GameConfig config, String fileName) throws WordLoadException {
+        // Arguments are evaluated left to right, so the load time includes reading the file
+        this(System.nanoTime(), config, fileName, loadWordsFromFile(fileName));
+    }
+
+    private WordLoader(long startNanos, GameConfig config, String fileName, TextSource source) throws WordLoadException {
+        this(startNanos, config, fileName, source.lines(), source.bytes());
+    }
+
+    // Serves words and lookups straight from the compiled dictionary's mapping, which is already
+    // sorted, so nothing is copied, parsed or indexed here. Compiled dictionaries hold five-letter words only.
+    public WordLoader(BinaryDictionary dictionary) throws WordLoadException {
+        this(System.nanoTime(), dictionary);
+    }
+
+    private WordLoader(long startNanos, BinaryDictionary dictionary) throws WordLoadException {
+        this(String.valueOf(dictionary.getPath()), dictionary.words());
+        recordLoad(String.valueOf(dictionary.getPath()), dictionary.getFileSize(), startNanos);
+    }
+
+    // Uses five-letter words that are already packed, e.g. by CorpusLoader, which reports the load itself.
+    public WordLoader(String sourceName, int[] packedWords) throws WordLoadException {
+        this(sourceName, sortedCopy(packedWords));
+    }
+
+    private WordLoader(String sourceName, IntBuffer sortedWords) throws WordLoadException {
+        if (sortedWords.limit() == 0) {
+            throw new WordLoadException(sourceName, "No valid words found");
+        }
+        this.config = GameConfig.DEFAULT;
+        this.selector = TargetSelector.random();
+        this.packedWords = new PackedWordList(sortedWords);
+        this.words = packedWords;
+    }
+
+    private static IntBuffer sortedCopy(int[] packedWords) {
+        int[] copy = packedWords.clone();
+        Arrays.sort(copy);
+        return IntBuffer.wrap(copy);
+    }
+
+    // Builds a dictionary from words supplied by the caller, normalized the same way as file contents.
+    public WordLoader(String sourceName, Collection<String> words) throws WordLoadException {
+        this(GameConfig.DEFAULT, sourceName, words);
+    }
+
+    public WordLoader(GameConfig config, String sourceName, Collection<String> words) throws WordLoadException {
+        this(System.nanoTime(), config, sourceName, words, 0);
+    }
+
+    private WordLoader(long startNanos, GameConfig config, String sourceName, Collection<String> words, long bytes)
+            throws WordLoadException {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        this.config = config;
+        this.selector = TargetSelector.random();
+        this.words = List.copyOf(normalize(words.stream(), config.wordLength()));
+        if (this.words.isEmpty()) {
+            throw new WordLoadException(sourceName, "No valid words found");
+        }
+        this.packedWords = null;
+        this.index = buildIndex(this.words, config.wordLength());
+        recordLoad(sourceName, bytes, startNanos);
+    }
+
+    private void recordLoad(String sourceName, long bytes, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        GameMetrics.DICTIONARY_LOAD.record(elapsed);
+        DictionaryLoadedEvent.emit(sourceName, words.size(), bytes, elapsed);
+    }
+
+    // Prefers the compiled dictionary and falls back to the text resource if it is missing or unusable.
+    // An unusable binary is logged, since it will be rejected again on every start until it is rebuilt.
+    public static WordLoader load(Path compiledDictionary, String fallbackFileName) throws WordLoadException {
+        if (compiledDictionary != null && Files.isRegularFile(compiledDictionary)) {
+            try {
+                return new WordLoader(BinaryDictionary.open(compiledDictionary));
+            } catch (WordLoadException e) {
+                // Stale or corrupted binary; the text source is still authoritative
+                LOGGER.log(System.Logger.Level.WARNING,
+                        "Ignoring compiled dictionary, loading " + fallbackFileName + " instead", e);
+            }
         }
+        return new WordLoader(fallbackFileName);
     }
 
-    private List<String> loadWordsFromFile(String fileName) throws WordLoadException {
-        List<String> loadedWords = new ArrayList<>();
-        try (InputStream inputStream = getClass().getResourceAsStream(fileName)) {
+    private static TextSource loadWordsFromFile(String fileName) throws WordLoadException {
+        try (InputStream inputStream = WordLoader.class.getResourceAsStream(fileName)) {
             if (inputStream == null) {
                 throw new WordLoadException(fileName, "File not found in resources");
             }
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-                loadedWords = reader.lines()
-                        .map(String::trim)
-                        .map(String::toUpperCase)
-                        .filter(this::isValidWord)
-                        .distinct()
-                        .collect(Collectors.toList());
-            }
+            byte[] content = inputStream.readAllBytes();
+            return new TextSource(new String(content, StandardCharsets.UTF_8).lines().toList(), content.length);
 
         } catch (IOException e) {
             throw new WordLoadException(fileName, "I/O error while reading file", e);
         }
+    }
 
-        return loadedWords;
+    private record TextSource(List<String> lines, long bytes) {
     }
 
-    private boolean isValidWord(String word) {
-        if (word == null || word.length() != WORD_LENGTH) {
+    private static List<String> normalize(Stream<String> lines, int wordLength) {
+        return lines
+                .filter(line -> line != null)
+                .map(String::trim)
+                .map(String::toUpperCase)
+                .filter(word -> isValidWord(word, wordLength))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static DictionaryIndex buildIndex(List<String> words, int wordLength) {
+        long[] packedWords = new long[words.size()];
+        for (int i = 0; i < packedWords.length; i++) {
+            packedWords[i] = PackedWord.tryEncodeLong(words.get(i), wordLength);
+        }
+        return new DictionaryIndex(packedWords, wordLength);
+    }
+
+    private static boolean isValidWord(String word, int wordLength) {
+        if (word == null || word.length() != wordLength) {
             return false;
         }
-        // Check if word contains only alphabetic characters
-        return word.chars().allMatch(Character::isLetter);
+        // Check if word contains only the letters A-Z that the packed encoding supports
+        return PackedWord.tryEncodeLong(word, wordLength) != PackedWord.INVALID;
 
     }
 
     public String getRandomWord() {
+        return getTargetWord(selector);
+    }
+
+    // Next target according to the given policy, e.g. a shuffle bag or the word of the day.
+    public String getTargetWord(TargetSelector targetSelector) {
         if (words.isEmpty()) {
             throw new IllegalStateException("No words available");
         }
 
-        return words.get(random.nextInt(words.size()));
+        return words.get(targetSelector.nextIndex(words.size()));
     }
 
     public boolean isWordInList(String word) {
-        if (word == null) {
-            return false;
-        }
-
-        return words.contains(word.toUpperCase());
+        return packedWords != null ? packedWords.containsWord(word) : index.contains(word);
     }
 
     public int getWordCount() {
@@ -83,16 +194,36 @@ public class WordLoader {
     }
 
     public List<String> getAllWords() {
-        return Collections.unmodifiableList(words);
+        return words;
+    }
+
+    public DictionaryIndex getIndex() {
+        DictionaryIndex built = index;
+        if (built == null) {
+            int[] packed = new int[packedWords.size()];
+            for (int i = 0; i < packed.length; i++) {
+                packed[i] = packedWords.packedAt(i);
+            }
+            built = new DictionaryIndex(packed);
+            index = built;
+        }
+        return built;
+    }
+
+    public GameConfig getConfig() {
+        return config;
     }
 
+    // Shape check for the default five-letter game; see GameConfig.isValidWord for other lengths.
     public static boolean isWordValid(String word) {
-        return word != null &&
-                word.length() == WORD_LENGTH &&
-                word.chars().allMatch(Character::isLetter);
+        return GameConfig.DEFAULT.isValidWord(word);
     }
 
     public static int getWordLength() {
-        return WORD_LENGTH;
+        return GameConfig.DEFAULT.wordLength();
+    }
+
+    public static String getDefaultWordFile() {
+        return WORD_FILE;
     }
 }
@@ -0,0 +1,34 @@
+package com.wordle.game;
+
+import com.wordle.game.util.DictionaryRegistry;
+import com.wordle.game.util.TerminalRenderer;
+import com.wordle.game.util.WordLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleGameTest {
+
+    @Test
+    @DisplayName("Should reject board counts the game or the dictionary cannot play")
+    void testBoardCounts() throws Exception {
+        TerminalRenderer screen = new TerminalRenderer(Channels.newChannel(new ByteArrayOutputStream()), false);
+        assertThrows(IllegalArgumentException.class, () -> new WordleGame(screen, false, 1));
+        assertThrows(IllegalArgumentException.class, () -> new WordleGame(screen, false, 65));
+        assertThrows(IllegalArgumentException.class, () -> new WordleGame(screen, true, 4));
+
+        WordLoader dictionary = DictionaryRegistry.getDefault();
+        int words = dictionary.getWordCount();
+        assertDoesNotThrow(() -> WordleGame.checkBoards(words, dictionary));
+        IllegalArgumentException tooMany = assertThrows(IllegalArgumentException.class,
+                () -> WordleGame.checkBoards(words + 1, dictionary));
+        assertTrue(tooMany.getMessage().contains("at most " + words));
+        WordLoader small = new WordLoader("small", List.of("WATER", "HELLO"));
+        assertThrows(IllegalArgumentException.class, () -> WordleGame.checkBoards(16, small));
+    }
+}
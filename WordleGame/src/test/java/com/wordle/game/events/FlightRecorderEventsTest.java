@@ -0,0 +1,124 @@
+package com.wordle.game.events;
+
+import com.wordle.game.exceptions.InvalidWordException;
+import com.wordle.game.logic.AnswerColumns;
+import com.wordle.game.logic.BatchScorer;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.logic.MultiBoardGame;
+import com.wordle.game.logic.WordChecker;
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should record the game lifecycle, dictionary loads and scoring batches")
+    void testRecordedEvents() throws Exception {
+        GameProcessor game;
+        try (Recording recording = new Recording()) {
+            recording.enable(GameCreatedEvent.class);
+            recording.enable(GuessMadeEvent.class);
+            recording.enable(GameFinishedEvent.class);
+            recording.enable(DictionaryLoadedEvent.class);
+            recording.enable(ScoringBatchEvent.class);
+            recording.start();
+
+            WordLoader dictionary = new WordLoader("jfr-test", List.of("WATER", "HAPPY", "CABLE"));
+            game = new GameProcessor(dictionary, "WATER");
+            game.makeGuess("HAPPY");
+            assertThrows(InvalidWordException.class, () -> game.makeGuess("WAT3R"));
+            game.makeGuess("WATER");
+
+            // Bulk calls are reported whatever their size; single scores are not
+            int guess = PackedWord.encode("CABLE");
+            int[] answers = {PackedWord.encode("WATER"), PackedWord.encode("HAPPY"), PackedWord.encode("CABLE")};
+            WordChecker checker = new WordChecker();
+            checker.score(guess, answers[0]);
+            checker.score(guess, answers, new byte[answers.length]);
+            BatchScorer.scalar().score(guess, AnswerColumns.of(answers), new byte[answers.length]);
+
+            recording.stop();
+            recording.dump(tempDir.resolve("events.jfr"));
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(tempDir.resolve("events.jfr"));
+        long gameId = game.getGameId();
+
+        RecordedEvent created = single(events, "com.wordle.game.GameCreated", gameId);
+        assertEquals(3, created.getInt("dictionaryWords"));
+        assertEquals(5, created.getInt("maxAttempts"));
+
+        List<RecordedEvent> guesses = forGame(events, "com.wordle.game.GuessMade", gameId);
+        assertEquals(3, guesses.size());
+        assertEquals("HAPPY", guesses.get(0).getString("guess"));
+        assertNull(guesses.get(0).getString("rejectionReason"));
+        assertEquals(-1, guesses.get(1).getInt("pattern"));
+        assertEquals("INVALID_CHARACTERS", guesses.get(1).getString("rejectionReason"));
+        assertEquals(242, guesses.get(2).getInt("pattern"));
+        assertEquals(2, guesses.get(2).getInt("attempt"));
+
+        RecordedEvent finished = single(events, "com.wordle.game.GameFinished", gameId);
+        assertTrue(finished.getBoolean("won"));
+        assertEquals(2, finished.getInt("attempts"));
+
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("com.wordle.game.DictionaryLoaded")
+                && "jfr-test".equals(e.getString("source")) && e.getInt("wordCount") == 3));
+        List<RecordedEvent> batches = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.wordle.game.ScoringBatch"))
+                .toList();
+        assertEquals(List.of("checker", "scalar"), batches.stream().map(e -> e.getString("scorer")).toList());
+        assertTrue(batches.stream().allMatch(e -> e.getInt("scores") == 3 && !e.getDuration().isNegative()));
+    }
+
+    @Test
+    @DisplayName("Should record multi-board games with every target once finished")
+    void testMultiBoardEvents() throws Exception {
+        MultiBoardGame game;
+        try (Recording recording = new Recording()) {
+            recording.enable(GameCreatedEvent.class);
+            recording.enable(GameFinishedEvent.class);
+            recording.start();
+
+            WordLoader dictionary = new WordLoader("jfr-test", List.of("WATER", "HAPPY", "CABLE"));
+            game = new MultiBoardGame(dictionary, MultiBoardGame.defaultConfig(2), List.of("HAPPY", "CABLE"));
+            game.makeGuess("CABLE");
+            game.makeGuess("HAPPY");
+
+            recording.stop();
+            recording.dump(tempDir.resolve("boards.jfr"));
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(tempDir.resolve("boards.jfr"));
+        assertEquals(7, single(events, "com.wordle.game.GameCreated", game.getGameId()).getInt("maxAttempts"));
+        RecordedEvent finished = single(events, "com.wordle.game.GameFinished", game.getGameId());
+        assertTrue(finished.getBoolean("won"));
+        assertEquals(2, finished.getInt("attempts"));
+        assertEquals("HAPPY,CABLE", finished.getString("targetWord"));
+    }
+
+    private static List<RecordedEvent> forGame(List<RecordedEvent> events, String type, long gameId) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(type) && e.getLong("gameId") == gameId)
+                .toList();
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String type, long gameId) {
+        List<RecordedEvent> matching = forGame(events, type, gameId);
+        assertEquals(1, matching.size(), type);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.exceptions.WordLoadException;
+import com.wordle.game.util.DictionaryRegistry;
+import com.wordle.game.util.PackedWord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchScorerTest {
+
+    @Test
+    @DisplayName("Should pick the vector scorer when the incubator module is loaded")
+    void testRuntimeSelection() {
+        // Surefire runs with --add-modules jdk.incubator.vector
+        assertTrue(BatchScorer.create().name().startsWith("vector"));
+        assertEquals("scalar", BatchScorer.scalar().name());
+    }
+
+    @Test
+    @DisplayName("Should match WordChecker for every guess against a dictionary")
+    void testMatchesWordChecker() throws WordLoadException {
+        List<String> words = DictionaryRegistry.getDefault().getAllWords();
+        // An odd count leaves a partial vector for the scalar tail
+        List<String> answers = words.subList(0, Math.min(words.size(), 1001));
+        AnswerColumns columns = AnswerColumns.of(answers);
+        WordChecker checker = new WordChecker();
+        byte[] vector = new byte[columns.size()];
+        byte[] scalar = new byte[columns.size()];
+
+        for (int g = 0; g < words.size(); g += 97) {
+            int guess = PackedWord.encode(words.get(g));
+            BatchScorer.create().score(guess, columns, vector);
+            BatchScorer.scalar().score(guess, columns, scalar);
+            for (int i = 0; i < columns.size(); i++) {
+                int expected = checker.score(guess, columns.packedWordAt(i));
+                assertEquals(expected, vector[i] & 0xFF, words.get(g) + " vs " + answers.get(i));
+                assertEquals(expected, scalar[i] & 0xFF, words.get(g) + " vs " + answers.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle repeated letters like WordChecker")
+    void testRepeatedLetters() {
+        String[] words = {"EERIE", "SPEED", "LLAMA", "HELLO", "ALLAY", "WATER", "EEEEE", "ABIDE", "MAMMA"};
+        AnswerColumns columns = AnswerColumns.of(List.of(words));
+        WordChecker checker = new WordChecker();
+        byte[] patterns = new byte[words.length];
+        int[] histogram = new int[FeedbackPattern.PATTERN_COUNT];
+
+        for (String guess : words) {
+            BatchScorer.create().histogram(PackedWord.encode(guess), columns, patterns, histogram);
+            for (int i = 0; i < words.length; i++) {
+                assertEquals(checker.score(PackedWord.encode(guess), PackedWord.encode(words[i])), patterns[i] & 0xFF);
+            }
+            assertEquals(1, histogram[FeedbackPattern.ALL_CORRECT]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a pattern buffer smaller than the answers")
+    void testBufferTooSmall() {
+        AnswerColumns columns = AnswerColumns.of(List.of("WATER", "HELLO"));
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchScorer.create().score(PackedWord.encode("WATER"), columns, new byte[1]));
+        assertThrows(IllegalArgumentException.class, () -> AnswerColumns.of(new int[]{0}));
+    }
+}
@@ -0,0 +1,84 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.util.PackedWord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidateIndexTest {
+    private static final List<String> WORDS = List.of(
+            "WATER", "HAPPY", "CABLE", "ABOUT", "LATER", "HATER", "EATER", "SPEED", "ABIDE", "EERIE",
+            "HELLO", "LLAMA", "PAPER", "PUPPY", "GEESE", "ERROR", "ALLOY", "LEVEL", "MAMMA", "ELDER");
+
+    @Test
+    @DisplayName("Should keep exactly the words that reproduce the feedback")
+    void testMatchesRescoring() {
+        CandidateIndex index = new CandidateIndex(PackedWord.encodeAll(WORDS));
+        WordChecker checker = new WordChecker();
+
+        for (String guess : WORDS) {
+            for (String target : WORDS) {
+                int code = checker.score(PackedWord.encode(guess), PackedWord.encode(target));
+                long[] candidates = index.allWords();
+                index.apply(candidates, guess, FeedbackPattern.toOutcomes(code));
+
+                assertEquals(bruteForce(checker, guess, code, WORDS), index.words(candidates),
+                        "guess " + guess + " against " + target);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should narrow a large word list across several guesses")
+    void testSeveralGuessesOnLargeList() {
+        Random random = new Random(7);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            char[] letters = new char[5];
+            for (int j = 0; j < 5; j++) {
+                letters[j] = (char) ('A' + random.nextInt(8));
+            }
+            words.add(new String(letters));
+        }
+        CandidateIndex index = new CandidateIndex(PackedWord.encodeAll(words));
+        WordChecker checker = new WordChecker();
+        String target = words.get(1234);
+
+        long[] candidates = index.allWords();
+        List<String> expected = words;
+        for (String guess : List.of(words.get(0), words.get(1), words.get(2))) {
+            int code = checker.score(PackedWord.encode(guess), PackedWord.encode(target));
+            index.apply(candidates, PackedWord.encode(guess), code);
+            expected = bruteForce(checker, guess, code, expected);
+        }
+
+        assertEquals(expected, index.words(candidates));
+        assertEquals(expected.size(), index.count(candidates));
+        assertTrue(index.words(candidates).contains(target));
+    }
+
+    @Test
+    @DisplayName("Should reject bitmaps from another index")
+    void testForeignBitmap() {
+        CandidateIndex index = new CandidateIndex(PackedWord.encodeAll(WORDS));
+
+        assertEquals(WORDS.size(), index.count(index.allWords()));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.apply(new long[5], PackedWord.encode("WATER"), 0));
+    }
+
+    private static List<String> bruteForce(WordChecker checker, String guess, int code, List<String> words) {
+        List<String> result = new ArrayList<>();
+        for (String word : words) {
+            if (checker.score(PackedWord.encode(guess), PackedWord.encode(word)) == code) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.util.PackedWord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidatePartitionerTest {
+
+    @Test
+    @DisplayName("Should count every bucket like scoring each candidate one by one")
+    void testPartitionMatchesChecker() {
+        List<String> words = randomWords(5000, 12);
+        WordChecker checker = new WordChecker();
+        for (BatchScorer scorer : List.of(BatchScorer.scalar(), BatchScorer.create())) {
+            CandidatePartitioner partitioner = new CandidatePartitioner(PackedWord.encodeAll(words), scorer);
+            int guess = PackedWord.encode(words.get(17));
+            partitioner.partition(guess);
+
+            int[] expected = new int[FeedbackPattern.PATTERN_COUNT];
+            for (String word : words) {
+                expected[checker.score(guess, PackedWord.encode(word))]++;
+            }
+            for (int pattern = 0; pattern < expected.length; pattern++) {
+                assertEquals(expected[pattern], partitioner.bucketSize(pattern), scorer.name() + " pattern " + pattern);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the chosen bucket in order and narrow it again on the next guess")
+    void testRetainCompactsInPlace() {
+        List<String> words = randomWords(3000, 8);
+        WordChecker checker = new WordChecker();
+        CandidatePartitioner partitioner = new CandidatePartitioner(words);
+
+        List<String> expected = words;
+        for (String guess : List.of(words.get(0), words.get(1), words.get(2))) {
+            int packedGuess = PackedWord.encode(guess);
+            int pattern = partitioner.adversarialMove(packedGuess);
+            List<String> bucket = new ArrayList<>();
+            int largest = 0;
+            int[] sizes = new int[FeedbackPattern.PATTERN_COUNT];
+            for (String word : expected) {
+                int code = checker.score(packedGuess, PackedWord.encode(word));
+                sizes[code]++;
+                if (code == pattern) {
+                    bucket.add(word);
+                }
+            }
+            for (int size : sizes) {
+                largest = Math.max(largest, size);
+            }
+            assertEquals(largest, bucket.size());
+            expected = bucket;
+            assertEquals(expected, partitioner.remaining());
+        }
+
+        partitioner.reset();
+        assertEquals(words.size(), partitioner.size());
+        assertThrows(IllegalStateException.class, () -> partitioner.retain(0));
+    }
+
+    @Test
+    @DisplayName("Should break ties towards the feedback that reveals less")
+    void testTieBreak() {
+        CandidatePartitioner partitioner = new CandidatePartitioner(List.of("WATER", "BUMPY"));
+        // One bucket is all grey (BUMPY), the other all green (WATER)
+        assertEquals(0, partitioner.adversarialMove(PackedWord.encode("WATER")));
+        assertEquals(List.of("BUMPY"), partitioner.remaining());
+
+        assertEquals(FeedbackPattern.ALL_CORRECT, partitioner.adversarialMove(PackedWord.encode("BUMPY")));
+        assertThrows(IllegalArgumentException.class, () -> new CandidatePartitioner(new int[0]));
+    }
+
+    private static List<String> randomWords(int count, int alphabet) {
+        Random random = new Random(3);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            char[] letters = new char[5];
+            for (int j = 0; j < 5; j++) {
+                letters[j] = (char) ('A' + random.nextInt(alphabet));
+            }
+            words.add(new String(letters));
+        }
+        return words;
+    }
+}
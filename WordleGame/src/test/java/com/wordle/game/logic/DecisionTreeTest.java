@@ -0,0 +1,160 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.exceptions.StorageException;
+import com.wordle.game.simulation.DecisionTreeStrategy;
+import com.wordle.game.simulation.SimulationEngine;
+import com.wordle.game.simulation.SimulationResult;
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionTreeTest {
+    private static List<String> words;
+    private static DecisionTree greedy;
+    private static DecisionTree searched;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void compile() {
+        // Letters from a small alphabet, so many words share feedback and the tree gets deep
+        Random random = new Random(11);
+        Set<String> distinct = new LinkedHashSet<>();
+        while (distinct.size() < 400) {
+            char[] letters = new char[5];
+            for (int j = 0; j < 5; j++) {
+                letters[j] = (char) ('A' + random.nextInt(10));
+            }
+            distinct.add(new String(letters));
+        }
+        words = new ArrayList<>(distinct);
+        greedy = new DecisionTreeCompiler(words, words, 6, 1, ForkJoinPool.commonPool()).compile();
+        searched = new DecisionTreeCompiler(words, words, 6, 3, ForkJoinPool.commonPool()).compile();
+    }
+
+    @Test
+    @DisplayName("Should find every answer by following the tree with real feedback")
+    void testSolvesEveryAnswer() {
+        WordChecker checker = new WordChecker();
+        long total = 0;
+        int failures = 0;
+        for (String answer : words) {
+            int node = searched.root();
+            int attempts = 0;
+            boolean found = false;
+            while (node != DecisionTree.NO_NODE && attempts < searched.getMaxAttempts()) {
+                String guess = searched.guessAt(node);
+                attempts++;
+                int pattern = checker.score(PackedWord.encode(guess), PackedWord.encode(answer));
+                if (pattern == FeedbackPattern.ALL_CORRECT) {
+                    found = true;
+                    break;
+                }
+                node = searched.next(node, pattern);
+            }
+            if (found) {
+                total += attempts;
+            } else {
+                failures++;
+            }
+        }
+        assertEquals(searched.getFailures(), failures);
+        assertEquals(searched.getAverageGuesses(), (double) total / (words.size() - failures), 1e-9);
+        assertEquals(words.size(), searched.getAnswerCount());
+    }
+
+    @Test
+    @DisplayName("Should never do worse than the greedy entropy tree when searching wider")
+    void testWiderSearchIsNoWorse() {
+        assertTrue(searched.getFailures() <= greedy.getFailures());
+        if (searched.getFailures() == greedy.getFailures()) {
+            assertTrue(searched.getAverageGuesses() <= greedy.getAverageGuesses());
+        }
+        assertTrue(greedy.getAverageGuesses() < 4, greedy.toString());
+    }
+
+    @Test
+    @DisplayName("Should load a written tree and reject damaged files")
+    void testRoundTrip() throws IOException {
+        Path file = directory.resolve("tree.bin");
+        searched.write(file);
+        DecisionTree loaded = DecisionTree.load(file);
+
+        assertEquals(searched.getNodeCount(), loaded.getNodeCount());
+        assertEquals(searched.getAverageGuesses(), loaded.getAverageGuesses());
+        assertEquals(searched.getDictionaryHash(), loaded.getDictionaryHash());
+        assertTrue(loaded.isBuiltFor(words, words));
+        assertFalse(loaded.isBuiltFor(words.subList(1, words.size()), words.subList(1, words.size())));
+        for (int node = 0; node < loaded.getNodeCount(); node++) {
+            assertEquals(searched.guessAt(node), loaded.guessAt(node));
+            for (int pattern = 0; pattern < FeedbackPattern.PATTERN_COUNT; pattern += 7) {
+                assertEquals(searched.next(node, pattern), loaded.next(node, pattern));
+            }
+        }
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 3] ^= 1;
+        Path damaged = directory.resolve("damaged.bin");
+        Files.write(damaged, bytes);
+        assertThrows(StorageException.class, () -> DecisionTree.load(damaged));
+
+        Path truncated = directory.resolve("truncated.bin");
+        Files.write(truncated, bytes, StandardOpenOption.CREATE);
+        Files.write(truncated, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+        assertThrows(StorageException.class, () -> DecisionTree.load(truncated));
+    }
+
+    @Test
+    @DisplayName("Should suggest the next guess for a game history and reject histories off the tree")
+    void testSuggest() {
+        WordLoader dictionary = new WordLoader("test", words);
+        GameProcessor game = new GameProcessor(dictionary, new GameConfig(5, 6), words.get(123));
+        assertEquals(searched.guessAt(searched.root()), searched.suggest(game));
+
+        while (!game.isGameOver()) {
+            game.makeGuess(searched.suggest(game));
+        }
+        assertTrue(game.isGameWon());
+
+        GameProcessor offTree = new GameProcessor(dictionary, new GameConfig(5, 6), words.get(5));
+        String first = searched.guessAt(searched.root());
+        offTree.makeGuess(words.stream().filter(word -> !word.equals(first)).findFirst().orElseThrow());
+        assertThrows(GameException.class, () -> searched.suggest(offTree));
+    }
+
+    @Test
+    @DisplayName("Should play a whole dictionary through the simulation engine")
+    void testStrategy() {
+        List<String> small = List.of("WATER", "HAPPY", "CABLE", "ABOUT", "LATER", "HATER", "EATER", "TAMER",
+                "CATER", "RATES", "SLATE", "CRANE", "HELLO", "LLAMA", "SPEED", "ABIDE", "PAPER", "WAFER");
+        WordLoader dictionary = new WordLoader("test", small);
+        SimulationResult result = new SimulationEngine(dictionary).run(new DecisionTreeStrategy(dictionary));
+
+        assertEquals(small.size(), result.getWins());
+    }
+
+    @Test
+    @DisplayName("Should reject answers that cannot be guessed")
+    void testAnswersMustBeGuesses() {
+        assertThrows(IllegalArgumentException.class, () -> new DecisionTreeCompiler(
+                List.of("WATER"), List.of("WATER", "HAPPY"), 6, 1, ForkJoinPool.commonPool()));
+    }
+}
@@ -0,0 +1,104 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntropySolverTest {
+    private static final List<String> WORDS = List.of(
+            "WATER", "HAPPY", "CABLE", "ABOUT", "LATER", "HATER", "EATER", "TAMER", "CATER", "RATES",
+            "SLATE", "CRANE", "HELLO", "LLAMA", "SPEED", "ABIDE", "PAPER", "WAFER", "DATER", "MATER");
+
+    private WordLoader dictionary;
+    private EntropySolver solver;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new WordLoader("test", WORDS);
+        solver = new EntropySolver(dictionary);
+    }
+
+    @Test
+    @DisplayName("Should open with the guess of maximum entropy")
+    void testOpeningSuggestion() {
+        String suggestion = solver.suggest(List.of(), List.of());
+
+        double best = -1;
+        for (String guess : WORDS) {
+            best = Math.max(best, bruteForceEntropy(guess, WORDS));
+        }
+        assertEquals(best, bruteForceEntropy(suggestion, WORDS), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should give the same answer regardless of parallelism")
+    void testDeterministicAcrossPools() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            String a = new EntropySolver(WORDS, WORDS, single).suggest(List.of(), List.of());
+            String b = new EntropySolver(WORDS, WORDS, many).suggest(List.of(), List.of());
+            assertEquals(a, b);
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should only keep candidates consistent with the game history")
+    void testRemainingCandidates() throws GameException {
+        GameProcessor game = new GameProcessor(dictionary, "HATER");
+        game.makeGuess("WATER");
+
+        List<String> remaining = solver.remainingCandidates(game.getGuesses(), game.guessOutcomes());
+
+        assertTrue(remaining.contains("HATER"));
+        assertFalse(remaining.contains("WATER"));
+        for (String word : remaining) {
+            assertEquals(FeedbackPattern.fromOutcomes(game.getGuessOutcome(0)),
+                    new WordChecker().score(PackedWord.encode("WATER"), PackedWord.encode(word)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should solve every game in the dictionary")
+    void testSolvesGames() throws GameException {
+        for (String target : WORDS) {
+            GameProcessor game = new GameProcessor(dictionary, target);
+            while (!game.isGameOver()) {
+                game.makeGuess(solver.suggest(game));
+            }
+            assertTrue(game.isGameWon(), "Failed to solve " + target);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject histories no answer can satisfy")
+    void testInconsistentHistory() {
+        GuessOutcome[] allCorrect = FeedbackPattern.toOutcomes(FeedbackPattern.ALL_CORRECT);
+        List<GuessOutcome[]> outcomes = new ArrayList<>();
+        outcomes.add(allCorrect);
+
+        assertThrows(GameException.class, () -> solver.suggest(List.of("SSSSS"), outcomes));
+        assertThrows(IllegalArgumentException.class, () -> solver.suggest(List.of("WATER"), List.of()));
+    }
+
+    private static double bruteForceEntropy(String guess, List<String> candidates) {
+        WordChecker checker = new WordChecker();
+        int[] histogram = new int[FeedbackPattern.PATTERN_COUNT];
+        for (String candidate : candidates) {
+            histogram[checker.score(PackedWord.encode(guess), PackedWord.encode(candidate))]++;
+        }
+        return EntropySolver.entropy(histogram, candidates.size());
+    }
+}
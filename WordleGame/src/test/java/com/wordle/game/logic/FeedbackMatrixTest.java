@@ -0,0 +1,102 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.exceptions.WordLoadException;
+import com.wordle.game.util.PackedWord;
+import com.wordle.game.util.WordLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedbackMatrixTest {
+    private static final List<String> GUESSES = List.of("WATER", "HELLO", "LLAMA", "SPEED");
+    private static final List<String> ANSWERS = List.of("ABIDE", "WATER", "HAPPY");
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    @DisplayName("Should match WordChecker for every guess and answer pair")
+    void testMatchesWordChecker() {
+        FeedbackMatrix matrix = FeedbackMatrix.compute(GUESSES, ANSWERS);
+        WordChecker checker = new WordChecker();
+
+        assertEquals(4, matrix.getGuessCount());
+        assertEquals(3, matrix.getAnswerCount());
+        for (int g = 0; g < GUESSES.size(); g++) {
+            for (int a = 0; a < ANSWERS.size(); a++) {
+                int expected = checker.score(PackedWord.encode(GUESSES.get(g)), PackedWord.encode(ANSWERS.get(a)));
+                assertEquals(expected, matrix.pattern(g, a));
+            }
+        }
+        assertEquals(FeedbackPattern.ALL_CORRECT, matrix.pattern(0, 1));
+    }
+
+    @Test
+    @DisplayName("Should store the matrix once and map it on later loads")
+    void testCachedLoad() throws IOException {
+        FeedbackMatrix first = FeedbackMatrix.load(GUESSES, ANSWERS, cacheDirectory);
+        Path file;
+        try (var files = Files.list(cacheDirectory)) {
+            List<Path> cached = files.toList();
+            assertEquals(1, cached.size());
+            file = cached.get(0);
+        }
+        long modified = Files.getLastModifiedTime(file).toMillis();
+
+        FeedbackMatrix second = FeedbackMatrix.load(GUESSES, ANSWERS, cacheDirectory);
+
+        assertEquals(modified, Files.getLastModifiedTime(file).toMillis());
+        assertEquals(first.getDictionaryHash(), second.getDictionaryHash());
+        for (int g = 0; g < GUESSES.size(); g++) {
+            for (int a = 0; a < ANSWERS.size(); a++) {
+                assertEquals(first.pattern(g, a), second.pattern(g, a));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild a corrupted cache file")
+    void testCorruptedCache() throws IOException {
+        FeedbackMatrix.load(GUESSES, ANSWERS, cacheDirectory);
+        Path file;
+        try (var files = Files.list(cacheDirectory)) {
+            file = files.findFirst().orElseThrow();
+        }
+        Files.write(file, new byte[]{1, 2, 3});
+
+        FeedbackMatrix matrix = FeedbackMatrix.load(GUESSES, ANSWERS, cacheDirectory);
+
+        assertEquals(FeedbackPattern.ALL_CORRECT, matrix.pattern(0, 1));
+    }
+
+    @Test
+    @DisplayName("Should key the cache to the dictionary contents")
+    void testDictionaryKey() throws WordLoadException {
+        WordLoader loader = new WordLoader();
+        FeedbackMatrix matrix = FeedbackMatrix.load(loader, cacheDirectory);
+
+        assertEquals(loader.getWordCount(), matrix.getGuessCount());
+        assertNotEquals(matrix.getDictionaryHash(),
+                FeedbackMatrix.compute(GUESSES, ANSWERS).getDictionaryHash());
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.pattern(loader.getWordCount(), 0));
+    }
+
+    @Test
+    @DisplayName("Should reject word lists whose matrix does not fit in an array, computed or cached")
+    void testTooLarge() throws IOException {
+        List<String> words = Collections.nCopies(50_000, "WATER");
+        assertThrows(IllegalArgumentException.class, () -> FeedbackMatrix.compute(words, words));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackMatrix.load(words, words, cacheDirectory));
+        try (var files = Files.list(cacheDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
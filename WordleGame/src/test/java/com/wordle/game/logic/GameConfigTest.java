@@ -0,0 +1,42 @@
+package com.wordle.game.logic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameConfigTest {
+
+    @Test
+    @DisplayName("Should default to five letters and five attempts")
+    void testDefault() {
+        assertEquals(5, GameConfig.DEFAULT.wordLength());
+        assertEquals(5, GameConfig.DEFAULT.maxAttempts());
+        assertTrue(GameConfig.DEFAULT.isDefaultLength());
+        assertEquals(FeedbackPattern.PATTERN_COUNT, GameConfig.DEFAULT.patternCount());
+    }
+
+    @Test
+    @DisplayName("Should reject lengths the long encoding cannot hold")
+    void testLimits() {
+        assertEquals(12, GameConfig.MAX_WORD_LENGTH);
+        assertEquals(531441, new GameConfig(12, 8).patternCount());
+        assertThrows(IllegalArgumentException.class, () -> new GameConfig(13, 5));
+        assertThrows(IllegalArgumentException.class, () -> new GameConfig(1, 5));
+        assertThrows(IllegalArgumentException.class, () -> new GameConfig(5, 0));
+    }
+
+    @Test
+    @DisplayName("Should check guess shape against the configured length")
+    void testIsValidWord() {
+        GameConfig config = new GameConfig(7, 6);
+
+        assertTrue(config.isValidWord("LETTERS"));
+        assertTrue(config.isValidWord("letters"));
+        assertFalse(config.isValidWord("WATER"));
+        assertFalse(config.isValidWord("LETT3RS"));
+        assertFalse(config.isValidWord(null));
+        assertEquals(new GameConfig(7, 9), config.withMaxAttempts(9));
+        assertFalse(config.isDefaultLength());
+    }
+}
@@ -3,12 +3,18 @@ package com.wordle.game.logic;
 import com.wordle.game.exceptions.GameException;
 import com.wordle.game.exceptions.InvalidWordException;
 import com.wordle.game.exceptions.WordLoadException;
+import com.wordle.game.metrics.Counter;
+import com.wordle.game.metrics.GameMetrics;
+import com.wordle.game.util.DictionaryRegistry;
+import com.wordle.game.util.WordLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameProcessorTest{
@@ -118,4 +124,120 @@ class GameProcessorTest{
         assertDoesNotThrow(() -> {gameProcessor.makeGuess("SSSSS");});
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should share one dictionary across games")
+    void testSharedDictionary() throws GameException {
+        GameProcessor other = new GameProcessor();
+
+        assertSame(gameProcessor.getDictionary(), other.getDictionary());
+        assertSame(DictionaryRegistry.getDefault(), other.getDictionary());
+    }
+
+    @Test
+    @DisplayName("Should play against an injected dictionary")
+    void testInjectedDictionary() throws GameException {
+        WordLoader dictionary = new WordLoader("test", List.of("HAPPY", "CABLE"));
+        GameProcessor game = new GameProcessor(dictionary, "cable");
+
+        assertSame(dictionary, game.getDictionary());
+        assertEquals(2, game.getWordCount());
+        assertFalse(game.isGuessInWordList("WATER"));
+        game.makeGuess("CABLE");
+        assertTrue(game.isGameWon());
+
+        assertTrue(dictionary.getAllWords().contains(new GameProcessor(dictionary).getTargetWord()));
+        assertThrows(IllegalArgumentException.class, () -> new GameProcessor((WordLoader) null));
+    }
+
+    @Test
+    @DisplayName("Should count rejected guesses by reason and time accepted ones")
+    void testMetrics() throws GameException {
+        Counter wrongLength = GameMetrics.invalidGuesses(InvalidWordException.Reason.WRONG_LENGTH);
+        Counter badCharacters = GameMetrics.invalidGuesses(InvalidWordException.Reason.INVALID_CHARACTERS);
+        long wrongLengthBefore = wrongLength.get();
+        long badCharactersBefore = badCharacters.get();
+        long guessesBefore = GameMetrics.GUESS.snapshot().count();
+        long wonBefore = GameMetrics.GAMES_WON.get();
+
+        InvalidWordException e = assertThrows(InvalidWordException.class, () -> gameProcessor.makeGuess("WAT"));
+        assertEquals(InvalidWordException.Reason.WRONG_LENGTH, e.getReason());
+        assertThrows(InvalidWordException.class, () -> gameProcessor.makeGuess("WAT3R"));
+        gameProcessor.makeGuess("WATER");
+
+        assertTrue(wrongLength.get() >= wrongLengthBefore + 1);
+        assertTrue(badCharacters.get() >= badCharactersBefore + 1);
+        assertTrue(GameMetrics.GUESS.snapshot().count() >= guessesBefore + 3);
+        assertTrue(GameMetrics.GAMES_WON.get() >= wonBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should take word length and attempts from the configuration")
+    void testConfiguredVariant() throws GameException {
+        GameConfig config = new GameConfig(6, 7);
+        WordLoader dictionary = new WordLoader(config, "six", List.of("PLANET", "GARDEN", "WATER", "ORANGE"));
+        GameProcessor game = new GameProcessor(dictionary, "garden");
+
+        assertEquals(config, game.getConfig());
+        assertEquals(7, game.getMaxAttempts());
+        assertTrue(game.isGuessInWordList("PLANET"));
+        assertThrows(InvalidWordException.class, () -> game.makeGuess("WATER"));
+        for (int i = 0; i < 6; i++) {
+            assertEquals(6, game.makeGuess("PLANET").length);
+        }
+        assertFalse(game.isGameOver());
+        game.makeGuess("ORANGE");
+        assertTrue(game.isGameOver());
+        assertFalse(game.isGameWon());
+
+        GameProcessor longer = new GameProcessor(dictionary, config.withMaxAttempts(9), "PLANET");
+        assertEquals(9, longer.getRemainingAttempts());
+        assertThrows(IllegalArgumentException.class, () -> new GameProcessor(dictionary, GameConfig.DEFAULT, "PLANET"));
+        assertThrows(InvalidWordException.class, () -> new GameProcessor(dictionary, "WATER"));
+    }
+
+    @Test
+    @DisplayName("Should dodge guesses in adversarial mode until one word is left")
+    void testAdversarialGame() throws GameException {
+        WordLoader dictionary = new WordLoader("test", List.of("WATER", "LATER", "HATER", "CATER", "HAPPY", "CABLE"));
+        GameProcessor game = GameProcessor.adversarial(dictionary, GameConfig.DEFAULT.withMaxAttempts(6));
+
+        assertTrue(game.isAdversarial());
+        assertNull(game.getTargetWord());
+        // WATER splits the words into {WATER}, {LATER, HATER, CATER}, {HAPPY}, {CABLE}; the largest bucket wins
+        GuessOutcome[] outcomes = game.makeGuess("WATER");
+        assertEquals(3, game.getRemainingCandidateCount());
+        assertEquals(GuessOutcome.INCORRECT, outcomes[0]);
+        assertEquals(GuessOutcome.CORRECT, outcomes[1]);
+        assertNull(game.getTargetWord());
+
+        game.makeGuess("LATER");
+        game.makeGuess("HATER");
+        assertEquals(1, game.getRemainingCandidateCount());
+        assertFalse(game.isGameOver());
+        game.makeGuess("CATER");
+        assertTrue(game.isGameWon());
+        assertEquals("CATER", game.getTargetWord());
+
+        game.resetGame();
+        assertNull(game.getTargetWord());
+        assertEquals(6, game.getRemainingCandidateCount());
+        assertThrows(InvalidWordException.class, () -> game.makeGuess("ÉCLAT"));
+    }
+
+    @Test
+    @DisplayName("Should pick a remaining word as the answer when an adversarial game is lost")
+    void testAdversarialLoss() throws GameException {
+        WordLoader dictionary = new WordLoader("test", List.of("WATER", "LATER", "HATER", "CATER", "HAPPY", "CABLE"));
+        GameProcessor game = GameProcessor.adversarial(dictionary, GameConfig.DEFAULT.withMaxAttempts(1));
+
+        game.makeGuess("HAPPY");
+        assertTrue(game.isGameOver());
+        assertFalse(game.isGameWon());
+        assertNotNull(game.getTargetWord());
+        assertNotEquals("HAPPY", game.getTargetWord());
+        assertThrows(IllegalStateException.class, () -> gameProcessor.getRemainingCandidateCount());
+
+        WordLoader sixLetters = new WordLoader(new GameConfig(6, 6), "six", List.of("PLANET", "GARDEN"));
+        assertThrows(IllegalArgumentException.class, () -> GameProcessor.adversarial(sixLetters));
+    }
+}
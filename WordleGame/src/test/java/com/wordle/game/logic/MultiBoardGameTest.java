@@ -0,0 +1,119 @@
+package com.wordle.game.logic;
+
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.exceptions.InvalidWordException;
+import com.wordle.game.util.WordLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiBoardGameTest {
+    private static final List<String> WORDS = List.of("WATER", "BUMPY", "CRANE", "SLATE", "GHOST", "PLANT", "MOUSE", "TRICK");
+
+    private WordLoader dictionary;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dictionary = new WordLoader("multi-board test", WORDS);
+    }
+
+    @Test
+    @DisplayName("Should score every board like WordChecker and blank boards once solved")
+    void testScoresEveryBoard() throws GameException {
+        List<String> targets = List.of("WATER", "CRANE", "GHOST", "TRICK");
+        WordChecker checker = new WordChecker();
+        for (BatchScorer scorer : List.of(BatchScorer.scalar(), BatchScorer.create())) {
+            MultiBoardGame game = new MultiBoardGame(dictionary, MultiBoardGame.defaultConfig(4), targets, scorer);
+            assertEquals(9, game.getMaxAttempts());
+
+            GuessOutcome[][] first = game.makeGuess("crane");
+            for (int board = 0; board < targets.size(); board++) {
+                assertArrayEquals(checker.validateGuess("CRANE", targets.get(board)), first[board], scorer.name());
+            }
+            assertTrue(game.isBoardSolved(1));
+            assertEquals(1, game.getSolvedAttempt(1));
+            assertEquals(1, game.getSolvedCount());
+
+            GuessOutcome[][] second = game.makeGuess("TRICK");
+            assertNull(second[1]);
+            assertEquals(MultiBoardGame.NO_PATTERN, game.patternAt(1, 1));
+            assertArrayEquals(checker.validateGuess("TRICK", "WATER"), second[0]);
+            assertArrayEquals(checker.validateGuess("TRICK", "GHOST"), second[2]);
+            assertEquals(FeedbackPattern.ALL_CORRECT, game.patternAt(1, 3));
+            assertNull(game.getTargetWord(0));
+            assertEquals("TRICK", game.getTargetWord(3));
+        }
+    }
+
+    @Test
+    @DisplayName("Should be won once every board is solved")
+    void testWin() throws GameException {
+        MultiBoardGame game = new MultiBoardGame(dictionary, MultiBoardGame.defaultConfig(2), List.of("SLATE", "MOUSE"));
+        game.makeGuess("MOUSE");
+        assertFalse(game.isGameOver());
+        game.makeGuess("SLATE");
+        assertTrue(game.isGameWon());
+        assertTrue(game.isGameOver());
+        assertEquals(2, game.getSolvedAttempt(0));
+        assertThrows(GameException.class, () -> game.makeGuess("PLANT"));
+    }
+
+    @Test
+    @DisplayName("Should be lost when the attempts run out and reveal every target")
+    void testLoss() throws GameException {
+        MultiBoardGame game = new MultiBoardGame(dictionary, GameConfig.DEFAULT.withMaxAttempts(2), List.of("SLATE", "MOUSE"));
+        game.makeGuess("SLATE");
+        game.makeGuess("PLANT");
+        assertTrue(game.isGameOver());
+        assertFalse(game.isGameWon());
+        assertEquals("MOUSE", game.getTargetWord(1));
+        assertTrue(game.getGameSummary().contains("Boards Solved: 1/2"));
+    }
+
+    @Test
+    @DisplayName("Should pick distinct random targets and reject invalid setups")
+    void testSetup() {
+        MultiBoardGame game = new MultiBoardGame(dictionary, 8);
+        List<String> targets = new ArrayList<>();
+        for (String guess : WORDS) {
+            game.makeGuess(guess);
+        }
+        for (int board = 0; board < game.getBoardCount(); board++) {
+            targets.add(game.getTargetWord(board));
+        }
+        assertEquals(new HashSet<>(WORDS), new HashSet<>(targets));
+        assertTrue(game.isGameWon());
+
+        assertThrows(IllegalArgumentException.class, () -> new MultiBoardGame(dictionary, 1));
+        assertEquals(8, MultiBoardGame.maxBoards(dictionary));
+        assertThrows(IllegalArgumentException.class, () -> new MultiBoardGame(dictionary, 9));
+        assertThrows(InvalidWordException.class,
+                () -> new MultiBoardGame(dictionary, GameConfig.DEFAULT, List.of("WATER", "TOOLONG")));
+        MultiBoardGame fresh = new MultiBoardGame(dictionary, 2);
+        assertThrows(InvalidWordException.class, () -> fresh.makeGuess("ABC"));
+        assertEquals(0, fresh.getCurrentAttempt());
+    }
+
+    @Test
+    @DisplayName("Should tell the completion listener once the game ends")
+    void testCompletionListener() throws GameException {
+        List<Game> completed = new ArrayList<>();
+        MultiBoardGame game = new MultiBoardGame(dictionary, GameConfig.DEFAULT.withMaxAttempts(3), List.of("SLATE", "MOUSE"));
+        game.setCompletionListener(completed::add);
+        game.makeGuess("SLATE");
+        game.makeGuess("PLANT");
+        assertTrue(completed.isEmpty());
+        game.makeGuess("GHOST");
+
+        assertEquals(List.of(game), completed);
+        assertFalse(completed.get(0).isGameWon());
+        assertEquals(3, completed.get(0).getCurrentAttempt());
+        assertNotEquals(new MultiBoardGame(dictionary, 2).getGameId(), game.getGameId());
+    }
+}
@@ -2,10 +2,14 @@
 package com.wordle.game.logic;
 
 import com.wordle.game.exceptions.InvalidWordException;
+import com.wordle.game.util.PackedWord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class WordCheckerTest{
@@ -98,4 +102,135 @@ class WordCheckerTest{
         assertEquals("No guessOutcomes", checker.getguessOutcomeSummary(null));
         assertEquals("No guessOutcomes", checker.getguessOutcomeSummary(new GuessOutcome[0]));
     }
+
+    @Test
+    @DisplayName("Should mark repeated letters only as often as they appear in the target")
+    void testRepeatedLetters() throws InvalidWordException {
+        GuessOutcome[] guessOutcomes = checker.validateGuess("LLAMA", "HELLO");
+
+        assertArrayEquals(new GuessOutcome[]{
+                GuessOutcome.WRONG_POSITION,
+                GuessOutcome.WRONG_POSITION,
+                GuessOutcome.INCORRECT,
+                GuessOutcome.INCORRECT,
+                GuessOutcome.INCORRECT
+        }, guessOutcomes);
+
+        guessOutcomes = checker.validateGuess("SPEED", "ABIDE");
+        assertEquals(GuessOutcome.WRONG_POSITION, guessOutcomes[2]);
+        assertEquals(GuessOutcome.INCORRECT, guessOutcomes[3]);
+        assertEquals(GuessOutcome.WRONG_POSITION, guessOutcomes[4]);
+    }
+
+    @Test
+    @DisplayName("Should score packed words to the same pattern as validateGuess")
+    void testPackedScoring() throws InvalidWordException {
+        String[] words = {"WATER", "HELLO", "LLAMA", "SPEED", "ABIDE", "EERIE", "ABOUT"};
+        for (String guess : words) {
+            for (String target : words) {
+                int code = checker.score(PackedWord.encode(guess), PackedWord.encode(target));
+                assertArrayEquals(checker.validateGuess(guess, target), FeedbackPattern.toOutcomes(code));
+            }
+        }
+
+        assertEquals(FeedbackPattern.ALL_CORRECT,
+                checker.score(PackedWord.encode("WATER"), PackedWord.encode("WATER")));
+        assertEquals(0, checker.score(PackedWord.encode("LUCKY"), PackedWord.encode("WATER")));
+
+        // Bulk scoring into a row of a larger buffer leaves the rest of it alone
+        int[] answers = {PackedWord.encode("WATER"), PackedWord.encode("LUCKY")};
+        byte[] row = new byte[5];
+        checker.score(PackedWord.encode("WATER"), answers, row, 2);
+        assertArrayEquals(new byte[]{0, 0, (byte) FeedbackPattern.ALL_CORRECT, 0, 0}, row);
+        assertThrows(IllegalArgumentException.class, () -> checker.score(PackedWord.encode("WATER"), answers, row, 4));
+        assertThrows(IllegalArgumentException.class, () -> checker.score(PackedWord.encode("WATER"), answers, row, -1));
+    }
+
+    @Test
+    @DisplayName("Should score long-packed words like the five-letter engine")
+    void testLongScoringMatchesIntScoring() {
+        String[] words = {"WATER", "HELLO", "LLAMA", "SPEED", "ABIDE", "EERIE", "ABOUT"};
+        for (String guess : words) {
+            for (String target : words) {
+                assertEquals(checker.score(PackedWord.encode(guess), PackedWord.encode(target)),
+                        checker.score(PackedWord.encodeLong(guess, 5), PackedWord.encodeLong(target, 5)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should score correctly when one checker is shared between threads")
+    void testSharedBetweenThreads() throws InterruptedException {
+        String[] words = {"WATER", "HELLO", "LLAMA", "SPEED", "ABIDE", "EERIE", "ABOUT", "MAMMA", "SASSY", "TATTY"};
+        int[] packed = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            packed[i] = PackedWord.encode(words[i]);
+        }
+        byte[][] expected = new byte[words.length][words.length];
+        for (int g = 0; g < words.length; g++) {
+            BatchScorer.scalar().score(packed[g], AnswerColumns.of(packed), expected[g]);
+        }
+
+        AtomicInteger mismatches = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofPlatform().start(() -> {
+                for (int round = 0; round < 2000; round++) {
+                    for (int g = 0; g < words.length; g++) {
+                        for (int a = 0; a < words.length; a++) {
+                            if (checker.score(packed[g], packed[a]) != (expected[g][a] & 0xFF)) {
+                                mismatches.incrementAndGet();
+                            }
+                        }
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, mismatches.get());
+    }
+
+    @Test
+    @DisplayName("Should score words of other configured lengths")
+    void testConfiguredLength() throws InvalidWordException {
+        WordChecker sevenLetters = new WordChecker(new GameConfig(7, 6));
+        GuessOutcome[] outcomes = sevenLetters.validateGuess("SETTLER", "LETTERS");
+
+        assertEquals(7, outcomes.length);
+        // S E T T L E R against L E T T E R S: the middle letters are placed, the rest are present elsewhere
+        assertArrayEquals(new GuessOutcome[]{
+                GuessOutcome.WRONG_POSITION, GuessOutcome.CORRECT, GuessOutcome.CORRECT, GuessOutcome.CORRECT,
+                GuessOutcome.WRONG_POSITION, GuessOutcome.WRONG_POSITION, GuessOutcome.WRONG_POSITION
+        }, outcomes);
+        // The target has one E besides the placed one, so only the first unplaced E of the guess is yellow
+        GuessOutcome[] repeated = sevenLetters.validateGuess("EEEEEEX", "XEABCDE");
+        assertEquals(GuessOutcome.WRONG_POSITION, repeated[0]);
+        assertEquals(GuessOutcome.CORRECT, repeated[1]);
+        assertEquals(GuessOutcome.INCORRECT, repeated[2]);
+        assertEquals(GuessOutcome.WRONG_POSITION, repeated[6]);
+        assertThrows(InvalidWordException.class, () -> sevenLetters.validateGuess("WATER", "LETTERS"));
+
+        WordChecker twelveLetters = new WordChecker(new GameConfig(12, 6));
+        long packed = PackedWord.encodeLong("ABCDEFGHIJKZ", 12);
+        assertEquals(FeedbackPattern.allCorrect(12), twelveLetters.score(packed, packed));
+        assertEquals("ABCDEFGHIJKZ", PackedWord.decodeLong(packed, 12));
+    }
+
+    @Test
+    @DisplayName("Should round trip packed words and pattern codes")
+    void testPackedRoundTrip() {
+        assertEquals("WATER", PackedWord.decode(PackedWord.encode("water")));
+        assertEquals(PackedWord.INVALID, PackedWord.tryEncode("WAT3R"));
+        assertEquals(PackedWord.INVALID, PackedWord.tryEncode("WATERS"));
+        assertThrows(InvalidWordException.class, () -> PackedWord.encode(null));
+        assertArrayEquals(new int[]{PackedWord.encode("WATER"), PackedWord.encode("ABOUT")},
+                PackedWord.encodeAll(List.of("water", "ABOUT")));
+        assertThrows(InvalidWordException.class, () -> PackedWord.encodeAll(List.of("WATER", "WAT3R")));
+
+        for (int code = 0; code < FeedbackPattern.PATTERN_COUNT; code++) {
+            assertEquals(code, FeedbackPattern.fromOutcomes(FeedbackPattern.toOutcomes(code)));
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package com.wordle.game.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should map values to buckets within the relative error bound")
+    void testBucketBounds() {
+        assertEquals(0, LatencyHistogram.bucketIndex(0));
+        assertEquals(31, LatencyHistogram.bucketIndex(31));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+
+        for (long value = 1; value < (1L << 39); value = value * 3 + 1) {
+            long upper = LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(value));
+            assertTrue(upper >= value, "bucket must contain " + value);
+            assertTrue(upper - value <= value / 32, "bucket too wide for " + value);
+        }
+        // Consecutive buckets are contiguous
+        for (int i = 1; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            assertEquals(i, LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(i - 1) + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should report count, mean, percentiles and max")
+    void testSnapshot() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1001, snapshot.count());
+        assertEquals(1_000_000, snapshot.max());
+        assertEquals(500_500_000.0 / 1001, snapshot.mean(), 1e-6);
+        assertEquals(500_000, snapshot.percentile(0.5), 500_000 / 32.0);
+        assertEquals(990_000, snapshot.percentile(0.99), 990_000 / 32.0);
+        assertEquals(1_000_000, snapshot.percentile(1.0));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.percentile(1.5));
+        assertEquals(0, new LatencyHistogram("empty").snapshot().percentile(0.5));
+    }
+
+    @Test
+    @DisplayName("Should not lose samples recorded concurrently")
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram("concurrent");
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, histogram.snapshot().count());
+        assertEquals(8L * 9_999 * 10_000 / 2, histogram.snapshot().sum());
+    }
+}
@@ -0,0 +1,61 @@
+package com.wordle.game.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("Should return the same metric for the same name")
+    void testRegistration() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("requests");
+        counter.increment();
+        counter.add(2);
+
+        assertSame(counter, registry.counter("requests"));
+        assertSame(registry.histogram("latency"), registry.histogram("latency"));
+        assertEquals(3, registry.counter("requests").get());
+        assertThrows(IllegalArgumentException.class, () -> counter.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter(" "));
+    }
+
+    @Test
+    @DisplayName("Should read gauges on demand and only remove the current owner")
+    void testGauges() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AtomicLong value = new AtomicLong(4);
+        Gauge first = registry.gauge("sessions", value::get);
+        value.set(7);
+        assertEquals(7, registry.getGauges().get(0).get());
+
+        Gauge second = registry.gauge("sessions", () -> 1);
+        assertFalse(registry.removeGauge(first));
+        assertEquals(1, registry.getGauges().get(0).get());
+        assertTrue(registry.removeGauge(second));
+        assertTrue(registry.getGauges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should export a sorted text snapshot")
+    void testTextExport() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("b.count").add(5);
+        registry.counter("a.count").increment();
+        registry.gauge("size", () -> 12);
+        registry.histogram("op").record(2_000);
+
+        String text = registry.export(new TextMetricsExporter());
+        String[] lines = text.split("\\R");
+        assertEquals(4, lines.length);
+        assertEquals("counter   a.count 1", lines[0]);
+        assertEquals("counter   b.count 5", lines[1]);
+        assertEquals("gauge     size 12", lines[2]);
+        assertTrue(lines[3].startsWith("histogram op count=1 mean=2.0us"), lines[3]);
+        assertTrue(lines[3].endsWith("max=2.0us"), lines[3]);
+    }
+}
@@ -0,0 +1,98 @@
+package com.wordle.game.server;
+
+import com.wordle.game.session.GameSessionManager;
+import com.wordle.game.util.DictionaryRegistry;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Local load test, run manually rather than by surefire:
+//   java -Dsun.net.httpserver.nodelay=true -cp target/classes:target/test-classes \
+//        com.wordle.game.server.GameHttpLoadRunner [clients] [seconds]
+// Each client loops create-game / guess / state requests and records per-request latency.
+public class GameHttpLoadRunner {
+    private static final String[] GUESSES = {"ABOUT", "CABLE", "HAPPY", "LATER", "WATER"};
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        GameSessionManager sessions = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(1));
+        try (GameHttpServer server = new GameHttpServer(sessions, new InetSocketAddress("127.0.0.1", 0))) {
+            server.start();
+            String base = "http://127.0.0.1:" + server.getPort() + "/games";
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+            long[][] latencies = new long[clients][];
+            AtomicInteger errors = new AtomicInteger();
+            long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+            long start = System.nanoTime();
+            try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < clients; c++) {
+                    int clientIndex = c;
+                    workers.submit(() -> latencies[clientIndex] = runClient(client, base, deadline, errors));
+                }
+            }
+            double elapsed = (System.nanoTime() - start) / 1e9;
+
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            System.out.printf("clients=%d duration=%.1fs requests=%d errors=%d%n", clients, elapsed, all.length, errors.get());
+            System.out.printf("throughput=%.0f req/s p50=%.2fms p99=%.2fms max=%.2fms%n",
+                    all.length / elapsed, percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6);
+        } finally {
+            sessions.close();
+        }
+    }
+
+    private static long[] runClient(HttpClient client, String base, long deadline, AtomicInteger errors) {
+        long[] samples = new long[1 << 16];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            try {
+                long begin = System.nanoTime();
+                String created = client.send(HttpRequest.newBuilder(URI.create(base))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString()).body();
+                samples = record(samples, count++, System.nanoTime() - begin);
+                String id = created.substring(created.indexOf(':') + 1, created.indexOf(','));
+
+                for (String guess : GUESSES) {
+                    begin = System.nanoTime();
+                    HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base + "/" + id + "/guesses"))
+                            .POST(HttpRequest.BodyPublishers.ofString(guess)).build(), HttpResponse.BodyHandlers.ofString());
+                    samples = record(samples, count++, System.nanoTime() - begin);
+                    if (response.body().contains("\"over\":true")) {
+                        break;
+                    }
+                }
+
+                begin = System.nanoTime();
+                client.send(HttpRequest.newBuilder(URI.create(base + "/" + id)).GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                samples = record(samples, count++, System.nanoTime() - begin);
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+        }
+        return Arrays.copyOf(samples, count);
+    }
+
+    private static long[] record(long[] samples, int index, long nanos) {
+        if (index == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[index] = nanos;
+        return samples;
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,122 @@
+package com.wordle.game.server;
+
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.session.GameSessionManager;
+import com.wordle.game.util.DictionaryRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameHttpServerTest {
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    private GameSessionManager sessions;
+    private GameHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sessions = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(5));
+        server = new GameHttpServer(sessions, new InetSocketAddress("127.0.0.1", 0));
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        sessions.close();
+    }
+
+    @Test
+    @DisplayName("Should create a game, accept guesses and report state")
+    void testGameFlow() throws Exception {
+        HttpResponse<String> created = send("POST", "/games", "");
+        assertEquals(201, created.statusCode());
+        Matcher matcher = ID.matcher(created.body());
+        assertTrue(matcher.find());
+        long id = Long.parseLong(matcher.group(1));
+        String target = sessions.withSession(id, game -> game.getTargetWord());
+
+        HttpResponse<String> guess = send("POST", "/games/" + id + "/guesses", "{\"guess\": \"" + target.toLowerCase() + "\"}");
+        assertEquals(200, guess.statusCode());
+        assertTrue(guess.body().contains("\"pattern\":242"));
+        assertTrue(guess.body().contains("\"outcomes\":[\"CORRECT\",\"CORRECT\",\"CORRECT\",\"CORRECT\",\"CORRECT\"]"));
+        assertTrue(guess.body().contains("\"won\":true"));
+
+        HttpResponse<String> state = send("GET", "/games/" + id, null);
+        assertEquals(200, state.statusCode());
+        assertTrue(state.body().contains("\"guesses\":[{\"guess\":\"" + target + "\",\"pattern\":242}]"));
+        assertTrue(state.body().contains("\"target\":\"" + target + "\""));
+
+        assertEquals(409, send("POST", "/games/" + id + "/guesses", "WATER").statusCode());
+    }
+
+    @Test
+    @DisplayName("Should map errors to HTTP status codes")
+    void testErrors() throws Exception {
+        long id = sessions.createSession("WATER");
+
+        assertEquals(400, send("POST", "/games/" + id + "/guesses", "WAT3R").statusCode());
+        assertEquals(400, send("POST", "/games/" + id + "/guesses", "{\"word\":\"WATER\"}").statusCode());
+        assertEquals(404, send("GET", "/games/999999", null).statusCode());
+        assertEquals(404, send("GET", "/games/abc", null).statusCode());
+        assertEquals(405, send("GET", "/games", null).statusCode());
+        // An oversized body is refused rather than cut short and parsed
+        assertEquals(413, send("POST", "/games/" + id + "/guesses", "{\"guess\":\"HAPPY\"}" + " ".repeat(1024)).statusCode());
+        assertEquals(0, sessions.withSession(id, GameProcessor::getCurrentAttempt));
+        assertEquals(200, send("POST", "/games/" + id + "/guesses", "HAPPY").statusCode());
+    }
+
+    @Test
+    @DisplayName("Should serve a text metrics snapshot")
+    void testMetrics() throws Exception {
+        long id = sessions.createSession("WATER");
+        send("POST", "/games/" + id + "/guesses", "WATER");
+
+        HttpResponse<String> metrics = send("GET", "/metrics", null);
+        assertEquals(200, metrics.statusCode());
+        assertTrue(metrics.body().contains("counter   games.won "));
+        assertTrue(metrics.body().contains("gauge     sessions.active 1"));
+        assertTrue(metrics.body().contains("histogram game.guess count="));
+        assertEquals(405, send("POST", "/metrics", "").statusCode());
+    }
+
+    @Test
+    @DisplayName("Should encode JSON without intermediate strings")
+    void testJsonWriter() {
+        JsonWriter json = new JsonWriter(4).beginObject()
+                .name("text").value("a\"b\\c\né")
+                .name("numbers").beginArray().value(0).value(-42).value(Long.MAX_VALUE).endArray()
+                .name("flag").value(false)
+                .name("missing").value((String) null)
+                .endObject();
+
+        assertEquals("{\"text\":\"a\\\"b\\\\c\\u000aé\",\"numbers\":[0,-42,9223372036854775807],"
+                        + "\"flag\":false,\"missing\":null}",
+                new String(json.toByteArray(), java.nio.charset.StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .method(method, publisher)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,161 @@
+package com.wordle.game.session;
+
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.exceptions.SessionNotFoundException;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.logic.GuessOutcome;
+import com.wordle.game.util.DictionaryRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionManagerTest {
+    private final AtomicLong clock = new AtomicLong();
+    private GameSessionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(10), clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+    }
+
+    @Test
+    @DisplayName("Should play a game through its session id")
+    void testPlaySession() throws GameException {
+        long id = manager.createSession("WATER");
+
+        GuessOutcome[] outcomes = manager.guess(id, "water");
+
+        assertEquals(GuessOutcome.CORRECT, outcomes[0]);
+        assertTrue(manager.withSession(id, GameProcessor::isGameWon));
+        assertEquals(1, manager.getActiveSessionCount());
+        assertThrows(SessionNotFoundException.class, () -> manager.guess(id + 1, "WATER"));
+    }
+
+    @Test
+    @DisplayName("Should serialize concurrent guesses on the same session")
+    void testSameSessionSerialized() {
+        long id = manager.createSession("WATER");
+        List<CompletableFuture<GuessOutcome[]>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(manager.guessAsync(id, "HAPPY"));
+        }
+
+        int accepted = 0;
+        int rejected = 0;
+        for (CompletableFuture<GuessOutcome[]> future : futures) {
+            try {
+                future.join();
+                accepted++;
+            } catch (CompletionException e) {
+                assertInstanceOf(GameException.class, e.getCause());
+                rejected++;
+            }
+        }
+
+        assertEquals(5, accepted);
+        assertEquals(15, rejected);
+        int attempts = manager.withSession(id, GameProcessor::getCurrentAttempt);
+        assertEquals(5, attempts);
+    }
+
+    @Test
+    @DisplayName("Should run many sessions in parallel on virtual threads")
+    void testManySessions() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(manager.createSession("WATER"));
+        }
+        List<CompletableFuture<GuessOutcome[]>> futures = new ArrayList<>();
+        for (long id : ids) {
+            futures.add(manager.guessAsync(id, "CABLE"));
+            futures.add(manager.guessAsync(id, "WATER"));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        for (long id : ids) {
+            int guesses = manager.withSession(id, game -> game.getGuesses().size());
+            assertEquals(2, guesses);
+        }
+        assertEquals(10_000, manager.getActiveSessionCount());
+    }
+
+    @Test
+    @DisplayName("Should evict only sessions idle longer than the TTL")
+    void testIdleEviction() {
+        long idle = manager.createSession();
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+        long active = manager.createSession();
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+
+        assertEquals(1, manager.evictIdleSessions());
+        assertFalse(manager.hasSession(idle));
+        assertTrue(manager.hasSession(active));
+        assertThrows(SessionNotFoundException.class, () -> manager.guess(idle, "WATER"));
+
+        manager.guess(active, "HAPPY");
+        clock.addAndGet(Duration.ofMinutes(9).toNanos());
+        assertEquals(0, manager.evictIdleSessions());
+        assertTrue(manager.removeSession(active));
+        assertEquals(0, manager.getActiveSessionCount());
+    }
+
+    @Test
+    @DisplayName("Should compact idle games and rebuild them when they are played again")
+    void testCompactIdleSessions() throws GameException {
+        long idle = manager.createSession("WATER");
+        manager.guess(idle, "HAPPY");
+        long adversarial = manager.register(GameProcessor.adversarial(DictionaryRegistry.getDefault()));
+        clock.addAndGet(Duration.ofMinutes(3).toNanos());
+        long active = manager.createSession("TABLE");
+
+        assertEquals(1, manager.compactIdleSessions(Duration.ofMinutes(2)));
+        assertTrue(manager.isCompacted(idle));
+        assertFalse(manager.isCompacted(active));
+        assertFalse(manager.isCompacted(adversarial));
+
+        manager.guess(idle, "WATER");
+        assertFalse(manager.isCompacted(idle));
+        assertEquals(List.of("HAPPY", "WATER"), manager.withSession(idle, GameProcessor::getGuesses));
+        assertTrue(manager.withSession(idle, GameProcessor::isGameWon));
+    }
+
+    @Test
+    @DisplayName("Should snapshot sessions to a file and restore them under their ids")
+    void testSnapshotRestore(@TempDir Path directory) throws GameException {
+        long first = manager.createSession("WATER");
+        manager.guess(first, "HAPPY");
+        long second = manager.createSession("TABLE");
+        manager.compactIdleSessions(Duration.ofNanos(1));
+        clock.incrementAndGet();
+        manager.compactIdleSessions(Duration.ofNanos(1));
+        Path file = directory.resolve("sessions.snap");
+        assertEquals(2, manager.snapshot(file));
+
+        try (GameSessionManager restored = new GameSessionManager(DictionaryRegistry.getDefault(),
+                Duration.ofMinutes(10), clock::get)) {
+            assertEquals(2, restored.restore(file));
+            assertTrue(restored.isCompacted(first));
+            assertEquals(List.of("HAPPY"), restored.withSession(first, GameProcessor::getGuesses));
+            assertEquals("TABLE", restored.withSession(second, GameProcessor::getTargetWord));
+            assertTrue(restored.createSession() > second);
+            assertThrows(IllegalStateException.class, () -> restored.restore(file));
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.wordle.game.session;
+
+import com.wordle.game.exceptions.GameException;
+import com.wordle.game.exceptions.InvalidWordException;
+import com.wordle.game.exceptions.StorageException;
+import com.wordle.game.logic.FeedbackPattern;
+import com.wordle.game.logic.GameConfig;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.metrics.GameMetrics;
+import com.wordle.game.util.DictionaryRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionJournalTest {
+    // Room for four records per segment
+    private static final int SMALL_SEGMENT = SessionJournal.HEADER_SIZE + 4 * SessionJournal.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should replay records in order across segments")
+    void testReplayAcrossSegments() throws IOException {
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED, SMALL_SEGMENT)) {
+            journal.gameCreated(1, GameConfig.DEFAULT, "WATER");
+            for (int i = 0; i < 8; i++) {
+                journal.guessMade(1, "HELLO", i);
+            }
+            journal.sessionRemoved(1);
+            assertEquals(3, journal.getSegmentCount());
+        }
+
+        List<JournalRecord> records = replay();
+        assertEquals(10, records.size());
+        assertEquals(JournalRecord.Type.CREATED, records.get(0).type());
+        assertEquals("WATER", records.get(0).word());
+        assertEquals(5, records.get(0).maxAttempts());
+        assertEquals("HELLO", records.get(5).word());
+        assertEquals(4, records.get(5).pattern());
+        assertEquals(JournalRecord.Type.REMOVED, records.get(9).type());
+        assertTrue(records.get(9).timestampMillis() > 0);
+    }
+
+    @Test
+    @DisplayName("Should force sealed segments on the next sync in buffered mode")
+    void testBufferedRollForcedOnSync() throws IOException {
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED, SMALL_SEGMENT)) {
+            journal.gameCreated(1, GameConfig.DEFAULT, "WATER");
+            for (int i = 0; i < 8; i++) {
+                journal.guessMade(1, "HELLO", i);
+            }
+            assertEquals(2, journal.getUnforcedSegmentCount());
+            journal.sync();
+            assertEquals(0, journal.getUnforcedSegmentCount());
+
+            for (int i = 0; i < 4; i++) {
+                journal.guessMade(1, "HELLO", i);
+            }
+            assertEquals(1, journal.getUnforcedSegmentCount());
+        }
+        assertEquals(13, replay().size());
+    }
+
+    @Test
+    @DisplayName("Should drop a torn record and keep appending after the last intact one")
+    void testTornTail() throws IOException {
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.SYNC)) {
+            journal.gameCreated(7, new GameConfig(6, 6), "GARDEN");
+            journal.guessMade(7, "PLANET", 12);
+            journal.guessMade(7, "ORANGE", 40);
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        // Corrupt the middle of the last record, as an interrupted write would
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x55}), SessionJournal.HEADER_SIZE + 2L * SessionJournal.RECORD_SIZE + 20);
+        }
+
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.SYNC)) {
+            List<JournalRecord> records = replay(journal);
+            assertEquals(2, records.size());
+            assertEquals("PLANET", records.get(1).word());
+            journal.gameReset(7);
+        }
+        List<JournalRecord> records = replay();
+        assertEquals(3, records.size());
+        assertEquals(JournalRecord.Type.RESET, records.get(2).type());
+    }
+
+    @Test
+    @DisplayName("Should replay a segment a checkpoint sealed early but still report a torn record in it")
+    void testInterruptedCheckpoint() throws IOException {
+        int segmentSize = 4096;
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.SYNC, segmentSize)) {
+            journal.gameCreated(1, GameConfig.DEFAULT, "WATER");
+            journal.guessMade(1, "HELLO", 3);
+            assertEquals(1, journal.startCheckpoint());
+            // The process dies before the checkpoint is written and the old segment deleted
+            journal.gameCreated(1, GameConfig.DEFAULT, "WATER");
+        }
+
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.SYNC, segmentSize)) {
+            List<JournalRecord> records = replay(journal);
+            assertEquals(3, records.size());
+            assertEquals("HELLO", records.get(1).word());
+            assertEquals(JournalRecord.Type.CREATED, records.get(2).type());
+        }
+
+        Path sealed;
+        try (Stream<Path> files = Files.list(directory)) {
+            sealed = files.sorted().findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(sealed, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x55}), SessionJournal.HEADER_SIZE + SessionJournal.RECORD_SIZE + 20);
+        }
+        assertThrows(StorageException.class, this::replay);
+    }
+
+    @Test
+    @DisplayName("Should commit concurrent appends in groups without losing any")
+    void testConcurrentSyncAppends() throws Exception {
+        int threads = 4;
+        int perThread = 200;
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.SYNC, SMALL_SEGMENT * 16)) {
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long sessionId = t;
+                writers.add(Thread.ofPlatform().start(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        journal.guessMade(sessionId, "WATER", i % FeedbackPattern.PATTERN_COUNT);
+                    }
+                }));
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        }
+
+        List<JournalRecord> records = replay();
+        assertEquals(threads * perThread, records.size());
+        for (int t = 0; t < threads; t++) {
+            long sessionId = t;
+            List<Integer> patterns = records.stream().filter(r -> r.sessionId() == sessionId).map(JournalRecord::pattern).toList();
+            for (int i = 0; i < perThread; i++) {
+                assertEquals(i % FeedbackPattern.PATTERN_COUNT, patterns.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild sessions with their ids after a restart")
+    void testRecoverSessions() throws GameException {
+        long playing;
+        long removed;
+        long won;
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED);
+             GameSessionManager manager = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(10), journal)) {
+            playing = manager.createSession("WATER");
+            removed = manager.createSession("HELLO");
+            won = manager.register(new GameProcessor(DictionaryRegistry.getDefault(), "CABLE"));
+            manager.guess(playing, "ABOUT");
+            // Guesses made directly on the game are journaled too
+            manager.withSession(playing, game -> game.makeGuess("RAISE"));
+            manager.guess(won, "CABLE");
+            manager.removeSession(removed);
+        }
+
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED);
+             GameSessionManager manager = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(10), journal)) {
+            assertEquals(2, manager.getActiveSessionCount());
+            assertFalse(manager.hasSession(removed));
+            assertEquals(List.of("ABOUT", "RAISE"), manager.withSession(playing, GameProcessor::getGuesses));
+            assertEquals("WATER", manager.withSession(playing, GameProcessor::getTargetWord));
+            assertTrue(manager.withSession(won, GameProcessor::isGameWon));
+
+            manager.guess(playing, "WATER");
+            assertTrue(manager.createSession() > won);
+        }
+
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED);
+             GameSessionManager manager = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(10), journal)) {
+            assertTrue(manager.withSession(playing, GameProcessor::isGameWon));
+            assertEquals(3, manager.getActiveSessionCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should recover without counting games again and compact the journal to the live sessions")
+    void testRecoverQuietlyAndCompact() throws GameException {
+        long playing;
+        long removed;
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED, SMALL_SEGMENT);
+             GameSessionManager manager = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(10), journal)) {
+            playing = manager.createSession("WATER");
+            removed = manager.createSession("HELLO");
+            for (int i = 0; i < 3; i++) {
+                manager.guess(playing, "ABOUT");
+            }
+            manager.removeSession(removed);
+            assertEquals(2, journal.getSegmentCount());
+
+            assertEquals(2, manager.compactJournal());
+            assertEquals(2, journal.getSegmentCount());
+            manager.guess(playing, "WATER");
+        }
+
+        long started = GameMetrics.GAMES_STARTED.get();
+        long won = GameMetrics.GAMES_WON.get();
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED, SMALL_SEGMENT);
+             GameSessionManager manager = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(10), journal)) {
+            assertEquals(started, GameMetrics.GAMES_STARTED.get());
+            assertEquals(won, GameMetrics.GAMES_WON.get());
+            assertEquals(1, manager.getActiveSessionCount());
+            assertEquals(List.of("ABOUT", "ABOUT", "ABOUT", "WATER"), manager.withSession(playing, GameProcessor::getGuesses));
+            assertTrue(manager.withSession(playing, GameProcessor::isGameWon));
+            // The removed session's records are gone, but its id is not handed out again
+            assertTrue(manager.createSession() > removed);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep a session created while the journal is compacted")
+    void testCompactDuringRegister() throws GameException {
+        long id;
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED, SMALL_SEGMENT);
+             GameSessionManager manager = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(10), journal)) {
+            manager.createSession("HELLO");
+            InterruptedGame game = new InterruptedGame("WATER");
+            // Right after the session's CREATED record went into the segment the checkpoint deletes
+            game.interruptAfterCreated(manager::compactJournal);
+            id = manager.register(game);
+        }
+
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED, SMALL_SEGMENT);
+             GameSessionManager manager = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(10), journal)) {
+            assertTrue(manager.hasSession(id));
+            assertEquals("WATER", manager.withSession(id, GameProcessor::getTargetWord));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not bring back a session removed while the journal is compacted")
+    void testRemoveDuringCompact() throws Exception {
+        long id;
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED, SMALL_SEGMENT);
+             GameSessionManager manager = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(10), journal)) {
+            InterruptedGame game = new InterruptedGame("WATER");
+            id = manager.register(game);
+            List<Thread> removers = new ArrayList<>();
+            // The checkpoint has the session and is about to write it when another thread removes it
+            game.interruptBeforeCreated(() -> {
+                Thread remover = Thread.ofPlatform().start(() -> manager.removeSession(id));
+                removers.add(remover);
+                try {
+                    remover.join(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            manager.compactJournal();
+            removers.get(0).join();
+            assertFalse(manager.hasSession(id));
+        }
+
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED, SMALL_SEGMENT);
+             GameSessionManager manager = new GameSessionManager(DictionaryRegistry.getDefault(), Duration.ofMinutes(10), journal)) {
+            assertFalse(manager.hasSession(id));
+        }
+    }
+
+    private List<JournalRecord> replay() {
+        try (SessionJournal journal = SessionJournal.open(directory, SessionJournal.Durability.BUFFERED)) {
+            return replay(journal);
+        }
+    }
+
+    private static List<JournalRecord> replay(SessionJournal journal) {
+        List<JournalRecord> records = new ArrayList<>();
+        journal.replay(records::add);
+        return records;
+    }
+
+    // Runs an action in the middle of the manager journaling the game: it reads the target word for
+    // the CREATED record, then the attempts for the guesses after it.
+    private static final class InterruptedGame extends GameProcessor {
+        private final AtomicReference<Runnable> beforeCreated = new AtomicReference<>();
+        private final AtomicReference<Runnable> afterCreated = new AtomicReference<>();
+
+        InterruptedGame(String targetWord) throws InvalidWordException {
+            super(DictionaryRegistry.getDefault(), targetWord);
+        }
+
+        void interruptBeforeCreated(Runnable action) {
+            beforeCreated.set(action);
+        }
+
+        void interruptAfterCreated(Runnable action) {
+            afterCreated.set(action);
+        }
+
+        @Override
+        public String getTargetWord() {
+            run(beforeCreated);
+            return super.getTargetWord();
+        }
+
+        @Override
+        public int getCurrentAttempt() {
+            run(afterCreated);
+            return super.getCurrentAttempt();
+        }
+
+        private static void run(AtomicReference<Runnable> interruption) {
+            Runnable action = interruption.getAndSet(null);
+            if (action != null) {
+                action.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.wordle.game.session;
+
+import com.wordle.game.exceptions.StorageException;
+import com.wordle.game.logic.GameConfig;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.metrics.GameMetrics;
+import com.wordle.game.util.DictionaryRegistry;
+import com.wordle.game.util.WordLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionSnapshotCodecTest {
+    private final WordLoader dictionary = DictionaryRegistry.getDefault();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should compact a game and rebuild it in the same state without counting it again")
+    void testCompactRoundTrip() {
+        GameProcessor game = new GameProcessor(dictionary, GameConfig.DEFAULT.withMaxAttempts(6), "WATER");
+        game.makeGuess("HAPPY");
+        game.makeGuess("TABLE");
+        CompactSession compact = CompactSession.of(game);
+        assertEquals(2, compact.getAttempts());
+        assertEquals("TABLE", compact.getGuess(1));
+        assertFalse(compact.isGameOver());
+
+        long started = GameMetrics.GAMES_STARTED.get();
+        GameProcessor restored = compact.toGame(dictionary);
+        assertEquals(started, GameMetrics.GAMES_STARTED.get());
+        assertEquals(game.getGuesses(), restored.getGuesses());
+        assertArrayEquals(game.getGuessOutcome(1), restored.getGuessOutcome(1));
+        assertEquals(6, restored.getMaxAttempts());
+
+        restored.makeGuess("WATER");
+        assertTrue(restored.isGameWon());
+        assertTrue(CompactSession.of(restored).isGameWon());
+        assertThrows(IllegalArgumentException.class, () -> CompactSession.of(GameProcessor.adversarial(dictionary)));
+    }
+
+    @Test
+    @DisplayName("Should encode a session in a few bytes per guess and reject corrupted ones")
+    void testEncodeDecode() {
+        GameProcessor game = new GameProcessor(dictionary, "WATER");
+        game.makeGuess("HAPPY");
+        game.makeGuess("WATER");
+        byte[] encoded = SessionSnapshotCodec.encode(CompactSession.of(game));
+        assertEquals(11 + 2 * 5, encoded.length);
+
+        CompactSession decoded = SessionSnapshotCodec.decode(encoded);
+        assertEquals("WATER", decoded.getTargetWord());
+        assertEquals("HAPPY", decoded.getGuess(0));
+        assertTrue(decoded.isGameWon());
+
+        byte[] newerVersion = encoded.clone();
+        newerVersion[0] = SessionSnapshotCodec.VERSION + 1;
+        assertThrows(IllegalArgumentException.class, () -> SessionSnapshotCodec.decode(newerVersion));
+        byte[] badPattern = encoded.clone();
+        badPattern[encoded.length - 2] = (byte) 250;
+        assertThrows(IllegalArgumentException.class, () -> SessionSnapshotCodec.decode(badPattern));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+        assertThrows(IllegalArgumentException.class, () -> SessionSnapshotCodec.decode(truncated));
+    }
+
+    @Test
+    @DisplayName("Should write and read snapshot files and detect corruption")
+    void testSnapshotFile() throws IOException {
+        Map<Long, CompactSession> sessions = new LinkedHashMap<>();
+        for (long id = 1; id <= 100; id++) {
+            GameProcessor game = new GameProcessor(dictionary, "WATER");
+            for (int i = 0; i < id % 4; i++) {
+                game.makeGuess("HAPPY");
+            }
+            sessions.put(id * 7, CompactSession.of(game));
+        }
+        Path file = directory.resolve("sessions.snap");
+        SessionSnapshotCodec.write(file, sessions);
+
+        Map<Long, CompactSession> read = SessionSnapshotCodec.read(file);
+        assertEquals(sessions.keySet(), read.keySet());
+        for (long id : sessions.keySet()) {
+            assertArrayEquals(SessionSnapshotCodec.encode(sessions.get(id)), SessionSnapshotCodec.encode(read.get(id)));
+        }
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(file, bytes);
+        assertThrows(StorageException.class, () -> SessionSnapshotCodec.read(file));
+        assertThrows(StorageException.class, () -> SessionSnapshotCodec.read(directory.resolve("missing.snap")));
+    }
+}
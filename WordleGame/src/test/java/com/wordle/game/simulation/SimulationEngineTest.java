@@ -0,0 +1,83 @@
+package com.wordle.game.simulation;
+
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.util.WordLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEngineTest {
+    private static final List<String> WORDS = List.of(
+            "WATER", "HAPPY", "CABLE", "ABOUT", "LATER", "HATER", "EATER", "TAMER", "CATER", "RATES",
+            "SLATE", "CRANE", "HELLO", "LLAMA", "SPEED", "ABIDE", "PAPER", "WAFER", "DATER", "MATER");
+
+    private WordLoader dictionary;
+    private SimulationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new WordLoader("test", WORDS);
+        engine = new SimulationEngine(dictionary);
+    }
+
+    @Test
+    @DisplayName("Should play every dictionary word and win them all with the entropy strategy")
+    void testEntropyStrategy() {
+        SimulationResult result = engine.run(new EntropyStrategy(dictionary));
+
+        assertEquals(WORDS.size(), result.getGames());
+        assertEquals(WORDS.size(), result.getWins());
+        assertEquals(1.0, result.getWinRate());
+        long total = 0;
+        for (int i = 1; i <= 5; i++) {
+            total += result.getWinsInAttempts(i);
+        }
+        assertEquals(WORDS.size(), total);
+        assertTrue(result.getWorstWin() <= 5);
+        assertTrue(result.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("Should record losses when a strategy runs out of attempts")
+    void testLosses() {
+        GuessStrategy stubborn = game -> "SPEED";
+
+        SimulationResult result = engine.run(stubborn, List.of("WATER", "SPEED", "HAPPY"));
+
+        assertEquals(3, result.getGames());
+        assertEquals(1, result.getWins());
+        assertEquals(1, result.getWinsInAttempts(1));
+        assertEquals(2, result.getLosses());
+        assertTrue(result.getSampleLostWords().containsAll(List.of("WATER", "HAPPY")));
+        assertTrue(result.toString().contains("lost: 2"));
+    }
+
+    @Test
+    @DisplayName("Should merge per-worker results into the same totals as a sequential run")
+    void testMergedTotals() {
+        CandidateStrategy strategy = new CandidateStrategy(dictionary);
+        SimulationResult parallel = engine.run(strategy);
+
+        SimulationResult sequential = new SimulationResult(5);
+        for (String target : WORDS) {
+            GameProcessor game = new GameProcessor(dictionary, target);
+            while (!game.isGameOver()) {
+                game.makeGuess(strategy.nextGuess(game));
+            }
+            if (game.isGameWon()) {
+                sequential.recordWin(game.getCurrentAttempt());
+            } else {
+                sequential.recordLoss(target);
+            }
+        }
+
+        assertEquals(sequential.getWins(), parallel.getWins());
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(sequential.getWinsInAttempts(i), parallel.getWinsInAttempts(i));
+        }
+    }
+}
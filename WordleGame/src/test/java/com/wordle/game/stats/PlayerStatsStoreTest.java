@@ -0,0 +1,179 @@
+package com.wordle.game.stats;
+
+import com.wordle.game.exceptions.StorageException;
+import com.wordle.game.logic.GameProcessor;
+import com.wordle.game.util.DictionaryRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerStatsStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should track games, streaks and the guess distribution per player")
+    void testRecordGames() {
+        PlayerStatsStore store = PlayerStatsStore.inMemory(10);
+        store.recordGame(3, true, 2, 1000);
+        store.recordGame(3, true, 4);
+        store.recordGame(3, false, 5);
+        store.recordGame(3, true, 12);
+
+        PlayerStats stats = store.get(3);
+        assertEquals(4, stats.gamesPlayed());
+        assertEquals(3, stats.wins());
+        assertEquals(1, stats.losses());
+        assertEquals(1, stats.currentStreak());
+        assertEquals(2, stats.maxStreak());
+        assertArrayEquals(new int[]{0, 1, 0, 1, 0, 0, 0, 1}, stats.distribution());
+        assertTrue(stats.lastPlayedMillis() > 1000);
+
+        PlayerStats untouched = store.get(4);
+        assertEquals(0, untouched.gamesPlayed());
+        assertEquals(0, untouched.winRate());
+    }
+
+    @Test
+    @DisplayName("Should reject player ids outside the store and impossible wins")
+    void testInvalidArguments() {
+        PlayerStatsStore store = PlayerStatsStore.inMemory(2);
+        assertThrows(IllegalArgumentException.class, () -> store.recordGame(2, true, 1));
+        assertThrows(IllegalArgumentException.class, () -> store.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> store.recordGame(0, true, 0));
+        assertThrows(IllegalArgumentException.class, () -> PlayerStatsStore.inMemory(0));
+    }
+
+    @Test
+    @DisplayName("Should summarize totals and percentiles over players who played")
+    void testSummary() {
+        PlayerStatsStore store = PlayerStatsStore.inMemory(1000);
+        for (int player = 0; player < 100; player++) {
+            // Player n wins n games in a row in three guesses, then loses one
+            for (int game = 0; game < player; game++) {
+                store.recordGame(player, true, 3);
+            }
+            store.recordGame(player, false, 5);
+        }
+
+        StatsSummary summary = store.summarize();
+        assertEquals(100, summary.getPlayers());
+        assertEquals(5050, summary.getGames());
+        assertEquals(4950, summary.getWins());
+        assertEquals(100, summary.getLosses());
+        assertEquals(4950, summary.getGuessDistribution()[2]);
+        assertEquals(3.0, summary.getAverageGuesses(), 1e-9);
+        assertEquals(49, summary.maxStreakPercentile(0.5));
+        assertEquals(99, summary.maxStreakPercentile(1));
+        assertEquals(0, summary.winRatePercentile(0));
+        assertThrows(IllegalArgumentException.class, () -> summary.maxStreakPercentile(1.5));
+    }
+
+    @Test
+    @DisplayName("Should keep statistics in a file across reopening")
+    void testFileBacked() throws IOException {
+        Path file = directory.resolve("players.stats");
+        try (PlayerStatsStore store = PlayerStatsStore.open(file, 100)) {
+            store.recordGame(42, true, 1);
+            store.recordGame(99, false, 5);
+        }
+
+        // Reopening with a smaller capacity keeps the one in the file
+        try (PlayerStatsStore store = PlayerStatsStore.open(file, 10)) {
+            assertEquals(100, store.getCapacity());
+            assertEquals(1, store.get(42).wins());
+            assertEquals(1, store.get(99).losses());
+        }
+        try (PlayerStatsStore store = PlayerStatsStore.open(file, 1000)) {
+            assertEquals(1000, store.getCapacity());
+            assertEquals(1, store.get(42).distribution()[0]);
+            store.recordGame(999, true, 2);
+            assertEquals(3, store.summarize().getPlayers());
+        }
+
+        Path other = directory.resolve("other.stats");
+        Files.write(other, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        assertThrows(StorageException.class, () -> PlayerStatsStore.open(other, 10));
+    }
+
+    @Test
+    @DisplayName("Should release a record left locked by a crash when reopening the file")
+    void testReopenAfterCrash() throws IOException {
+        Path file = directory.resolve("crashed.stats");
+        try (PlayerStatsStore store = PlayerStatsStore.open(file, 10)) {
+            store.recordGame(3, true, 2);
+        }
+        // A writer died between taking the record's lock and releasing it
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer sequence = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 3);
+            channel.write(sequence, PlayerStatsStore.HEADER_SIZE + 3L * PlayerStatsStore.RECORD_SIZE);
+        }
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try (PlayerStatsStore store = PlayerStatsStore.open(file, 10)) {
+                assertEquals(1, store.get(3).wins());
+                store.recordGame(3, false, 6);
+                assertEquals(2, store.get(3).gamesPlayed());
+                assertEquals(1, store.summarize().getPlayers());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should record a game through the completion listener")
+    void testCompletionListener() throws Exception {
+        PlayerStatsStore store = PlayerStatsStore.inMemory(1);
+        GameProcessor game = new GameProcessor(DictionaryRegistry.getDefault(), "WATER");
+        game.setCompletionListener(store.listenerFor(0));
+        game.makeGuess("HELLO");
+        assertEquals(0, store.get(0).gamesPlayed());
+        game.makeGuess("WATER");
+
+        PlayerStats stats = store.get(0);
+        assertEquals(1, stats.wins());
+        assertEquals(1, stats.distribution()[1]);
+    }
+
+    @Test
+    @DisplayName("Should not lose updates when threads record games for the same players")
+    void testConcurrentUpdates() throws InterruptedException {
+        PlayerStatsStore store = PlayerStatsStore.inMemory(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    store.recordGame(i % 4, true, 1 + i % 6);
+                }
+            }));
+        }
+        // Readers see consistent records while the writers run
+        for (int i = 0; i < 1000; i++) {
+            PlayerStats stats = store.get(i % 4);
+            int sum = 0;
+            for (int count : stats.distribution()) {
+                sum += count;
+            }
+            assertEquals(stats.wins(), sum);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, store.summarize().getWins());
+        assertEquals(10_000, store.get(0).maxStreak());
+    }
+}
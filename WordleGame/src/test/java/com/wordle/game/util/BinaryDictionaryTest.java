@@ -0,0 +1,115 @@
+package com.wordle.game.util;
+
+import com.wordle.game.exceptions.WordLoadException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryDictionaryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should compile words sorted and de-duplicated")
+    void testCompileAndOpen() throws IOException {
+        Path source = directory.resolve("words.txt");
+        Files.write(source, List.of("water", "HAPPY", "", "WAT3R", "about", "WATER", "toolong"));
+        Path compiled = directory.resolve("words.bin");
+
+        assertEquals(3, DictionaryCompiler.compile(source, compiled));
+
+        BinaryDictionary dictionary = BinaryDictionary.open(compiled);
+        assertEquals(3, dictionary.size());
+        assertFalse(dictionary.hasFrequencies());
+        for (int i = 1; i < dictionary.size(); i++) {
+            assertTrue(dictionary.wordAt(i - 1) < dictionary.wordAt(i));
+        }
+        assertTrue(dictionary.contains(PackedWord.encode("ABOUT")));
+        assertFalse(dictionary.contains(PackedWord.encode("CABLE")));
+    }
+
+    @Test
+    @DisplayName("Should keep the optional frequency column aligned with the words")
+    void testFrequencies() {
+        Path compiled = directory.resolve("frequencies.bin");
+        DictionaryCompiler.compile(List.of("WATER 120", "ABOUT 900", "HAPPY 40", "WATER 1"), compiled);
+
+        BinaryDictionary dictionary = BinaryDictionary.open(compiled);
+
+        assertTrue(dictionary.hasFrequencies());
+        assertEquals(120, dictionary.frequencyAt(dictionary.indexOf(PackedWord.encode("WATER"))));
+        assertEquals(900, dictionary.frequencyAt(dictionary.indexOf(PackedWord.encode("ABOUT"))));
+        assertEquals(40, dictionary.frequencyAt(dictionary.indexOf(PackedWord.encode("HAPPY"))));
+    }
+
+    @Test
+    @DisplayName("Should detect corrupted and foreign files")
+    void testCorruption() throws IOException {
+        Path compiled = directory.resolve("corrupt.bin");
+        DictionaryCompiler.compile(List.of("WATER", "ABOUT"), compiled);
+        byte[] bytes = Files.readAllBytes(compiled);
+        bytes[bytes.length - 1] ^= 0x7F;
+        Files.write(compiled, bytes);
+
+        assertThrows(WordLoadException.class, () -> BinaryDictionary.open(compiled));
+
+        Path text = directory.resolve("plain.txt");
+        Files.write(text, List.of("WATER", "ABOUT", "HAPPY", "CABLE", "LATER", "HATER"));
+        assertThrows(WordLoadException.class, () -> BinaryDictionary.open(text));
+        assertThrows(WordLoadException.class, () -> BinaryDictionary.open(directory.resolve("missing.bin")));
+    }
+
+    @Test
+    @DisplayName("Should load a WordLoader from the binary file or fall back to text")
+    void testWordLoaderFromBinary() throws IOException {
+        Path compiled = directory.resolve("game.bin");
+        DictionaryCompiler.compile(List.of("WATER", "ABOUT", "HAPPY"), compiled);
+
+        WordLoader loader = WordLoader.load(compiled, WordLoader.getDefaultWordFile());
+        assertEquals(List.of("ABOUT", "HAPPY", "WATER"), loader.getAllWords());
+        assertTrue(loader.isWordInList("happy"));
+        assertTrue(loader.getAllWords().contains(loader.getRandomWord()));
+
+        WordLoader fallback = WordLoader.load(directory.resolve("missing.bin"), WordLoader.getDefaultWordFile());
+        assertEquals(new WordLoader().getAllWords(), fallback.getAllWords());
+
+        Path corrupted = directory.resolve("corrupted.bin");
+        Files.write(corrupted, new byte[]{1, 2, 3});
+        WordLoader recovered = WordLoader.load(corrupted, WordLoader.getDefaultWordFile());
+        assertEquals(fallback.getAllWords(), recovered.getAllWords());
+    }
+
+    @Test
+    @DisplayName("Should look words up in the mapped file without building an index")
+    void testLookupsFromMapping() throws WordLoadException {
+        Path compiled = directory.resolve("lookup.bin");
+        DictionaryCompiler.compile(List.of("WATER", "ABOUT", "HAPPY", "CABLE", "LATER"), compiled);
+        WordLoader loader = new WordLoader(BinaryDictionary.open(compiled));
+
+        List<String> words = loader.getAllWords();
+        assertEquals(2, words.indexOf("HAPPY"));
+        assertEquals(-1, words.indexOf("happy"));
+        assertTrue(words.contains("WATER"));
+        assertFalse(words.contains("TAWER"));
+        assertFalse(words.contains(42));
+        for (String word : List.of("about", "Cable", "LATER", "water")) {
+            assertTrue(loader.isWordInList(word), word);
+        }
+        assertFalse(loader.isWordInList("AAAAA"));
+        assertFalse(loader.isWordInList("ZZZZZ"));
+        assertFalse(loader.isWordInList("ABC"));
+        assertFalse(loader.isWordInList(null));
+
+        // The hash index is still available to callers that ask for it
+        assertEquals(4, loader.getIndex().indexOf(PackedWord.encode("WATER")));
+        assertSame(loader.getIndex(), loader.getIndex());
+    }
+}
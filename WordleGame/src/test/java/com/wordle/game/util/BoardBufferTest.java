@@ -0,0 +1,67 @@
+package com.wordle.game.util;
+
+import com.wordle.game.logic.FeedbackPattern;
+import com.wordle.game.logic.GuessOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardBufferTest {
+    private static final GuessOutcome[] OUTCOMES = {
+            GuessOutcome.CORRECT, GuessOutcome.WRONG_POSITION, GuessOutcome.INCORRECT,
+            GuessOutcome.CORRECT, GuessOutcome.WRONG_POSITION
+    };
+
+    @Test
+    @DisplayName("Should render rows exactly like formatGuess")
+    void testMatchesFormatGuess() {
+        BoardBuffer buffer = new BoardBuffer(16);
+        buffer.appendGuess("water", OUTCOMES);
+        assertEquals(ColorDisplayer.formatGuess("WATER", OUTCOMES), buffer.toString());
+
+        buffer.reset();
+        buffer.appendGuess(PackedWord.encode("WATER"), FeedbackPattern.fromOutcomes(OUTCOMES));
+        assertEquals(ColorDisplayer.formatGuess("WATER", OUTCOMES), buffer.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> buffer.appendGuess("WAT", OUTCOMES));
+    }
+
+    @Test
+    @DisplayName("Should reuse its storage across redraws")
+    void testReuse() throws IOException {
+        BoardBuffer buffer = new BoardBuffer();
+        buffer.append("1. ").appendGuess("WATER", OUTCOMES).newLine();
+        int boardSize = buffer.size();
+        byte[] first = buffer.toByteArray();
+
+        buffer.reset();
+        buffer.append("1. ").appendGuess("WATER", OUTCOMES).newLine();
+        assertEquals(boardSize, buffer.size());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        buffer.writeTo(out);
+        assertArrayEquals(first, out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Should encode non-ASCII text as UTF-8")
+    void testUtf8() {
+        BoardBuffer buffer = new BoardBuffer(16).append("ok 🟩 é");
+        assertArrayEquals("ok 🟩 é".getBytes(StandardCharsets.UTF_8), buffer.toByteArray());
+        assertEquals("ok 🟩 é", buffer.toString());
+    }
+
+    @Test
+    @DisplayName("Should format numbers without intermediate strings")
+    void testAppendNumber() {
+        BoardBuffer buffer = new BoardBuffer(16);
+        buffer.appendNumber(0).append(" ").appendNumber(7).append(" ").appendNumber(Integer.MAX_VALUE);
+        assertEquals("0 7 2147483647", buffer.toString());
+        assertThrows(IllegalArgumentException.class, () -> buffer.appendNumber(-1));
+    }
+}
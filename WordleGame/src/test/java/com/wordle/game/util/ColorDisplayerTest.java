@@ -2,11 +2,15 @@
 package com.wordle.game.util;
 
 import com.wordle.game.logic.GuessOutcome;
+import com.wordle.game.logic.MultiBoardGame;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ColorDisplayerTest {
@@ -117,4 +121,47 @@ class ColorDisplayerTest {
         String formatted = ColorDisplayer.formatLetter('5', GuessOutcome.CORRECT);
         assertTrue(formatted.contains("5"));
     }
+
+    @Test
+    @DisplayName("Should serve cached tiles identical to freshly formatted ones")
+    void testCachedTiles() {
+        for (char letter = 'A'; letter <= 'Z'; letter++) {
+            for (GuessOutcome outcome : GuessOutcome.values()) {
+                String tile = ColorDisplayer.formatLetter(letter, outcome);
+                assertSame(tile, ColorDisplayer.formatLetter(Character.toLowerCase(letter), outcome));
+                assertEquals(String.format("%s\u001B[30m %c \u001B[0m", background(outcome), letter), tile);
+            }
+        }
+    }
+
+    private static String background(GuessOutcome outcome) {
+        return switch (outcome) {
+            case CORRECT -> "\u001B[42m";
+            case WRONG_POSITION -> "\u001B[43m";
+            case INCORRECT -> "\u001B[47m";
+        };
+    }
+
+    @Test
+    @DisplayName("Should lay out multi-board rows side by side with solved boards blank")
+    void testMultiBoardLayout() throws Exception {
+        GuessOutcome[] green = new GuessOutcome[5];
+        Arrays.fill(green, GuessOutcome.CORRECT);
+        String row = ColorDisplayer.formatGuesses("WATER", new GuessOutcome[][]{green, null});
+        assertEquals(ColorDisplayer.formatGuess("WATER", green) + ColorDisplayer.BOARD_SEPARATOR + ColorDisplayer.BLANK_GUESS, row);
+        assertEquals(ColorDisplayer.stripAnsiCodes(ColorDisplayer.formatGuess("WATER", green)).length(),
+                ColorDisplayer.BLANK_GUESS.length());
+
+        WordLoader dictionary = new WordLoader("layout test", List.of("WATER", "CRANE", "SLATE"));
+        MultiBoardGame game = new MultiBoardGame(dictionary, MultiBoardGame.defaultConfig(3), List.of("WATER", "CRANE", "SLATE"));
+        GuessOutcome[][] first = game.makeGuess("WATER");
+        GuessOutcome[][] second = game.makeGuess("SLATE");
+        String nl = System.lineSeparator();
+        String expected = ColorDisplayer.formatGuesses("WATER", new GuessOutcome[][]{first[0], first[1]}) + nl
+                + ColorDisplayer.formatGuesses("SLATE", new GuessOutcome[][]{second[0], second[1]}) + nl
+                + nl
+                + ColorDisplayer.formatGuess("WATER", first[2]) + nl
+                + ColorDisplayer.formatGuess("SLATE", second[2]) + nl;
+        assertEquals(expected, ColorDisplayer.formatBoards(game, 2));
+    }
 }
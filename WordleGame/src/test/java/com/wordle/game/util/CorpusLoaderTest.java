@@ -0,0 +1,129 @@
+package com.wordle.game.util;
+
+import com.wordle.game.exceptions.WordLoadException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CorpusLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should parse words and count rejected lines by reason")
+    void testRejections() throws IOException {
+        // Length decides first, counted in characters: "cafés" has the right length, "ab3defgh" does not
+        Path corpus = write("water\r\n  Happy \n\n\t\nWATER\nwat3r\ncafés\nab\nabcdefgh\nab3defgh\nxyzé\nzebra");
+
+        CorpusLoader.Result result = new CorpusLoader().load(corpus);
+
+        assertEquals(12, result.getLines());
+        assertArrayEquals(new int[]{PackedWord.encode("HAPPY"), PackedWord.encode("WATER"), PackedWord.encode("ZEBRA")},
+                result.getPackedWords());
+        assertEquals(2, result.getRejected(CorpusLoader.Rejection.BLANK));
+        assertEquals(1, result.getRejected(CorpusLoader.Rejection.DUPLICATE));
+        assertEquals(2, result.getRejected(CorpusLoader.Rejection.INVALID_CHARACTERS));
+        assertEquals(4, result.getRejected(CorpusLoader.Rejection.WRONG_LENGTH));
+        assertEquals(Files.size(corpus), result.getBytes());
+        assertTrue(result.getLinesPerSecond() > 0);
+        assertTrue(result.toString().contains("3 words from 12 lines"));
+    }
+
+    @Test
+    @DisplayName("Should give the same result for any chunk size")
+    void testChunkBoundaries() throws IOException {
+        Random random = new Random(7);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            int length = 3 + random.nextInt(5);
+            StringBuilder line = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                line.append((char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(6)));
+            }
+            lines.add(random.nextInt(50) == 0 ? " " + line + "!" : line.toString());
+        }
+        Path corpus = write(String.join("\n", lines) + "\n");
+        int[] expected = new WordLoader("expected", lines).getAllWords().stream()
+                .mapToInt(PackedWord::encode).sorted().toArray();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int chunkSize : new int[]{1, 7, 64, 4096, 1 << 20}) {
+                CorpusLoader.Result result = new CorpusLoader(pool, chunkSize).load(corpus);
+                assertArrayEquals(expected, result.getPackedWords(), "chunk size " + chunkSize);
+                assertEquals(lines.size(), result.getLines(), "chunk size " + chunkSize);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject lines too long to be read within a chunk")
+    void testVeryLongLine() throws IOException {
+        Path corpus = write("water\n" + "x".repeat(100_000) + "\nhappy\n");
+
+        CorpusLoader.Result result = new CorpusLoader(ForkJoinPool.commonPool(), 16).load(corpus);
+
+        assertEquals(3, result.getLines());
+        assertEquals(1, result.getRejected(CorpusLoader.Rejection.WRONG_LENGTH));
+        assertEquals(2, result.getWordCount());
+        assertEquals(List.of("HAPPY", "WATER"), result.toWordLoader().getAllWords());
+    }
+
+    @Test
+    @DisplayName("Should de-duplicate words from every thread and return them sorted")
+    void testWordSet() throws InterruptedException {
+        ConcurrentWordSet set = new ConcurrentWordSet();
+        int[] words = {PackedWord.encode("ZZZZZ"), PackedWord.encode("AAAAA"), PackedWord.encode("WATER"),
+                PackedWord.encode("WATES"), PackedWord.encode("HAPPY")};
+        Thread[] threads = new Thread[4];
+        int[] added = new int[threads.length];
+        for (int t = 0; t < threads.length; t++) {
+            int thread = t;
+            threads[t] = Thread.ofPlatform().start(() -> {
+                for (int word : words) {
+                    if (set.add(word)) {
+                        added[thread]++;
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(words.length, Arrays.stream(added).sum());
+        int[] sorted = words.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(sorted, set.toSortedArray());
+        assertThrows(IllegalArgumentException.class, () -> set.add(0));
+        assertThrows(IllegalArgumentException.class, () -> set.add(1 << 25));
+    }
+
+    @Test
+    @DisplayName("Should report missing files as load errors")
+    void testMissingFile() {
+        assertThrows(WordLoadException.class, () -> new CorpusLoader().load(tempDir.resolve("missing.txt")));
+        assertThrows(IllegalArgumentException.class, () -> new CorpusLoader(null));
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("corpus-" + Arrays.hashCode(content.getBytes()) + ".txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
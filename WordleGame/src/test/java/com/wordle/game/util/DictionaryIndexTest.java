@@ -0,0 +1,73 @@
+package com.wordle.game.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryIndexTest {
+
+    @Test
+    @DisplayName("Should find indexed words and their dictionary positions")
+    void testLookup() {
+        DictionaryIndex index = new DictionaryIndex(new int[]{
+                PackedWord.encode("WATER"), PackedWord.encode("ABOUT"), PackedWord.encode("WATER")
+        });
+
+        assertEquals(2, index.size());
+        assertTrue(index.contains("water"));
+        assertTrue(index.contains(PackedWord.encode("ABOUT")));
+        assertEquals(0, index.indexOf(PackedWord.encode("WATER")));
+        assertEquals(1, index.indexOf(PackedWord.encode("ABOUT")));
+        assertEquals(-1, index.indexOf(PackedWord.encode("HAPPY")));
+    }
+
+    @Test
+    @DisplayName("Should treat invalid words as absent")
+    void testInvalidWords() {
+        DictionaryIndex index = new DictionaryIndex(new int[]{PackedWord.encode("WATER")});
+
+        assertFalse(index.contains((String) null));
+        assertFalse(index.contains("WAT3R"));
+        assertFalse(index.contains("WATERS"));
+        assertFalse(index.contains(PackedWord.INVALID));
+        assertThrows(IllegalArgumentException.class, () -> new DictionaryIndex(new int[]{0}));
+    }
+
+    @Test
+    @DisplayName("Should index long-packed words of any length")
+    void testLongPackedWords() {
+        DictionaryIndex index = new DictionaryIndex(new long[]{
+                PackedWord.encodeLong("STRAWBERRIES", 12),
+                PackedWord.encodeLong("BLUEBERRIESS", 12)
+        }, 12);
+
+        assertEquals(12, index.getWordLength());
+        assertTrue(index.contains("strawberries"));
+        assertEquals(1, index.indexOf(PackedWord.encodeLong("BLUEBERRIESS", 12)));
+        assertFalse(index.contains("STRAWBERRY"));
+        assertEquals(5, new DictionaryIndex(new int[]{PackedWord.encode("WATER")}).getWordLength());
+    }
+
+    @Test
+    @DisplayName("Should index every word of a large dictionary")
+    void testLargeDictionary() {
+        int[] words = new int[26 * 26 * 26];
+        int n = 0;
+        for (char a = 'A'; a <= 'Z'; a++) {
+            for (char b = 'A'; b <= 'Z'; b++) {
+                for (char c = 'A'; c <= 'Z'; c++) {
+                    words[n++] = PackedWord.encode("" + a + b + c + "ZZ");
+                }
+            }
+        }
+
+        DictionaryIndex index = new DictionaryIndex(words);
+
+        assertEquals(words.length, index.size());
+        for (int i = 0; i < words.length; i++) {
+            assertEquals(i, index.indexOf(words[i]));
+        }
+        assertFalse(index.contains("ZZZZA"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.wordle.game.util;
+
+import com.wordle.game.exceptions.WordLoadException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryRegistryTest {
+
+    @Test
+    @DisplayName("Should load the default dictionary once and share it")
+    void testSharedDefault() throws WordLoadException {
+        WordLoader first = DictionaryRegistry.getDefault();
+        WordLoader second = DictionaryRegistry.get(WordLoader.getDefaultWordFile());
+
+        assertSame(first, second);
+        assertTrue(DictionaryRegistry.isLoaded(WordLoader.getDefaultWordFile()));
+    }
+
+    @Test
+    @DisplayName("Should hand out a single instance to concurrent callers")
+    void testConcurrentAccess() {
+        Set<WordLoader> seen = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 64).parallel().forEach(i -> seen.add(DictionaryRegistry.getDefault()));
+
+        assertEquals(1, seen.size());
+    }
+
+    @Test
+    @DisplayName("Should serve registered dictionaries and allow eviction")
+    void testRegisterAndEvict() throws WordLoadException {
+        WordLoader custom = new WordLoader("custom", List.of("water", " HAPPY ", "WATER", "WAT3R"));
+        DictionaryRegistry.register("custom", custom);
+
+        assertSame(custom, DictionaryRegistry.get("custom"));
+        assertEquals(List.of("WATER", "HAPPY"), custom.getAllWords());
+        assertThrows(UnsupportedOperationException.class, () -> custom.getAllWords().add("ABOUT"));
+
+        DictionaryRegistry.evict("custom");
+        assertFalse(DictionaryRegistry.isLoaded("custom"));
+    }
+
+    @Test
+    @DisplayName("Should not cache failed loads")
+    void testFailedLoad() {
+        assertThrows(WordLoadException.class, () -> DictionaryRegistry.get("/sample.txt"));
+        assertFalse(DictionaryRegistry.isLoaded("/sample.txt"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.wordle.game.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TargetSelectorTest {
+
+    @Test
+    @DisplayName("Should pick indexes in range from every thread")
+    void testRandomInRange() throws InterruptedException {
+        TargetSelector selector = TargetSelector.random();
+        Set<Integer> seen = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    int index = selector.nextIndex(10);
+                    assertTrue(index >= 0 && index < 10);
+                    seen.add(index);
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(10, seen.size());
+        assertThrows(IllegalArgumentException.class, () -> selector.nextIndex(0));
+    }
+
+    @Test
+    @DisplayName("Should repeat a seeded random sequence and give threads different streams")
+    void testSeededRandom() throws InterruptedException {
+        int[] first = picks(TargetSelector.random(7), 20);
+        assertArrayEquals(first, picks(TargetSelector.random(7), 20));
+        assertFalse(Arrays.equals(first, picks(TargetSelector.random(8), 20)));
+
+        // A second thread gets its own stream, not the first one's shifted by a step
+        TargetSelector selector = TargetSelector.random(7);
+        int[] mine = picks(selector, 20);
+        int[][] other = new int[1][];
+        Thread thread = Thread.ofPlatform().start(() -> other[0] = picks(selector, 20));
+        thread.join();
+        assertFalse(Arrays.equals(mine, other[0]));
+        assertFalse(Arrays.equals(Arrays.copyOfRange(mine, 1, 20),
+                Arrays.copyOfRange(other[0], 0, 19)));
+    }
+
+    @Test
+    @DisplayName("Should hand out every word once per shuffle-bag cycle")
+    void testShuffleBagCycles() {
+        for (int size : new int[]{1, 2, 7, 12, 97, 2315}) {
+            TargetSelector bag = TargetSelector.shuffleBag(size);
+            for (int cycle = 0; cycle < 3; cycle++) {
+                BitSet seen = new BitSet(size);
+                for (int i = 0; i < size; i++) {
+                    int index = bag.nextIndex(size);
+                    assertFalse(seen.get(index), "Repeated index " + index + " in a cycle of " + size);
+                    seen.set(index);
+                }
+                assertEquals(size, seen.cardinality());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should not hand out a bag whose order follows from its first picks")
+    void testShuffleBagUnpredictable() {
+        int size = 2315;
+        TargetSelector bag = TargetSelector.shuffleBag(5);
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = bag.nextIndex(size);
+        }
+        // An affine order steps by the same amount every time
+        Set<Integer> steps = new HashSet<>();
+        for (int i = 1; i < size; i++) {
+            steps.add(Math.floorMod(order[i] - order[i - 1], size));
+        }
+        assertTrue(steps.size() > size / 4, "Only " + steps.size() + " distinct steps");
+
+        int[] next = new int[size];
+        for (int i = 0; i < size; i++) {
+            next[i] = bag.nextIndex(size);
+        }
+        assertFalse(Arrays.equals(order, next));
+    }
+
+    @Test
+    @DisplayName("Should never give two concurrent callers the same slot of a cycle")
+    void testShuffleBagConcurrent() throws InterruptedException {
+        int size = 10_000;
+        TargetSelector bag = TargetSelector.shuffleBag(3);
+        Set<Integer> seen = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < size / 8; i++) {
+                    assertTrue(seen.add(bag.nextIndex(size)));
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(size, seen.size());
+    }
+
+    @Test
+    @DisplayName("Should derive the word of the day from the date and seed only")
+    void testDaily() {
+        LocalDate day = LocalDate.of(2024, 3, 1);
+        Clock clock = Clock.fixed(day.atTime(12, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        TargetSelector daily = TargetSelector.daily(11, clock);
+
+        assertEquals(TargetSelector.dailyIndex(11, day, 500), daily.nextIndex(500));
+        assertEquals(daily.nextIndex(500), daily.nextIndex(500));
+        assertEquals(daily.nextIndex(500), TargetSelector.daily(11, clock).nextIndex(500));
+
+        // No repeats over a full run of days
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            seen.add(TargetSelector.dailyIndex(11, LocalDate.ofEpochDay(500L * 40 + i), 500));
+        }
+        assertEquals(500, seen.size());
+        assertThrows(IllegalArgumentException.class, () -> TargetSelector.daily(11, null));
+    }
+
+    @Test
+    @DisplayName("Should pick dictionary words through a selector")
+    void testWordLoaderTargets() throws Exception {
+        WordLoader loader = new WordLoader("test", List.of("APPLE", "GRAPE", "LEMON"));
+        TargetSelector bag = TargetSelector.shuffleBag(1);
+        Set<String> targets = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            targets.add(loader.getTargetWord(bag));
+        }
+        assertEquals(Set.of("APPLE", "GRAPE", "LEMON"), targets);
+        assertTrue(targets.contains(loader.getRandomWord()));
+    }
+
+    private static int[] picks(TargetSelector selector, int count) {
+        int[] picks = new int[count];
+        for (int i = 0; i < count; i++) {
+            picks[i] = selector.nextIndex(1000);
+        }
+        return picks;
+    }
+}
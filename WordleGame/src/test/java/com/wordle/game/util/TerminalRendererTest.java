@@ -0,0 +1,93 @@
+package com.wordle.game.util;
+
+import com.wordle.game.logic.GuessOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerminalRendererTest {
+    private static final String NL = System.lineSeparator();
+    private static final GuessOutcome[] OUTCOMES = {
+            GuessOutcome.CORRECT, GuessOutcome.INCORRECT, GuessOutcome.INCORRECT,
+            GuessOutcome.WRONG_POSITION, GuessOutcome.CORRECT
+    };
+
+    @Test
+    @DisplayName("Should send each frame with a single write")
+    void testAppendMode() {
+        RecordingChannel channel = new RecordingChannel();
+        TerminalRenderer screen = new TerminalRenderer(channel, false);
+
+        screen.line("Attempt 2 of 5:").guessRow(1, "WATER", OUTCOMES).line().text("Enter your guess: ");
+        screen.flush();
+
+        assertEquals(1, channel.writes.size());
+        assertEquals("Attempt 2 of 5:" + NL + "1. " + ColorDisplayer.formatGuess("WATER", OUTCOMES) + NL + NL
+                + "Enter your guess: ", channel.writes.get(0));
+
+        screen.line("next");
+        screen.flush();
+        assertEquals(List.of("next" + NL), channel.writes.subList(1, 2));
+    }
+
+    @Test
+    @DisplayName("Should only repaint rows that changed since the previous frame")
+    void testDiffMode() {
+        RecordingChannel channel = new RecordingChannel();
+        TerminalRenderer screen = new TerminalRenderer(channel, true);
+
+        screen.line("Attempt 1 of 5:").line("board row").text("Enter your guess: ");
+        screen.flush();
+        String first = channel.writes.get(0);
+        assertTrue(first.startsWith("\u001B[H\u001B[2J"));
+        assertTrue(first.contains("\u001B[1;1HAttempt 1 of 5:\u001B[K"));
+        assertTrue(first.contains("\u001B[2;1Hboard row\u001B[K"));
+        assertTrue(first.endsWith("\u001B[3;1HEnter your guess: \u001B[K"));
+
+        screen.line("Attempt 2 of 5:").line("board row").text("Enter your guess: ");
+        screen.flush();
+        String second = channel.writes.get(1);
+        assertFalse(second.contains("\u001B[2J"));
+        assertTrue(second.contains("Attempt 2 of 5:"));
+        assertFalse(second.contains("board row"));
+        // The prompt row also holds the typed input, so it is always repainted
+        assertTrue(second.endsWith("\u001B[3;1HEnter your guess: \u001B[K"));
+
+        screen.line("Attempt 2 of 5:");
+        screen.flush();
+        assertEquals("\u001B[2;1H\u001B[J\u001B[2;1H", channel.writes.get(2));
+        assertEquals(3, channel.writes.size());
+    }
+
+    private static final class RecordingChannel implements WritableByteChannel {
+        private final List<String> writes = new ArrayList<>();
+
+        @Override
+        public int write(ByteBuffer source) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            int written = source.remaining();
+            while (source.hasRemaining()) {
+                bytes.write(source.get());
+            }
+            writes.add(bytes.toString(StandardCharsets.UTF_8));
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.wordle.game.util;
 
 import com.wordle.game.exceptions.WordLoadException;
+import com.wordle.game.logic.GameConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class WordLoaderTest{
@@ -121,4 +124,31 @@ class WordLoaderTest{
 
         System.out.printf("Word list contains %d words%n", wordCount);
     }
+
+    @Test
+    @DisplayName("Should check dictionary membership case-insensitively")
+    void testIsWordInList() throws WordLoadException {
+        WordLoader loader = new WordLoader();
+        String word = loader.getAllWords().get(0);
+
+        assertTrue(loader.isWordInList(word));
+        assertTrue(loader.isWordInList(word.toLowerCase()));
+        assertFalse(loader.isWordInList("SSSSS"));
+        assertFalse(loader.isWordInList("WAT3R"));
+        assertFalse(loader.isWordInList(null));
+        assertEquals(0, loader.getIndex().indexOf(PackedWord.encode(word)));
+        assertEquals(loader.getWordCount(), loader.getIndex().size());
+    }
+
+    @Test
+    @DisplayName("Should keep only words of the configured length")
+    void testConfiguredWordLength() throws WordLoadException {
+        WordLoader loader = new WordLoader(new GameConfig(4, 6), "four", List.of("word", "WATER", "GAME", "c0de", "WORD"));
+
+        assertEquals(List.of("WORD", "GAME"), loader.getAllWords());
+        assertEquals(4, loader.getConfig().wordLength());
+        assertTrue(loader.isWordInList("game"));
+        assertFalse(loader.isWordInList("WATER"));
+        assertEquals(GameConfig.DEFAULT, new WordLoader().getConfig());
+    }
 }